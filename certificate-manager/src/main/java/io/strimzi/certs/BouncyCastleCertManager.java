@@ -0,0 +1,568 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Certificate manager which generates the keys, certificates and PKCS12 stores in the JVM using the Bouncy Castle
+ * libraries. Unlike the {@link OpenSslCertManager}, it does not fork any processes and it does not need any temporary
+ * files. The generated keys and certificates use the same algorithms and extensions as the ones generated by the
+ * {@link OpenSslCertManager}. The keys of the end-entity certificates are taken from a {@link KeyPairPool}, which
+ * can pre-generate them in the background and which can use either RSA or EC keys.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(BouncyCastleCertManager.class);
+
+    /**
+     * Size of the RSA keys used for the CA certificates
+     */
+    /*test*/ static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Number of random bits used for the certificate serial numbers (same as OpenSSL uses with the rand_serial option)
+     */
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    /**
+     * Algorithm used to protect the private keys in the PKCS12 keystores (same as the aes-128-cbc used with OpenSSL)
+     */
+    private static final String KEY_PROTECTION_ALGORITHM = "PBEWithHmacSHA256AndAES_128";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Clock clock;
+    private final KeyPairPool keyPairPool;
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time. The RSA keys for the end-entity certificates are
+     * generated on demand.
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time and the key pair pool
+     *
+     * @param keyPairPool   Pool from which the keys for the end-entity certificates are taken
+     */
+    public BouncyCastleCertManager(KeyPairPool keyPairPool) {
+        this(Clock.systemUTC(), keyPairPool);
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter. The RSA keys for the end-entity
+     * certificates are generated on demand.
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this(clock, new KeyPairPool(KeyAlgorithm.RSA, 0));
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time and the key pair pool passed as parameters
+     *
+     * @param clock         Clock / Time which should be used by the manager
+     * @param keyPairPool   Pool from which the keys for the end-entity certificates are taken
+     */
+    public BouncyCastleCertManager(Clock clock, KeyPairPool keyPairPool) {
+        this.clock = clock;
+        this.keyPairPool = keyPairPool;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(Clock.systemUTC().getZone()), now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone()), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generates a CA certificate, using either a new CA key or reusing an existing subject key. When the issuer files
+     * are null, a self-signed root CA is generated.
+     *
+     * @param issuerCaKeyFile   The issuing CA key (or null for a root CA)
+     * @param issuerCaCertFile  The issuing CA cert (or null for a root CA)
+     * @param subject           The required subject
+     * @param subjectKeyFile    The subject key file. If this file is empty then a new CA key will be generated and
+     *                          populated by this call. Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile   The subject certificate file, populated by this call
+     * @param notBefore         The required NotBefore date of the issued certificate
+     * @param notAfter          The required NotAfter date of the issued certificate
+     * @param pathLength        The number of CA certificates below this certificate in a certificate chain
+     *
+     * @throws IOException  IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        KeyPair keyPair;
+        if (subjectKeyFile.length() == 0) {
+            keyPair = generateCaKeyPair();
+        } else {
+            keyPair = readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+        }
+
+        X500Name subjectName = x500Name(subject);
+        X500Name issuerName;
+        PrivateKey issuerKey;
+        if (issuerCaCertFile == null) {
+            issuerName = subjectName;
+            issuerKey = keyPair.getPrivate();
+        } else {
+            issuerName = X500Name.getInstance(readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())).getSubjectX500Principal().getEncoded());
+            issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+        }
+
+        X509Certificate cert = buildCertificate(issuerName, issuerKey, subjectName, keyPair.getPublic(),
+                notBefore.toInstant(), notAfter.toInstant(), pathLength, null);
+
+        Files.write(subjectKeyFile.toPath(), pemPrivateKey(keyPair.getPrivate()));
+        Files.write(subjectCertFile.toPath(), pem(cert));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadStore(trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(readCertificate(Files.readAllBytes(certFile.toPath()))), null);
+        Files.write(trustStoreFile.toPath(), storeToBytes(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Files.write(keyStoreFile.toPath(),
+                keyStore(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()), alias, keyStorePassword));
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadStore(Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        Files.write(trustStoreFile.toPath(), storeToBytes(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(sbj);
+
+        KeyPair keyPair = keyPairPool.take();
+
+        try {
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+
+            if (sbj.hasSubjectAltNames()) {
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest,
+                        new Extensions(new Extension(Extension.subjectAlternativeName, false, subjectAltNames(sbj).getEncoded())));
+            }
+
+            PKCS10CertificationRequest csr = builder.build(contentSigner(keyPair.getPrivate()));
+
+            Files.write(keyFile.toPath(), pemPrivateKey(keyPair.getPrivate()));
+            Files.write(csrFile.toPath(), pem(csr));
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to generate the certificate signing request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+
+        PKCS10CertificationRequest csr;
+        try (PEMParser parser = new PEMParser(new StringReader(Files.readString(csrFile.toPath(), StandardCharsets.US_ASCII)))) {
+            csr = (PKCS10CertificationRequest) parser.readObject();
+        }
+
+        PublicKey publicKey;
+        try {
+            publicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+        } catch (IOException e) {
+            throw new IOException("Failed to read the public key from the certificate signing request", e);
+        }
+
+        Files.write(crtFile.toPath(), pem(signCertificate(csr.getSubject(), publicKey, caKey, caCert, sbj, days)));
+    }
+
+    /**
+     * Generates a new private key and a certificate signed by the CA and stores them in a PKCS12 keystore. Everything
+     * is done in memory without any temporary files.
+     *
+     * @param subject           Subject of the new certificate
+     * @param caKey             CA private key bytes
+     * @param caCert            CA certificate bytes
+     * @param days              Certificate validity in days
+     * @param keyStorePassword  Password for the PKCS12 keystore
+     *
+     * @return  CertAndKey with the private key, certificate and the PKCS12 keystore
+     *
+     * @throws IOException  If the CA key or certificate cannot be read or the certificate cannot be generated
+     */
+    @Override
+    public CertAndKey generateSignedCert(Subject subject, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        Objects.requireNonNull(subject);
+        LOGGER.debug("Generating certificate for {}", subject);
+
+        KeyPair keyPair = keyPairPool.take();
+        X509Certificate cert = signCertificate(x500Name(subject), keyPair.getPublic(), caKey, caCert, subject, days);
+
+        return new CertAndKey(
+                pemPrivateKey(keyPair.getPrivate()),
+                pem(cert),
+                null,
+                keyStore(keyPair.getPrivate(), cert, subject.commonName(), keyStorePassword),
+                keyStorePassword);
+    }
+
+    /**
+     * Adds the private key and the certificate into a new PKCS12 keystore. Everything is done in memory without any
+     * temporary files.
+     *
+     * @param key               Private key bytes
+     * @param cert              Certificate bytes
+     * @param alias             Alias under which the key and certificate are stored
+     * @param keyStorePassword  Password for the PKCS12 keystore
+     *
+     * @return  CertAndKey with the private key, certificate and the PKCS12 keystore
+     *
+     * @throws IOException  If the key or certificate cannot be read or the keystore cannot be created
+     */
+    @Override
+    public CertAndKey addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return new CertAndKey(key, cert, null, keyStore(key, cert, alias, keyStorePassword), keyStorePassword);
+    }
+
+    private X509Certificate signCertificate(X500Name subjectName, PublicKey publicKey, byte[] caKey, byte[] caCert, Subject sbj, int days) throws IOException {
+        X509Certificate issuerCert = readCertificate(caCert);
+        PrivateKey issuerKey = readPrivateKey(caKey);
+
+        Instant now = clock.instant();
+
+        return buildCertificate(X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded()), issuerKey,
+                subjectName, publicKey, now, now.plus(days, ChronoUnit.DAYS), -1, sbj.hasSubjectAltNames() ? subjectAltNames(sbj) : null);
+    }
+
+    /**
+     * Builds and signs the certificate
+     *
+     * @param issuerName    Name of the issuer
+     * @param issuerKey     Private key of the issuer used to sign the certificate
+     * @param subjectName   Name of the subject
+     * @param publicKey     Public key of the subject
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     * @param pathLength    The maximal CA path length for CA certificates or -1 for end-entity certificates
+     * @param sans          Subject Alternative Names or null if the certificate should not have any
+     *
+     * @return  The signed certificate
+     *
+     * @throws IOException  When the certificate cannot be built or signed
+     */
+    private X509Certificate buildCertificate(X500Name issuerName, PrivateKey issuerKey, X500Name subjectName, PublicKey publicKey,
+                                             Instant notBefore, Instant notAfter, int pathLength, GeneralNames sans) throws IOException {
+        try {
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber(),
+                    Date.from(notBefore.truncatedTo(ChronoUnit.SECONDS)), Date.from(notAfter.truncatedTo(ChronoUnit.SECONDS)),
+                    subjectName, publicKey);
+
+            builder.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey));
+
+            if (pathLength >= 0) {
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength));
+                builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+            } else {
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
+                // Key encipherment applies only to RSA keys
+                int keyUsage = "EC".equals(publicKey.getAlgorithm()) ? KeyUsage.digitalSignature : KeyUsage.digitalSignature | KeyUsage.keyEncipherment;
+                builder.addExtension(Extension.keyUsage, true, new KeyUsage(keyUsage));
+            }
+
+            if (sans != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, sans);
+            }
+
+            return new JcaX509CertificateConverter().getCertificate(builder.build(contentSigner(issuerKey)));
+        } catch (CertIOException | OperatorCreationException | GeneralSecurityException e) {
+            throw new IOException("Failed to generate the certificate for " + subjectName, e);
+        }
+    }
+
+    private static BigInteger serialNumber() {
+        BigInteger serial;
+        do {
+            serial = new BigInteger(SERIAL_NUMBER_BITS, RANDOM);
+        } while (serial.signum() == 0);
+        return serial;
+    }
+
+    private static ContentSigner contentSigner(PrivateKey key) throws OperatorCreationException {
+        String algorithm = "EC".equals(key.getAlgorithm()) ? "SHA512withECDSA" : "SHA512withRSA";
+        return new JcaContentSignerBuilder(algorithm).build(key);
+    }
+
+    private static KeyPair generateCaKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(CA_KEY_SIZE, RANDOM);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate the key pair", e);
+        }
+    }
+
+    private static X500Name x500Name(Subject subject) {
+        return X500Name.getInstance(subject.principal().getEncoded());
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>();
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    /*test*/ static X509Certificate readCertificate(byte[] cert) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificate", e);
+        }
+    }
+
+    private static KeyPair readKeyPair(byte[] key) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(key, StandardCharsets.US_ASCII)))) {
+            Object object = parser.readObject();
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+            if (object instanceof PEMKeyPair pemKeyPair) {
+                // Private key in the PKCS#1 format
+                return converter.getKeyPair(pemKeyPair);
+            } else if (object instanceof PrivateKeyInfo privateKeyInfo) {
+                // Private key in the PKCS#8 format => the public key has to be derived from it
+                PrivateKey privateKey = converter.getPrivateKey(privateKeyInfo);
+                return new KeyPair(publicKey(privateKey), privateKey);
+            } else {
+                throw new IOException("Unsupported private key format " + (object == null ? null : object.getClass().getSimpleName()));
+            }
+        }
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        try {
+            if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+                return KeyFactory.getInstance("RSA")
+                        .generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } else {
+                throw new IOException("Cannot derive the public key from the " + privateKey.getAlgorithm() + " private key");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to derive the public key", e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(byte[] key) throws IOException {
+        try (PEMParser parser = new PEMParser(new StringReader(new String(key, StandardCharsets.US_ASCII)))) {
+            Object object = parser.readObject();
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+            if (object instanceof PEMKeyPair pemKeyPair) {
+                return converter.getKeyPair(pemKeyPair).getPrivate();
+            } else if (object instanceof PrivateKeyInfo privateKeyInfo) {
+                return converter.getPrivateKey(privateKeyInfo);
+            } else {
+                throw new IOException("Unsupported private key format " + (object == null ? null : object.getClass().getSimpleName()));
+            }
+        }
+    }
+
+    private static byte[] pemPrivateKey(PrivateKey key) throws IOException {
+        // The JcaPKCS8Generator makes sure the key is stored in the PKCS#8 format as OpenSSL does
+        return pem(new JcaPKCS8Generator(key, null).generate());
+    }
+
+    private static byte[] pem(Object object) throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+
+        return writer.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] keyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        return keyStore(readPrivateKey(key), readCertificate(cert), alias, keyStorePassword);
+    }
+
+    private static byte[] keyStore(PrivateKey key, X509Certificate cert, String alias, String keyStorePassword) throws IOException {
+        try {
+            KeyStore keyStore = loadStore(null, keyStorePassword);
+            keyStore.setEntry(alias,
+                    new KeyStore.PrivateKeyEntry(key, new X509Certificate[]{cert}),
+                    new KeyStore.PasswordProtection(keyStorePassword.toCharArray(), KEY_PROTECTION_ALGORITHM, null));
+            return storeToBytes(keyStore, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the PKCS12 keystore", e);
+        }
+    }
+
+    private static KeyStore loadStore(byte[] store, String password) throws IOException {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(store != null ? new ByteArrayInputStream(store) : null, password.toCharArray());
+            return keyStore;
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to load the PKCS12 store", e);
+        }
+    }
+
+    private static byte[] storeToBytes(KeyStore keyStore, String password) throws IOException {
+        try {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            keyStore.store(os, password.toCharArray());
+            return os.toByteArray();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to store the PKCS12 store", e);
+        }
+    }
+}
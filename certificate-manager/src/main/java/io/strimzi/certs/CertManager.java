@@ -6,6 +6,8 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -148,4 +150,82 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a new private key and a certificate signed by a Certificate Authority and store them in a PKCS12
+     * keystore. The key and certificate are stored in the keystore under the common name of the subject. The default
+     * implementation uses the file based methods and temporary files. Implementations which can work in memory should
+     * override it.
+     *
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @param keyStorePassword password for protecting the keystore
+     * @return the private key, the signed certificate and the keystore
+     * @throws IOException If the certificate could not be generated.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        Path csrFile = null;
+        Path keyFile = null;
+        Path certFile = null;
+        Path keyStoreFile = null;
+
+        try {
+            csrFile = Files.createTempFile("tls", "csr");
+            keyFile = Files.createTempFile("tls", "key");
+            certFile = Files.createTempFile("tls", "cert");
+            keyStoreFile = Files.createTempFile("tls", "p12");
+
+            generateCsr(keyFile.toFile(), csrFile.toFile(), sbj);
+            generateCert(csrFile.toFile(), caKey, caCert, certFile.toFile(), sbj, days);
+            addKeyAndCertToKeyStore(keyFile.toFile(), certFile.toFile(), sbj.commonName(), keyStoreFile.toFile(), keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile),
+                    Files.readAllBytes(certFile),
+                    null,
+                    Files.readAllBytes(keyStoreFile),
+                    keyStorePassword);
+        } finally {
+            deleteTempFiles(csrFile, keyFile, certFile, keyStoreFile);
+        }
+    }
+
+    /**
+     * Add the provided key and certificate to a new PKCS12 keystore. The default implementation uses the file based
+     * methods and temporary files. Implementations which can work in memory should override it.
+     *
+     * @param key private key bytes
+     * @param cert certificate bytes
+     * @param alias key and certificate alias in the keystore
+     * @param keyStorePassword password for protecting the keystore
+     * @return the private key, the certificate and the keystore
+     * @throws IOException If the keystore could not be created.
+     */
+    default CertAndKey addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        Path keyFile = null;
+        Path certFile = null;
+        Path keyStoreFile = null;
+
+        try {
+            keyFile = Files.write(Files.createTempFile("tls", "key"), key);
+            certFile = Files.write(Files.createTempFile("tls", "cert"), cert);
+            keyStoreFile = Files.createTempFile("tls", "p12");
+
+            addKeyAndCertToKeyStore(keyFile.toFile(), certFile.toFile(), alias, keyStoreFile.toFile(), keyStorePassword);
+
+            return new CertAndKey(key, cert, null, Files.readAllBytes(keyStoreFile), keyStorePassword);
+        } finally {
+            deleteTempFiles(keyFile, certFile, keyStoreFile);
+        }
+    }
+
+    private static void deleteTempFiles(Path... files) throws IOException {
+        for (Path file : files) {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * Algorithms which can be used for the keys of the end-entity certificates (for example for the Kafka nodes or for
+ * the TLS users). The CA keys always use RSA.
+ */
+public enum KeyAlgorithm {
+    /**
+     * 2048-bit RSA keys (same as generated by OpenSSL)
+     */
+    RSA("RSA", 2048),
+
+    /**
+     * Elliptic curve keys using the NIST P-256 curve
+     */
+    EC("EC", 256);
+
+    private static final String EC_CURVE = "secp256r1";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final String jcaName;
+    private final int keySize;
+
+    KeyAlgorithm(String jcaName, int keySize) {
+        this.jcaName = jcaName;
+        this.keySize = keySize;
+    }
+
+    /**
+     * @return  The size of the generated keys in bits
+     */
+    public int keySize() {
+        return keySize;
+    }
+
+    /**
+     * Generates a new key pair using this algorithm
+     *
+     * @return  The new key pair
+     *
+     * @throws IOException  If the key pair cannot be generated
+     */
+    public KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(jcaName);
+
+            if (this == EC) {
+                generator.initialize(new ECGenParameterSpec(EC_CURVE), RANDOM);
+            } else {
+                generator.initialize(keySize, RANDOM);
+            }
+
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the " + jcaName + " key pair", e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of pre-generated key pairs. Generating the key pairs (especially the RSA ones) is the most expensive
+ * part of issuing a new certificate. The pool generates the key pairs in a background thread, so that issuing a burst
+ * of certificates costs only the signing time. When the pool is empty, the key pair is generated on the calling thread
+ * instead. Every key pair is handed out only once.
+ *
+ * A pool with zero capacity does not pre-generate any key pairs and does not start any background thread. It only
+ * generates the key pairs on demand using the configured algorithm.
+ */
+public class KeyPairPool implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    private final KeyAlgorithm algorithm;
+    private final int capacity;
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final ExecutorService refillExecutor;
+    private final AtomicBoolean refillRunning = new AtomicBoolean(false);
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates the key pair pool and starts filling it in the background
+     *
+     * @param algorithm     Algorithm of the generated key pairs
+     * @param capacity      Maximal number of pre-generated key pairs kept in the pool. Zero disables the pre-generation.
+     */
+    public KeyPairPool(KeyAlgorithm algorithm, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Key pair pool capacity cannot be negative");
+        }
+
+        this.algorithm = algorithm;
+        this.capacity = capacity;
+
+        if (capacity > 0) {
+            this.keyPairs = new ArrayBlockingQueue<>(capacity);
+            this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "key-pair-pool-refill");
+                thread.setDaemon(true);
+                // The key generation should not compete with the threads doing the actual work
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+            maybeRefill();
+        } else {
+            this.keyPairs = null;
+            this.refillExecutor = null;
+        }
+    }
+
+    /**
+     * Takes a key pair from the pool. If the pool is empty, the key pair is generated on the calling thread.
+     *
+     * @return  New key pair
+     *
+     * @throws IOException  If the key pair cannot be generated
+     */
+    public KeyPair take() throws IOException {
+        KeyPair keyPair = keyPairs != null ? keyPairs.poll() : null;
+
+        if (keyPair != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            keyPair = algorithm.generateKeyPair();
+        }
+
+        maybeRefill();
+        return keyPair;
+    }
+
+    /**
+     * @return  Algorithm of the key pairs in this pool
+     */
+    public KeyAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return  Maximal number of the pre-generated key pairs in the pool
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return  Number of the pre-generated key pairs currently available in the pool
+     */
+    public int size() {
+        return keyPairs != null ? keyPairs.size() : 0;
+    }
+
+    /**
+     * @return  Number of key pairs which were taken from the pool
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return  Number of key pairs which had to be generated on demand because the pool was empty
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Stops the background generation of the key pairs
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts the background refill unless it is already running or the pool is full
+     */
+    private void maybeRefill() {
+        if (keyPairs != null
+                && !closed
+                && keyPairs.remainingCapacity() > 0
+                && refillRunning.compareAndSet(false, true)) {
+            try {
+                refillExecutor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                // The pool was closed in the meantime
+                refillRunning.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        boolean failed = false;
+
+        try {
+            while (!closed && keyPairs.remainingCapacity() > 0) {
+                keyPairs.offer(algorithm.generateKeyPair());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to pre-generate a key pair", e);
+            failed = true;
+        } finally {
+            refillRunning.set(false);
+        }
+
+        if (!failed) {
+            // Key pairs taken while the refill was finishing would not trigger a new refill
+            maybeRefill();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the OpenSSL based certificate manager with the in-JVM Bouncy Castle based certificate
+ * manager when issuing the certificates signed by a CA (as done for the Kafka nodes or for the TLS users). The
+ * OpenSSL variant requires the openssl binary on the path.
+ *
+ * The benchmark is not run as part of the build. It can be run from the certificate-manager directory after the tests
+ * were compiled:
+ *
+ *     mvn test-compile
+ *     java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" io.strimzi.certs.CertManagerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertManagerBenchmark {
+    @Param({"openssl", "bouncycastle"})
+    private String implementation;
+
+    private CertManager certManager;
+    private byte[] caKey;
+    private byte[] caCert;
+    private final Subject subject = new Subject.Builder()
+            .withCommonName("my-cluster-kafka-0")
+            .withOrganizationName("io.strimzi")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc")
+            .addDnsName("my-cluster-kafka-bootstrap.myproject.svc")
+            .build();
+
+    /**
+     * Generates the CA used to sign the certificates in the benchmark
+     *
+     * @throws IOException  When the CA generation fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        certManager = "openssl".equals(implementation) ? new OpenSslCertManager() : new BouncyCastleCertManager();
+
+        File keyFile = Files.createTempFile("ca", ".key").toFile();
+        File certFile = Files.createTempFile("ca", ".crt").toFile();
+
+        try {
+            certManager.generateSelfSignedCert(keyFile, certFile, new Subject.Builder().withCommonName("cluster-ca").withOrganizationName("io.strimzi").build(), 365);
+            caKey = Files.readAllBytes(keyFile.toPath());
+            caCert = Files.readAllBytes(certFile.toPath());
+        } finally {
+            keyFile.delete();
+            certFile.delete();
+        }
+    }
+
+    /**
+     * Generates a new key, signs the certificate and creates the PKCS12 keystore. This corresponds to what the CA
+     * does for every Kafka node or TLS user.
+     *
+     * @return  The generated certificate and key
+     *
+     * @throws IOException  When the certificate generation fails
+     */
+    @Benchmark
+    public CertAndKey generateSignedCert() throws IOException {
+        return certManager.generateSignedCert(subject, caKey, caCert, 365, "password");
+    }
+
+    /**
+     * Creates the PKCS12 keystore from an existing key and certificate. This corresponds to what the User Operator
+     * does when the user provides its own certificate.
+     *
+     * @return  The key and certificate with the keystore
+     *
+     * @throws IOException  When the keystore creation fails
+     */
+    @Benchmark
+    public CertAndKey addKeyAndCertToKeyStore() throws IOException {
+        return certManager.addKeyAndCertToKeyStore(caKey, caCert, "ca", "password");
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CertManagerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.RSAKey;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyPairPoolTest {
+    @Test
+    public void testPoolIsFilledInBackground() throws Exception {
+        try (KeyPairPool pool = new KeyPairPool(KeyAlgorithm.EC, 5)) {
+            waitForSize(pool, 5);
+
+            Set<KeyPair> keyPairs = new HashSet<>();
+            for (int i = 0; i < 5; i++) {
+                keyPairs.add(pool.take());
+            }
+
+            // Each key pair is handed out only once
+            assertThat(keyPairs.size(), is(5));
+            assertThat(pool.hits(), is(5L));
+            assertThat(pool.misses(), is(0L));
+
+            // The pool is refilled after the key pairs were taken
+            waitForSize(pool, 5);
+            assertThat(pool.capacity(), is(5));
+        }
+    }
+
+    @Test
+    public void testEmptyPoolGeneratesOnDemand() throws Exception {
+        try (KeyPairPool pool = new KeyPairPool(KeyAlgorithm.RSA, 0)) {
+            KeyPair keyPair = pool.take();
+
+            assertThat(keyPair.getPublic(), instanceOf(RSAKey.class));
+            assertThat(((RSAKey) keyPair.getPublic()).getModulus().bitLength(), is(KeyAlgorithm.RSA.keySize()));
+            assertThat(pool.size(), is(0));
+            assertThat(pool.hits(), is(0L));
+            assertThat(pool.misses(), is(1L));
+        }
+    }
+
+    @Test
+    public void testEcKeys() throws Exception {
+        try (KeyPairPool pool = new KeyPairPool(KeyAlgorithm.EC, 1)) {
+            KeyPair keyPair = pool.take();
+
+            assertThat(pool.algorithm(), is(KeyAlgorithm.EC));
+            assertThat(keyPair.getPublic(), instanceOf(ECKey.class));
+            assertThat(((ECKey) keyPair.getPublic()).getParams().getCurve().getField().getFieldSize(), is(KeyAlgorithm.EC.keySize()));
+            assertThat(pool.hits() + pool.misses(), is(1L));
+        }
+    }
+
+    @Test
+    public void testClosedPoolStillGeneratesOnDemand() throws Exception {
+        KeyPairPool pool = new KeyPairPool(KeyAlgorithm.EC, 2);
+        pool.close();
+
+        for (int i = 0; i < 5; i++) {
+            pool.take();
+        }
+
+        assertThat(pool.hits() + pool.misses(), is(5L));
+    }
+
+    @Test
+    public void testNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(KeyAlgorithm.RSA, -1));
+    }
+
+    private static void waitForSize(KeyPairPool pool, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+
+        while (pool.size() < size) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Key pair pool was not filled in time");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+}
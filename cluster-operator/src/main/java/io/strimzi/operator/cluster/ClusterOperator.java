@@ -13,13 +13,12 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.assembly.ReconnectingWatcher;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
@@ -47,6 +46,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final Map<String, ReconnectingWatcher<?>> watchByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
+    private PeriodicReconciliationScheduler periodicReconciliationScheduler;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
     private final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator;
     private final KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator;
@@ -135,6 +135,8 @@ public class ClusterOperator extends AbstractVerticle {
         Future.join(startFutures)
                 .compose(f -> {
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
+                    this.periodicReconciliationScheduler = new PeriodicReconciliationScheduler(getVertx(), config.getReconciliationIntervalMs(),
+                            config.getMaxConcurrentPeriodicReconciliations(), resourceOperatorSupplier.metricsProvider);
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
                             LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
@@ -159,7 +161,8 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers()
                 );
                 strimziPodSetController.start();
                 return null;
@@ -185,18 +188,17 @@ public class ClusterOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations of the individual resources are
+      spread across the reconciliation interval by the periodic reconciliation scheduler.
      */
     private void reconcileAll(String trigger) {
         if (!config.isPodSetReconciliationOnly()) {
-            Handler<AsyncResult<Void>> ignore = ignored -> {
-            };
-            kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaAssemblyOperator, namespace);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaMirrorMakerAssemblyOperator, namespace);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaConnectAssemblyOperator, namespace);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaMirrorMaker2AssemblyOperator, namespace);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaBridgeAssemblyOperator, namespace);
+            periodicReconciliationScheduler.reconcileAll(trigger, kafkaRebalanceAssemblyOperator, namespace);
         }
     }
 }
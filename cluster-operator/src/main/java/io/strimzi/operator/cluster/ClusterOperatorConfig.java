@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -28,12 +29,15 @@ import java.util.Set;
 
 import static io.strimzi.operator.common.config.ConfigParameterParser.BOOLEAN;
 import static io.strimzi.operator.common.config.ConfigParameterParser.INTEGER;
+import static io.strimzi.operator.common.config.ConfigParameterParser.KEY_ALGORITHM;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LOCAL_OBJECT_REFERENCE_LIST;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.config.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
+import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -221,6 +225,47 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Number of worker threads used by the StrimziPodSetController. Each worker has its own work queue and handles its
+     * own share of the StrimziPodSets.
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORKERS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORKERS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Number of pre-generated key pairs kept for issuing new certificates. Used only with the in-JVM certificate
+     * manager. Zero disables the pre-generation.
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_KEY_POOL_SIZE = new ConfigParameter<>("STRIMZI_CERTIFICATE_KEY_POOL_SIZE", nonNegative(INTEGER), "0", CONFIG_VALUES);
+
+    /**
+     * Algorithm of the keys used for the server certificates. Used only with the in-JVM certificate manager.
+     */
+    public static final ConfigParameter<KeyAlgorithm> CERTIFICATE_KEY_ALGORITHM = new ConfigParameter<>("STRIMZI_CERTIFICATE_KEY_ALGORITHM", KEY_ALGORITHM, "RSA", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kafka brokers restarted at the same time during rolling updates. The brokers restarted together
+     * are always from the same rack and their restart must not make any partition under-replicated. One restarts the
+     * brokers one by one.
+     */
+    public static final ConfigParameter<Integer> KAFKA_ROLLER_MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Whether the Secrets, ConfigMaps, Services, PVCs and StrimziPodSets should be read from informer-backed caches
+     * instead of the Kubernetes API server
+     */
+    public static final ConfigParameter<Boolean> RESOURCE_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_RESOURCE_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Number of periodic reconciliation intervals after which the full reconciliation of an unchanged Kafka cluster is
+     * always run. The value of 1 means that the periodic reconciliations are never skipped.
+     */
+    public static final ConfigParameter<Integer> FULL_RECONCILIATION_INTERVALS = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_INTERVALS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of periodic reconciliations of the same kind running in parallel
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_PERIODIC_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_PERIODIC_RECONCILIATIONS", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -585,6 +630,55 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the number of worker threads used by the StrimziPodSetController
+     */
+    public int getPodSetControllerWorkers() {
+        return get(POD_SET_CONTROLLER_WORKERS);
+    }
+
+    /**
+     * @return Returns the number of pre-generated key pairs kept for issuing new certificates
+     */
+    public int getCertificateKeyPoolSize() {
+        return get(CERTIFICATE_KEY_POOL_SIZE);
+    }
+
+    /**
+     * @return Returns the algorithm of the keys used for the server certificates
+     */
+    public KeyAlgorithm getCertificateKeyAlgorithm() {
+        return get(CERTIFICATE_KEY_ALGORITHM);
+    }
+
+    /**
+     * @return Returns the maximal number of Kafka brokers restarted at the same time during rolling updates
+     */
+    public int getKafkaRollerMaxBatchSize() {
+        return get(KAFKA_ROLLER_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @return Indicates whether the resources should be read from informer-backed caches
+     */
+    public boolean isResourceCacheEnabled() {
+        return get(RESOURCE_CACHE_ENABLED);
+    }
+
+    /**
+     * @return Returns the number of periodic reconciliation intervals after which the full reconciliation is always run
+     */
+    public int getFullReconciliationIntervals() {
+        return get(FULL_RECONCILIATION_INTERVALS);
+    }
+
+    /**
+     * @return Returns the maximal number of periodic reconciliations of the same kind running in parallel
+     */
+    public int getMaxConcurrentPeriodicReconciliations() {
+        return get(MAX_CONCURRENT_PERIODIC_RECONCILIATIONS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -630,6 +724,13 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerWorkers=" + getPodSetControllerWorkers() +
+                "\n\tcertificateKeyPoolSize=" + getCertificateKeyPoolSize() +
+                "\n\tcertificateKeyAlgorithm=" + getCertificateKeyAlgorithm() +
+                "\n\tkafkaRollerMaxBatchSize=" + getKafkaRollerMaxBatchSize() +
+                "\n\tresourceCacheEnabled=" + isResourceCacheEnabled() +
+                "\n\tfullReconciliationIntervals=" + getFullReconciliationIntervals() +
+                "\n\tmaxConcurrentPeriodicReconciliations=" + getMaxConcurrentPeriodicReconciliations() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
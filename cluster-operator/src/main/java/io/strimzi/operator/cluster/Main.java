@@ -8,6 +8,9 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.strimzi.certs.BouncyCastleCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
@@ -24,6 +27,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.KeyPairPoolMetrics;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.CompositeFuture;
@@ -155,6 +159,13 @@ public class Main {
                 config.getOperatorName()
         );
 
+        shutdownHook.register(resourceOperatorSupplier::closeAdminClients);
+
+        if (config.isResourceCacheEnabled()) {
+            resourceOperatorSupplier.startResourceCaches(new ArrayList<>(config.getNamespaces()));
+            shutdownHook.register(resourceOperatorSupplier::stopResourceCaches);
+        }
+
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
 
@@ -166,7 +177,7 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            CertManager certManager = createCertManager(config, metricsProvider);
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -318,6 +329,26 @@ public class Main {
         }
     }
 
+    /**
+     * Creates the certificate manager. When the in-JVM certificate manager is enabled, the keys for the new
+     * certificates are taken from a pool of pre-generated key pairs.
+     *
+     * @param config            Cluster Operator configuration
+     * @param metricsProvider   Metrics provider used to register the key pair pool metrics
+     *
+     * @return  Certificate manager
+     */
+    private static CertManager createCertManager(ClusterOperatorConfig config, MetricsProvider metricsProvider) {
+        if (config.featureGates().inJvmCertificateManagerEnabled()) {
+            KeyPairPool keyPairPool = new KeyPairPool(config.getCertificateKeyAlgorithm(), config.getCertificateKeyPoolSize());
+            new KeyPairPoolMetrics(keyPairPool).bindTo(metricsProvider.meterRegistry());
+
+            return new BouncyCastleCertManager(keyPairPool);
+        } else {
+            return new OpenSslCertManager();
+        }
+    }
+
     /**
      * Start an HTTP health and metrics server
      *
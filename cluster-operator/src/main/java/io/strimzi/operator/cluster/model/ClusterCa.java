@@ -18,9 +18,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.PasswordGenerator;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -278,7 +276,7 @@ public class ClusterCa extends Ca {
      *
      * @return  Returns map with node certificates which can be used to create or update the certificate secret
      *
-     * @throws IOException  Throws IOException when working with files fails
+     * @throws IOException  Throws IOException when generating the certificates fails
      */
     /* test */ Map<String, CertAndKey> maybeCopyOrGenerateCerts(
             Reconciliation reconciliation,
@@ -290,12 +288,6 @@ public class ClusterCa extends Ca {
         // Maps for storing the certificates => will be used in the new or updated secret. This map is filled in this method and returned at the end.
         Map<String, CertAndKey> certs = new HashMap<>();
 
-        // Temp files used when we need to generate new certificates
-        File brokerCsrFile = Files.createTempFile("tls", "broker-csr").toFile();
-        File brokerKeyFile = Files.createTempFile("tls", "broker-key").toFile();
-        File brokerCertFile = Files.createTempFile("tls", "broker-cert").toFile();
-        File brokerKeyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
-
         for (NodeRef node : nodes)  {
             String podName = node.podName();
             Subject subject = subjectFn.apply(node);
@@ -328,7 +320,7 @@ public class ClusterCa extends Ca {
                 if (!reasons.isEmpty())  {
                     LOGGER.infoCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                    CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
+                    CertAndKey newCertAndKey = generateSignedCert(subject);
                     certs.put(podName, newCertAndKey);
                 }   else {
                     certs.put(podName, certAndKey);
@@ -336,17 +328,11 @@ public class ClusterCa extends Ca {
             } else {
                 // A certificate for this node does not exist or it the CA got renewed, so we will generate new certificate
                 LOGGER.debugCr(reconciliation, "Generating new certificate for node {}", node);
-                CertAndKey k = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
+                CertAndKey k = generateSignedCert(subject);
                 certs.put(podName, k);
             }
         }
 
-        // Delete the temp files used to generate new certificates
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
-
         return certs;
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the Kafka broker configuration models. The model of each Kafka version is read from the classpath only
+ * once and then shared by all callers. The models are indexed for fast lookup of the type, scope and read-only status
+ * of the configuration options.
+ */
+public class KafkaConfigModels {
+    private static final Map<String, KafkaConfigModels> MODELS = new ConcurrentHashMap<>();
+
+    private final String version;
+    private final Map<String, ConfigModel> configs;
+    private final Set<String> readOnlyConfigs;
+
+    /**
+     * Constructs the configuration model
+     *
+     * @param version   Kafka version
+     * @param configs   Map with the configuration options and their models
+     */
+    /* test */ KafkaConfigModels(String version, Map<String, ConfigModel> configs) {
+        this.version = version;
+        this.configs = Collections.unmodifiableMap(configs);
+
+        Set<String> readOnlyConfigs = new HashSet<>();
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            if (config.getValue().getScope() == Scope.READ_ONLY) {
+                readOnlyConfigs.add(config.getKey());
+            }
+        }
+        this.readOnlyConfigs = Set.copyOf(readOnlyConfigs);
+    }
+
+    /**
+     * Returns the configuration model for the given Kafka version. The model is loaded on the first call for each
+     * version and cached afterwards.
+     *
+     * @param kafkaVersion  Kafka version
+     *
+     * @return  Configuration model for given Kafka version
+     */
+    public static KafkaConfigModels forVersion(KafkaVersion kafkaVersion) {
+        // computeIfAbsent does not cache the result when the loading fails, so missing models are reported every time
+        return MODELS.computeIfAbsent(kafkaVersion.version(), KafkaConfigModels::load);
+    }
+
+    private static KafkaConfigModels load(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = KafkaConfigModels.class.getResourceAsStream(name)) {
+                if (in != null) {
+                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return new KafkaConfigModels(version, configModels.getConfigs());
+                } else {
+                    // The configuration model does not exist
+                    throw new RuntimeException("Configuration model " + name + " was not found");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+
+    /**
+     * @return  Kafka version of this configuration model
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return  Unmodifiable map with all configuration options and their models
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  Model of the configuration option or null if the option is not known
+     */
+    public ConfigModel get(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  True if the configuration option is a known Kafka broker option. False otherwise.
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  Type of the configuration option or null if the option is not known
+     */
+    public Type type(String name) {
+        ConfigModel config = configs.get(name);
+        return config != null ? config.getType() : null;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  Scope of the configuration option or null if the option is not known
+     */
+    public Scope scope(String name) {
+        ConfigModel config = configs.get(name);
+        return config != null ? config.getScope() : null;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  True if the configuration option is known and cannot be changed dynamically. False otherwise.
+     */
+    public boolean isReadOnly(String name) {
+        return readOnlyConfigs.contains(name);
+    }
+}
@@ -5,14 +5,10 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
 import io.strimzi.operator.common.Reconciliation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -237,7 +233,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public List<String> validate(KafkaVersion kafkaVersion) {
         List<String> errors = new ArrayList<>();
-        Map<String, ConfigModel> models = readConfigModel(kafkaVersion);
+        KafkaConfigModels models = KafkaConfigModels.forVersion(kafkaVersion);
         for (Map.Entry<String, String> entry: asOrderedProperties().asMap().entrySet()) {
             String key = entry.getKey();
             String value = entry.getValue();
@@ -252,28 +248,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is loaded only once and shared
+     * afterwards, see {@link KafkaConfigModels}.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The unmodifiable config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                        throw new RuntimeException("Incorrect version");
-                    }
-                    return configModels.getConfigs();
-                } else {
-                    // The configuration model does not exist
-                    throw new RuntimeException("Configuration model " + name + " was not found");
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return KafkaConfigModels.forVersion(kafkaVersion).configs();
     }
 
     /**
@@ -283,10 +264,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        KafkaConfigModels configModel = KafkaConfigModels.forVersion(kafkaVersion);
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
-            if (!configModel.containsKey(e.getKey())) {
+            if (!configModel.isKnown(e.getKey())) {
                 result.add(e.getKey() + "=" + e.getValue());
             }
         }
@@ -63,9 +63,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
@@ -86,6 +88,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractConnectOperator.class.getName());
 
+    // Status codes of the expanded connector listing which mean that the Kafka Connect REST API does not support it:
+    // 200 when the expand parameter is ignored and the response is a list of names, 400 and 404 when it is rejected
+    private static final Set<Integer> EXPAND_NOT_SUPPORTED_STATUS_CODES = Set.of(200, 400, 404);
+
     private final boolean isNetworkPolicyGeneration;
     private final boolean continueOnManualRUFailure;
 
@@ -269,6 +275,33 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 });
     }
 
+    /**
+     * Gets the snapshot of all connectors deployed in the Kafka Connect cluster together with their configuration and
+     * status using a single request. If the Kafka Connect REST API does not support the expanded request, only the
+     * names of the connectors are listed and their configuration and status are fetched later for each connector
+     * separately. Other errors, such as server errors, fail the snapshot.
+     *
+     * @param reconciliation    The reconciliation
+     * @param host              The REST API host
+     * @param apiClient         The client instance
+     *
+     * @return  Future with the snapshot of the connectors
+     */
+    protected Future<ConnectorsSnapshot> connectorsSnapshot(Reconciliation reconciliation, String host, KafkaConnectApi apiClient) {
+        return apiClient.listWithStatusAndInfo(reconciliation, host, port)
+                .map(ConnectorsSnapshot::fromExpanded)
+                .recover(error -> {
+                    if (error instanceof ConnectRestException restException
+                            && EXPAND_NOT_SUPPORTED_STATUS_CODES.contains(restException.getStatusCode())) {
+                        LOGGER.debugCr(reconciliation, "Failed to list the connectors with their status and configuration, falling back to listing the connector names", error);
+                        return apiClient.list(reconciliation, host, port)
+                                .map(ConnectorsSnapshot::fromNames);
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                });
+    }
+
     /**
      * Try to get the current connector config. If the connector does not exist, or its config differs from the
      * {@code connectorSpec}'s, then call
@@ -285,24 +318,70 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the configuration and status of the connector from the snapshot instead of querying the Kafka Connect
+     * REST API for them. When the connector is in the desired state, only its topics are queried. The connectors which
+     * need to be created or updated are written with bounded parallelism.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param snapshot Snapshot of the connectors in the Kafka Connect cluster or null if not available
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                ConnectorsSnapshot snapshot) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
 
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        Future<Map<String, String>> currentConfigFuture;
+        if (snapshot == null) {
+            currentConfigFuture = apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
+        } else if (!snapshot.exists(connectorName)) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource, snapshot);
+        } else if (snapshot.config(connectorName) == null) {
+            currentConfigFuture = apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
+        } else {
+            currentConfigFuture = Future.succeededFuture(snapshot.config(connectorName));
+        }
+
+        return currentConfigFuture.compose(
             currentConfig -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
+                    Map<String, Object> snapshotStatus = snapshot != null ? snapshot.status(connectorName) : null;
+                    boolean inDesiredState = snapshotStatus != null
+                            && isInTargetState(snapshotStatus, connectorSpec)
+                            && !hasRestartAnnotation(resource, connectorName)
+                            && getRestartTaskAnnotationTaskID(resource, connectorName) < 0;
+
+                    return (snapshotStatus != null ? Future.succeededFuture(snapshotStatus) : apiClient.status(reconciliation, host, port, connectorName))
                         .compose(status -> updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>()))
                         .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
                         .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
+                        .compose(conditions -> {
+                            if (inDesiredState) {
+                                // Nothing was changed => the status from the snapshot is still valid
+                                return createConnectorStatusAndConditions(conditions).apply(snapshotStatus);
+                            } else {
+                                return apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                                        .compose(createConnectorStatusAndConditions(conditions));
+                            }
+                        })
                         .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 } else {
                     LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                    return write(snapshot, () -> createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig))
                         .compose(createConnectorStatusAndConditions())
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 }
@@ -311,16 +390,27 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource, snapshot);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    @SuppressWarnings({ "rawtypes" })
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                 KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig, CustomResource resource,
+                                                                 ConnectorsSnapshot snapshot) {
+        return write(snapshot, () -> createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig))
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    private static <T> Future<T> write(ConnectorsSnapshot snapshot, Supplier<Future<T>> write) {
+        return snapshot != null ? snapshot.write(write) : write.get();
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -359,8 +449,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             ConnectorState desiredState = connectorSpec.getState();
             @SuppressWarnings("deprecation")
             Boolean shouldPause = connectorSpec.getPause();
-            ConnectorState targetState = desiredState != null ? desiredState :
-                    Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+            ConnectorState targetState = targetState(connectorSpec);
             if (desiredState != null && shouldPause != null) {
                 String message = "Both pause and state are set. Since pause is deprecated, state takes precedence " +
                         "so the connector will be " + targetState.toValue();
@@ -407,6 +496,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
+    private static ConnectorState targetState(KafkaConnectorSpec connectorSpec) {
+        @SuppressWarnings("deprecation")
+        Boolean shouldPause = connectorSpec.getPause();
+        return connectorSpec.getState() != null ? connectorSpec.getState() :
+                Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private static boolean isInTargetState(Map<String, Object> status, KafkaConnectorSpec connectorSpec) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        return targetState(connectorSpec).name().equals(state);
+    }
+
     /**
      * Handles auto-restarting of the connectors and managing the auto-restart status. It checks that current state of
      * the connector and its tasks. If it is failing, it will restart them in periodic intervals with backoff. If the connector is stable after the restart, it resets that auto-restart status.
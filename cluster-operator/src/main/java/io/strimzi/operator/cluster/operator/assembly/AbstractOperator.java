@@ -84,6 +84,15 @@ public abstract class AbstractOperator<
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
+    /* test */ final StripedLockManager locks;
+
+    /**
+     * Fingerprints of the custom resources recorded after their last successful reconciliation. They are kept only in
+     * memory, so all custom resources are fully reconciled again after the operator restarts (for example after an
+     * upgrade to a new operator version).
+     */
+    private final Map<NamespaceAndName, Fingerprint> fingerprints = new ConcurrentHashMap<>(1);
+
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
      * OperatorMetricsHolder instance. This constructor is used by subclasses which want to use specialized metrics
@@ -101,6 +110,7 @@ public abstract class AbstractOperator<
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, selectorLabels.toMap());
         this.metrics = metrics;
+        this.locks = new StripedLockManager(vertx);
     }
 
     /**
@@ -261,7 +271,30 @@ public abstract class AbstractOperator<
 
         Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, cr);
 
-        LOGGER.infoCr(reconciliation, "{} {} will be checked for creation or modification", kind, name);
+        return isUnchanged(reconciliation, cr)
+                .compose(unchanged -> {
+                    if (unchanged) {
+                        metrics().unchangedReconciliationsCounter(namespace).increment();
+                        LOGGER.infoCr(reconciliation, "{} {} did not change since the last successful reconciliation and the full reconciliation will be skipped", kind, name);
+                        return Future.succeededFuture();
+                    } else {
+                        return reconcileChanges(reconciliation, cr, unknownAndDeprecatedConditions);
+                    }
+                });
+    }
+
+    /**
+     * Runs the full reconciliation of the custom resource and updates its status.
+     *
+     * @param reconciliation                    The reconciliation.
+     * @param cr                                The custom resource
+     * @param unknownAndDeprecatedConditions    Conditions about the unknown and deprecated fields in the custom resource
+     *
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileChanges(Reconciliation reconciliation, T cr, Set<Condition> unknownAndDeprecatedConditions) {
+        Promise<Void> createOrUpdate = Promise.promise();
+        LOGGER.infoCr(reconciliation, "{} {} will be checked for creation or modification", kind, reconciliation.name());
 
         createOrUpdate(reconciliation, cr).onComplete(res -> {
             if (res.succeeded()) {
@@ -270,8 +303,9 @@ public abstract class AbstractOperator<
                 StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
                 updateStatus(reconciliation, status).onComplete(statusResult -> {
                     if (statusResult.succeeded()) {
-                        createOrUpdate.complete();
+                        recordFingerprint(reconciliation, cr).onComplete(i -> createOrUpdate.complete());
                     } else {
+                        fingerprints.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
                         createOrUpdate.fail(statusResult.cause());
                     }
                 });
@@ -281,9 +315,11 @@ public abstract class AbstractOperator<
                 StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
 
                 LOGGER.errorCr(reconciliation, "createOrUpdate failed", e.getCause());
+                fingerprints.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
                 updateStatus(reconciliation, status).onComplete(statusResult -> createOrUpdate.fail(e.getCause()));
             } else {
                 LOGGER.errorCr(reconciliation, "createOrUpdate failed", res.cause());
+                fingerprints.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
                 createOrUpdate.fail(res.cause());
             }
         });
@@ -291,6 +327,100 @@ public abstract class AbstractOperator<
         return createOrUpdate.future();
     }
 
+    /**
+     * Computes the fingerprint of the inputs of the reconciliation of the custom resource. When the fingerprint does
+     * not change between two periodic reconciliations, the full reconciliation is skipped. Operators which do not
+     * support this return a Future completed with null, which is the default. Null is returned as well when the full
+     * reconciliation should run regardless of the inputs.
+     *
+     * @param reconciliation    The reconciliation.
+     * @param cr                The custom resource
+     *
+     * @return  Future which completes with the fingerprint or with null when the full reconciliation should run
+     */
+    protected Future<String> reconciliationFingerprint(Reconciliation reconciliation, T cr) {
+        return Future.succeededFuture(null);
+    }
+
+    /**
+     * The periodic reconciliations of unchanged custom resources are skipped at most this number of times minus one in
+     * a row before the full reconciliation is run again. The value of 1, which is the default, means that the full
+     * reconciliation runs every time.
+     *
+     * @return  Number of periodic reconciliation intervals after which the full reconciliation is always run
+     */
+    protected int fullReconciliationIntervals() {
+        return 1;
+    }
+
+    /**
+     * Checks whether the periodic reconciliation can skip the full reconciliation because the fingerprint of the custom
+     * resource did not change since the last successful reconciliation. Only the reconciliations triggered by the timer
+     * are skipped. When the fingerprint cannot be computed, the full reconciliation is run.
+     *
+     * @param reconciliation    The reconciliation.
+     * @param cr                The custom resource
+     *
+     * @return  Future which completes with true when the full reconciliation can be skipped and with false otherwise
+     */
+    private Future<Boolean> isUnchanged(Reconciliation reconciliation, T cr) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Fingerprint previous = fingerprints.get(key);
+
+        if (!"timer".equals(reconciliation.trigger())
+                || previous == null
+                || previous.skipped() + 1 >= fullReconciliationIntervals()) {
+            return Future.succeededFuture(false);
+        }
+
+        return reconciliationFingerprint(reconciliation, cr)
+                .map(fingerprint -> {
+                    if (fingerprint != null && fingerprint.equals(previous.hash())) {
+                        fingerprints.put(key, new Fingerprint(previous.hash(), previous.skipped() + 1));
+                        return true;
+                    } else {
+                        return false;
+                    }
+                })
+                .otherwise(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to compute the fingerprint of {} {}", kind, reconciliation.name(), error);
+                    return false;
+                });
+    }
+
+    /**
+     * Records the fingerprint of the custom resource after a successful full reconciliation. The fingerprint is
+     * computed only after the reconciliation so that it includes the changes done by the operator itself.
+     *
+     * @param reconciliation    The reconciliation.
+     * @param cr                The custom resource
+     *
+     * @return  Future which completes when the fingerprint is recorded
+     */
+    private Future<Void> recordFingerprint(Reconciliation reconciliation, T cr) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+
+        if (fullReconciliationIntervals() <= 1) {
+            return Future.succeededFuture();
+        }
+
+        return reconciliationFingerprint(reconciliation, cr)
+                .<Void>map(fingerprint -> {
+                    if (fingerprint != null) {
+                        fingerprints.put(key, new Fingerprint(fingerprint, 0));
+                    } else {
+                        fingerprints.remove(key);
+                    }
+
+                    return null;
+                })
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to compute the fingerprint of {} {}", kind, reconciliation.name(), error);
+                    fingerprints.remove(key);
+                    return Future.succeededFuture();
+                });
+    }
+
     /**
      * Delete assembly resources in the namespace given by {@code reconciliation} having the name
      * give by {@code reconciliation}.
@@ -302,6 +432,8 @@ public abstract class AbstractOperator<
         String name = reconciliation.name();
         LOGGER.infoCr(reconciliation, "{} {} should be deleted", kind, name);
 
+        fingerprints.remove(new NamespaceAndName(reconciliation.namespace(), name));
+
         return delete(reconciliation).<Void>map(deleteResult -> {
             if (deleteResult) {
                 LOGGER.infoCr(reconciliation, "{} {} deleted", kind, name);
@@ -391,7 +523,10 @@ public abstract class AbstractOperator<
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
         LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
-        vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
+        Timer.Sample lockWaitSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        locks.acquire(lockName, lockTimeoutMs).onComplete(res -> {
+            lockWaitSample.stop(metrics().lockWaitTimer(namespace));
+
             if (res.succeeded()) {
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
 
@@ -609,4 +744,12 @@ public abstract class AbstractOperator<
             return null;
         });
     }
+
+    /**
+     * Fingerprint of the custom resource recorded after its last successful reconciliation
+     *
+     * @param hash      Hash of the inputs of the reconciliation
+     * @param skipped   Number of periodic reconciliations skipped since the last full reconciliation
+     */
+    private record Fingerprint(String hash, int skipped) { }
 }
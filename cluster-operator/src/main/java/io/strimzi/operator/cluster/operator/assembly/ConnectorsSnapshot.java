@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Snapshot of the connectors deployed in a Kafka Connect cluster, fetched in bulk at the beginning of the connector
+ * reconciliation. It allows the reconciliation of the individual connectors to compare the desired state with the
+ * current configuration and status without querying the Kafka Connect REST API for each connector separately.
+ *
+ * The snapshot is also used to limit the number of connectors which are created or updated in parallel in the
+ * Kafka Connect cluster during a single reconciliation.
+ */
+class ConnectorsSnapshot {
+    /**
+     * Maximal number of connectors created or updated in parallel
+     */
+    /* test */ static final int MAX_CONCURRENT_WRITES = 10;
+
+    private final Map<String, Map<String, Object>> connectors;
+    private final int maxConcurrentWrites;
+    private final Queue<Runnable> pendingWrites = new ArrayDeque<>();
+    private int runningWrites = 0;
+
+    /* test */ ConnectorsSnapshot(Map<String, Map<String, Object>> connectors, int maxConcurrentWrites) {
+        this.connectors = connectors;
+        this.maxConcurrentWrites = maxConcurrentWrites;
+    }
+
+    /**
+     * Creates the snapshot from the response of the {@code GET /connectors?expand=status&expand=info} request
+     *
+     * @param connectors    Status and info of the connectors keyed by the connector name
+     *
+     * @return  The connectors snapshot
+     */
+    static ConnectorsSnapshot fromExpanded(Map<String, Map<String, Object>> connectors) {
+        return new ConnectorsSnapshot(connectors, MAX_CONCURRENT_WRITES);
+    }
+
+    /**
+     * Creates the snapshot which knows only the names of the connectors. It is used when the Kafka Connect REST API
+     * does not support the expanded list of connectors.
+     *
+     * @param connectorNames    Names of the connectors
+     *
+     * @return  The connectors snapshot
+     */
+    static ConnectorsSnapshot fromNames(List<String> connectorNames) {
+        Map<String, Map<String, Object>> connectors = new HashMap<>(connectorNames.size());
+        connectorNames.forEach(name -> connectors.put(name, emptyMap()));
+
+        return new ConnectorsSnapshot(connectors, MAX_CONCURRENT_WRITES);
+    }
+
+    /**
+     * @return  Names of the connectors in the snapshot
+     */
+    List<String> names() {
+        return new ArrayList<>(connectors.keySet());
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  True if the connector exists in the Kafka Connect cluster. False otherwise.
+     */
+    boolean exists(String connectorName) {
+        return connectors.containsKey(connectorName);
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  The current configuration of the connector or null if it is not known
+     */
+    @SuppressWarnings({ "rawtypes" })
+    Map<String, String> config(String connectorName) {
+        Object info = connectors.getOrDefault(connectorName, emptyMap()).get("info");
+
+        if (info instanceof Map infoMap && infoMap.get("config") instanceof Map<?, ?> config) {
+            Map<String, String> result = new HashMap<>(config.size());
+            config.forEach((key, value) -> result.put(String.valueOf(key), value != null ? String.valueOf(value) : null));
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  The current status of the connector or null if it is not known
+     */
+    @SuppressWarnings({ "unchecked" })
+    Map<String, Object> status(String connectorName) {
+        Object status = connectors.getOrDefault(connectorName, emptyMap()).get("status");
+        return status instanceof Map ? new HashMap<>((Map<String, Object>) status) : null;
+    }
+
+    /**
+     * Runs the operation writing to the Kafka Connect REST API once fewer than the maximal number of the other writes
+     * is in progress.
+     *
+     * @param write     Supplier of the write operation
+     * @param <T>       Type of the result
+     *
+     * @return  Future which completes with the result of the write operation
+     */
+    <T> Future<T> write(Supplier<Future<T>> write) {
+        Promise<T> result = Promise.promise();
+        Runnable task = () -> {
+            Future<T> future;
+            try {
+                future = write.get();
+            } catch (RuntimeException e) {
+                future = Future.failedFuture(e);
+            }
+
+            future.onComplete(res -> {
+                writeCompleted();
+                result.handle(res);
+            });
+        };
+
+        boolean runNow;
+        synchronized (this) {
+            runNow = runningWrites < maxConcurrentWrites;
+            if (runNow) {
+                runningWrites++;
+            } else {
+                pendingWrites.add(task);
+            }
+        }
+
+        if (runNow) {
+            task.run();
+        }
+
+        return result.future();
+    }
+
+    private void writeCompleted() {
+        Runnable next;
+        synchronized (this) {
+            next = pendingWrites.poll();
+            if (next == null) {
+                runningWrites--;
+            }
+        }
+
+        if (next != null) {
+            next.run();
+        }
+    }
+}
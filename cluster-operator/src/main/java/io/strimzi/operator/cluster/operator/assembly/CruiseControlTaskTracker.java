@@ -0,0 +1,277 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the Cruise Control user tasks of the KafkaRebalance resources which are waiting for a proposal or for the
+ * rebalance to finish. Instead of each KafkaRebalance polling Cruise Control on its own, the tracker fetches the states
+ * of all tracked tasks of the same Kafka cluster with a single user_tasks request and wakes up the reconciliation of a
+ * KafkaRebalance only when the state of its task changes.
+ *
+ * The poll interval adapts to the task progress. It starts at the minimum interval and it is doubled up to the maximum
+ * interval after every poll in which none of the tasks changed. It is reset back to the minimum when a task changes or
+ * when a new task is tracked. The polling of a cluster stops when it has no tracked tasks.
+ */
+class CruiseControlTaskTracker {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlTaskTracker.class);
+
+    /**
+     * Default minimal interval between two polls of the same Cruise Control instance
+     */
+    /* test */ static final long MIN_POLL_INTERVAL_MS = 5_000L;
+
+    /**
+     * Default maximal interval between two polls of the same Cruise Control instance
+     */
+    /* test */ static final long MAX_POLL_INTERVAL_MS = 60_000L;
+
+    private final Vertx vertx;
+    private final int port;
+    private final long minPollIntervalMs;
+    private final long maxPollIntervalMs;
+    private final Consumer<Reconciliation> wakeUp;
+    private final Map<String, TrackedCluster> clusters = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vert.x instance used for the poll timers
+     * @param port      Port of the Cruise Control REST API
+     * @param wakeUp    Callback used to trigger the reconciliation of a KafkaRebalance when the state of its task changes
+     */
+    CruiseControlTaskTracker(Vertx vertx, int port, Consumer<Reconciliation> wakeUp) {
+        this(vertx, port, MIN_POLL_INTERVAL_MS, MAX_POLL_INTERVAL_MS, wakeUp);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vert.x instance used for the poll timers
+     * @param port                  Port of the Cruise Control REST API
+     * @param minPollIntervalMs     Minimal interval between two polls of the same Cruise Control instance
+     * @param maxPollIntervalMs     Maximal interval between two polls of the same Cruise Control instance
+     * @param wakeUp                Callback used to trigger the reconciliation of a KafkaRebalance when the state of
+     *                              its task changes
+     */
+    /* test */ CruiseControlTaskTracker(Vertx vertx, int port, long minPollIntervalMs, long maxPollIntervalMs, Consumer<Reconciliation> wakeUp) {
+        this.vertx = vertx;
+        this.port = port;
+        this.minPollIntervalMs = minPollIntervalMs;
+        this.maxPollIntervalMs = maxPollIntervalMs;
+        this.wakeUp = wakeUp;
+    }
+
+    /**
+     * Starts or continues tracking the Cruise Control user task of a KafkaRebalance resource. Tracking a different
+     * task for the same KafkaRebalance replaces the previous task.
+     *
+     * @param reconciliation    Reconciliation of the KafkaRebalance resource
+     * @param host              Address of the Cruise Control instance
+     * @param apiClient         Cruise Control API client used for the polling
+     * @param userTaskId        ID of the Cruise Control user task
+     */
+    synchronized void track(Reconciliation reconciliation, String host, CruiseControlApi apiClient, String userTaskId) {
+        String key = key(reconciliation);
+        TrackedTask existing = null;
+
+        for (TrackedCluster other : clusters.values()) {
+            TrackedTask task = other.tasks.get(key);
+
+            if (task != null) {
+                if (other.host.equals(host) && task.userTaskId.equals(userTaskId)) {
+                    existing = task;
+                } else {
+                    untrack(reconciliation);
+                }
+
+                break;
+            }
+        }
+
+        TrackedCluster cluster = clusters.computeIfAbsent(host, h -> new TrackedCluster(h, reconciliation.kind(), reconciliation.namespace()));
+        // The client is refreshed with every reconciliation to pick up the changes to the Cruise Control secrets
+        cluster.apiClient = apiClient;
+
+        if (existing == null) {
+            LOGGER.debugCr(reconciliation, "Tracking Cruise Control user task {}", userTaskId);
+            cluster.tasks.put(key, new TrackedTask(reconciliation.kind(), reconciliation.namespace(), reconciliation.name(), userTaskId));
+            cluster.intervalMs = minPollIntervalMs;
+
+            if (!cluster.polling) {
+                if (cluster.timerId != -1L) {
+                    vertx.cancelTimer(cluster.timerId);
+                }
+
+                schedule(cluster);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the Cruise Control user task of a KafkaRebalance resource. The polling of the Cruise Control
+     * instance is stopped when it has no other tracked tasks.
+     *
+     * @param reconciliation    Reconciliation of the KafkaRebalance resource
+     */
+    synchronized void untrack(Reconciliation reconciliation) {
+        String key = key(reconciliation);
+
+        clusters.values().removeIf(cluster -> {
+            TrackedTask task = cluster.tasks.remove(key);
+
+            if (task != null) {
+                LOGGER.debugCr(reconciliation, "Stopped tracking Cruise Control user task {}", task.userTaskId);
+            }
+
+            if (cluster.tasks.isEmpty()) {
+                if (cluster.timerId != -1L) {
+                    vertx.cancelTimer(cluster.timerId);
+                }
+
+                return true;
+            } else {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @param reconciliation    Reconciliation of the KafkaRebalance resource
+     *
+     * @return  True if the task of the KafkaRebalance resource is tracked. False otherwise.
+     */
+    /* test */ synchronized boolean isTracked(Reconciliation reconciliation) {
+        String key = key(reconciliation);
+        return clusters.values().stream().anyMatch(cluster -> cluster.tasks.containsKey(key));
+    }
+
+    /**
+     * @param host  Address of the Cruise Control instance
+     *
+     * @return  The current poll interval of the Cruise Control instance or -1 if it is not polled
+     */
+    /* test */ synchronized long pollIntervalMs(String host) {
+        TrackedCluster cluster = clusters.get(host);
+        return cluster != null ? cluster.intervalMs : -1L;
+    }
+
+    private void schedule(TrackedCluster cluster) {
+        cluster.timerId = vertx.setTimer(cluster.intervalMs, id -> poll(cluster));
+    }
+
+    private void poll(TrackedCluster cluster) {
+        Set<String> userTaskIds;
+
+        synchronized (this) {
+            if (clusters.get(cluster.host) != cluster) {
+                return;
+            }
+
+            cluster.timerId = -1L;
+            cluster.polling = true;
+            userTaskIds = cluster.tasks.values().stream().map(task -> task.userTaskId).collect(Collectors.toSet());
+        }
+
+        Reconciliation reconciliation = new Reconciliation("cruise-control-task-tracker", cluster.kind, cluster.namespace, cluster.host);
+
+        cluster.apiClient.getUserTaskStatuses(reconciliation, cluster.host, port, userTaskIds)
+                .onComplete(result -> {
+                    List<Reconciliation> changed = new ArrayList<>();
+
+                    synchronized (this) {
+                        cluster.polling = false;
+
+                        if (clusters.get(cluster.host) != cluster) {
+                            return;
+                        }
+
+                        if (result.succeeded()) {
+                            for (TrackedTask task : cluster.tasks.values()) {
+                                CruiseControlUserTaskStatus status = result.result().get(task.userTaskId);
+
+                                if (status != null && status != task.lastStatus) {
+                                    // The first observed state is only reported when the task is already finished
+                                    if (task.lastStatus != null || isFinished(status)) {
+                                        changed.add(new Reconciliation("cruise-control-task", task.kind, task.namespace, task.name));
+                                    }
+
+                                    task.lastStatus = status;
+                                }
+                            }
+                        } else {
+                            LOGGER.warnCr(reconciliation, "Failed to get the Cruise Control user tasks {}", userTaskIds, result.cause());
+                        }
+
+                        cluster.intervalMs = changed.isEmpty() ? Math.min(cluster.intervalMs * 2, maxPollIntervalMs) : minPollIntervalMs;
+                        schedule(cluster);
+                    }
+
+                    for (Reconciliation wakeUpReconciliation : changed) {
+                        LOGGER.debugCr(wakeUpReconciliation, "Cruise Control user task changed its state");
+                        wakeUp.accept(wakeUpReconciliation);
+                    }
+                });
+    }
+
+    private static boolean isFinished(CruiseControlUserTaskStatus status) {
+        return status == CruiseControlUserTaskStatus.COMPLETED || status == CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR;
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Cruise Control instance with its tracked tasks
+     */
+    private static class TrackedCluster {
+        private final String host;
+        private final String kind;
+        private final String namespace;
+        private final Map<String, TrackedTask> tasks = new HashMap<>();
+        private CruiseControlApi apiClient;
+        private long intervalMs;
+        private long timerId = -1L;
+        private boolean polling = false;
+
+        TrackedCluster(String host, String kind, String namespace) {
+            this.host = host;
+            this.kind = kind;
+            this.namespace = namespace;
+        }
+    }
+
+    /**
+     * Tracked Cruise Control user task and the KafkaRebalance resource it belongs to
+     */
+    private static class TrackedTask {
+        private final String kind;
+        private final String namespace;
+        private final String name;
+        private final String userTaskId;
+        private CruiseControlUserTaskStatus lastStatus;
+
+        TrackedTask(String kind, String namespace, String name, String userTaskId) {
+            this.kind = kind;
+            this.namespace = namespace;
+            this.name = name;
+            this.userTaskId = userTaskId;
+        }
+    }
+}
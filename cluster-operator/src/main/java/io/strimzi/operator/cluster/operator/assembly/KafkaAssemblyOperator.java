@@ -4,8 +4,15 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
@@ -47,6 +54,7 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
@@ -54,18 +62,27 @@ import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
 import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.IntStream;
 
 /**
@@ -108,6 +125,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     private final KafkaAssemblyOperatorMetricsHolder metrics;
 
+    private static final ObjectMapper FINGERPRINT_MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
     /* test */ final ClusterOperatorConfig config;
     /* test */ final ResourceOperatorSupplier supplier;
 
@@ -264,9 +283,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(state -> kafkaMetadataConfigState.isKRaft() ? Future.succeededFuture(state) : state.reconcileZooKeeper(clock))
                 .compose(state -> reconcileState.kafkaMetadataStateManager.shouldDestroyZooKeeperNodes() ? state.reconcileZooKeeperEraser() : Future.succeededFuture(state))
                 .compose(state -> state.reconcileKafka(clock))
-                .compose(state -> state.reconcileEntityOperator(clock))
-                .compose(state -> state.reconcileCruiseControl(clock))
-                .compose(state -> state.reconcileKafkaExporter(clock))
+                // The other components depend only on Kafka, so they are reconciled in parallel
+                .compose(state -> new ReconcilerStages(reconcileState.reconciliation, supplier.metricsProvider)
+                        .stage("entityOperator", () -> state.reconcileEntityOperator(clock).mapEmpty())
+                        .stage("cruiseControl", () -> state.reconcileCruiseControl(clock).mapEmpty())
+                        .stage("kafkaExporter", () -> state.reconcileKafkaExporter(clock).mapEmpty())
+                        .run())
 
                 // Finish the reconciliation
                 .map((Void) null)
@@ -826,6 +848,194 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return status;
     }
 
+    @Override
+    protected int fullReconciliationIntervals() {
+        return config.getFullReconciliationIntervals();
+    }
+
+    /**
+     * Computes the fingerprint of the inputs of the Kafka cluster reconciliation. It includes the spec, labels and
+     * annotations of the Kafka custom resource and of its node pools and the resource versions of the Secrets and
+     * ConfigMaps belonging to the cluster or referenced from the Kafka custom resource (such as the custom listener
+     * certificates, the logging and metrics ConfigMaps or the authentication Secrets). The resource versions of the
+     * StrimziPodSets and Pods of the cluster are included as well so that any drift of the running cluster triggers the
+     * full reconciliation.
+     *
+     * No fingerprint is returned, and the full reconciliation always runs, while a configured maintenance time window
+     * is open or while any of the certificates of the cluster is in its renewal period. These depend on the time and
+     * not only on the inputs.
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafka             The Kafka custom resource
+     *
+     * @return  Future which completes with the fingerprint or with null when the full reconciliation should run
+     */
+    @Override
+    protected Future<String> reconciliationFingerprint(Reconciliation reconciliation, Kafka kafka) {
+        List<String> maintenanceWindows = kafka.getSpec() != null ? kafka.getSpec().getMaintenanceTimeWindows() : null;
+        // Without any maintenance time windows, the operations waiting for them are not deferred at all
+        if (maintenanceWindows != null
+                && !maintenanceWindows.isEmpty()
+                && Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant())) {
+            LOGGER.debugCr(reconciliation, "Maintenance time window is open, the full reconciliation will run");
+            return Future.succeededFuture(null);
+        }
+
+        String namespace = reconciliation.namespace();
+        Labels clusterLabels = Labels.forStrimziCluster(reconciliation.name());
+        Labels kafkaLabels = clusterLabels.withStrimziKind(Kafka.RESOURCE_KIND);
+
+        Set<String> referencedSecretNames = new TreeSet<>();
+        Set<String> referencedConfigMapNames = new TreeSet<>();
+        collectReferences(FINGERPRINT_MAPPER.valueToTree(kafka.getSpec()), referencedSecretNames, referencedConfigMapNames);
+
+        Future<List<KafkaNodePool>> nodePools = nodePoolOperator.listAsync(namespace, clusterLabels);
+        Future<List<Secret>> secrets = secretOperations.listAsync(namespace, kafkaLabels);
+        Future<List<ConfigMap>> configMaps = configMapOperations.listAsync(namespace, kafkaLabels);
+        Future<List<StrimziPodSet>> podSets = strimziPodSetOperator.listAsync(namespace, kafkaLabels);
+        Future<List<Pod>> pods = supplier.podOperations.listAsync(namespace, kafkaLabels);
+        Future<List<Secret>> referencedSecrets = Future.join(referencedSecretNames.stream().map(name -> secretOperations.getAsync(namespace, name)).toList())
+                .map(CompositeFuture::list);
+        Future<List<ConfigMap>> referencedConfigMaps = Future.join(referencedConfigMapNames.stream().map(name -> configMapOperations.getAsync(namespace, name)).toList())
+                .map(CompositeFuture::list);
+
+        return Future.join(List.of(nodePools, secrets, configMaps, podSets, pods, referencedSecrets, referencedConfigMaps))
+                .map(i -> {
+                    if (isCertificateRenewalDue(reconciliation, kafka, secrets.result())) {
+                        LOGGER.debugCr(reconciliation, "Certificate renewal period has started, the full reconciliation will run");
+                        return null;
+                    }
+
+                    StringBuilder material = new StringBuilder();
+                    appendDefinition(material, kafka, kafka.getSpec());
+                    nodePools.result().stream()
+                            .sorted(Comparator.comparing(pool -> pool.getMetadata().getName()))
+                            .forEach(pool -> appendDefinition(material, pool, pool.getSpec()));
+                    appendResourceVersions(material, secrets.result());
+                    appendResourceVersions(material, configMaps.result());
+                    appendResourceVersions(material, podSets.result());
+                    appendResourceVersions(material, pods.result());
+                    appendReferencedResourceVersions(material, "Secret", referencedSecretNames, referencedSecrets.result());
+                    appendReferencedResourceVersions(material, "ConfigMap", referencedConfigMapNames, referencedConfigMaps.result());
+
+                    return String.format("%040x", new BigInteger(1, Util.sha1Digest(material.toString().getBytes(StandardCharsets.UTF_8))));
+                });
+    }
+
+    /**
+     * Collects the names of the Secrets and ConfigMaps referenced from the Kafka custom resource. The references are
+     * found by their field names, which are shared by all the API types referencing Secrets (secretName and
+     * secretKeyRef) and ConfigMaps (configMapKeyRef and the configMap volumes in the templates).
+     *
+     * @param node              The JSON tree of the Kafka custom resource spec or of its part
+     * @param secretNames       Set to which the names of the referenced Secrets are added
+     * @param configMapNames    Set to which the names of the referenced ConfigMaps are added
+     */
+    /* test */ static void collectReferences(JsonNode node, Set<String> secretNames, Set<String> configMapNames) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isArray()) {
+            node.forEach(element -> collectReferences(element, secretNames, configMapNames));
+        } else if (node.isObject()) {
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+
+                switch (field.getKey()) {
+                    case "secretName" -> {
+                        if (value.isTextual()) {
+                            secretNames.add(value.asText());
+                        }
+                    }
+                    case "secretKeyRef" -> addReferencedName(value, secretNames);
+                    case "configMapKeyRef", "configMap" -> addReferencedName(value, configMapNames);
+                    default -> collectReferences(value, secretNames, configMapNames);
+                }
+            });
+        }
+    }
+
+    private static void addReferencedName(JsonNode reference, Set<String> names) {
+        if (reference.path("name").isTextual()) {
+            names.add(reference.path("name").asText());
+        }
+    }
+
+    /**
+     * Checks whether any of the certificates in the Secrets of the cluster is in its renewal period. The certificates
+     * which cannot be parsed are ignored.
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafka             The Kafka custom resource
+     * @param secrets           Secrets of the cluster
+     *
+     * @return  True if any certificate is in its renewal period. False otherwise.
+     */
+    private boolean isCertificateRenewalDue(Reconciliation reconciliation, Kafka kafka, List<Secret> secrets) {
+        String clientsCaCertSecretName = KafkaResources.clientsCaCertificateSecretName(reconciliation.name());
+        int clusterCaRenewalDays = ModelUtils.getRenewalDays(kafka.getSpec().getClusterCa());
+        int clientsCaRenewalDays = ModelUtils.getRenewalDays(kafka.getSpec().getClientsCa());
+        Instant now = clock.instant();
+
+        for (Secret secret : secrets) {
+            if (secret.getData() == null) {
+                continue;
+            }
+
+            // All certificates of the cluster except the clients CA are renewed according to the cluster CA
+            int renewalDays = clientsCaCertSecretName.equals(secret.getMetadata().getName()) ? clientsCaRenewalDays : clusterCaRenewalDays;
+
+            for (String key : secret.getData().keySet()) {
+                if (key.endsWith(".crt")) {
+                    try {
+                        X509Certificate cert = Ca.cert(secret, key);
+
+                        if (cert != null && now.isAfter(cert.getNotAfter().toInstant().minus(renewalDays, ChronoUnit.DAYS))) {
+                            return true;
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.debugCr(reconciliation, "Failed to parse certificate {} in Secret {}", key, secret.getMetadata().getName(), e);
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static void appendDefinition(StringBuilder material, HasMetadata resource, Object spec) {
+        try {
+            material.append(resource.getKind()).append('/').append(resource.getMetadata().getName()).append('\n')
+                    .append(FINGERPRINT_MAPPER.writeValueAsString(spec)).append('\n')
+                    .append(sorted(resource.getMetadata().getLabels())).append('\n')
+                    .append(sorted(resource.getMetadata().getAnnotations())).append('\n');
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize the spec of " + resource.getKind() + " " + resource.getMetadata().getName(), e);
+        }
+    }
+
+    private static Map<String, String> sorted(Map<String, String> labelsOrAnnotations) {
+        return labelsOrAnnotations != null ? new TreeMap<>(labelsOrAnnotations) : Map.of();
+    }
+
+    private static void appendResourceVersions(StringBuilder material, List<? extends HasMetadata> resources) {
+        resources.stream()
+                .map(resource -> resource.getKind() + "/" + resource.getMetadata().getName() + "@" + resource.getMetadata().getResourceVersion())
+                .sorted()
+                .forEach(resource -> material.append(resource).append('\n'));
+    }
+
+    private static void appendReferencedResourceVersions(StringBuilder material, String kind, Set<String> names, List<? extends HasMetadata> resources) {
+        // The names are sorted and the resources are in the same order, with null for the missing resources
+        int index = 0;
+        for (String name : names) {
+            HasMetadata resource = resources.get(index++);
+            material.append(kind).append('/').append(name).append('@')
+                    .append(resource != null ? resource.getMetadata().getResourceVersion() : "missing").append('\n');
+        }
+    }
+
     /**
      * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
      *
@@ -152,6 +152,17 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info} to get all connectors together with
+     * their status and configuration in a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map with the {@code status} and {@code info} objects of each connector keyed by the connector name.
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
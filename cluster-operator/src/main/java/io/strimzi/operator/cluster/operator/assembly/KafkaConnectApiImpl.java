@@ -8,8 +8,10 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -19,6 +21,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.DecodeException;
@@ -36,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -48,11 +52,45 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<>() { };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClientPool httpClientPool;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param httpClientPool    Pool of long-lived HTTP clients or null to use a new HTTP client for each request
+     */
+    public KafkaConnectApiImpl(Vertx vertx, HttpClientPool httpClientPool) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
+    }
+
+    /**
+     * Creates a provider of Kafka Connect REST API clients which share a pool of long-lived HTTP clients.
+     *
+     * @param vertx             Vert.x instance
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  Provider of Kafka Connect REST API clients
+     */
+    static Function<Vertx, KafkaConnectApi> pooledProvider(Vertx vertx, MetricsProvider metricsProvider) {
+        HttpClientPool httpClientPool = new HttpClientPool(vertx, "KafkaConnect", metricsProvider);
+        return v -> new KafkaConnectApiImpl(v, httpClientPool);
+    }
+
+    private <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(host, port, "", () -> new HttpClientOptions().setLogActivity(true), operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), operation);
+        }
     }
 
     @Override
@@ -64,7 +102,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -114,7 +152,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -168,7 +206,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -292,7 +330,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> updateState(Reconciliation reconciliation, String host, int port, String path, int expectedStatusCode) {
         LOGGER.debugCr(reconciliation, "Making PUT request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -321,7 +359,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> list(Reconciliation reconciliation, String host, int port) {
         String path = "/connectors";
         LOGGER.debugCr(reconciliation, "Making GET request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -355,11 +393,18 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info",
+                Set.of(200),
+                MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -394,7 +439,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -429,7 +474,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -570,7 +615,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -608,7 +653,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -94,7 +94,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, KafkaConnectApiImpl.pooledProvider(vertx, supplier.metricsProvider));
     }
 
     /**
@@ -270,8 +270,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     @Override
-    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Handler<AsyncResult<Void>> handler) {
-        super.reconcileThese(trigger, desiredNames, namespace, ignore -> {
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Function<Reconciliation, Future<Void>> dispatcher, Handler<AsyncResult<Void>> handler) {
+        super.reconcileThese(trigger, desiredNames, namespace, dispatcher, ignore -> {
             List<String> connects = desiredNames.stream().map(NamespaceAndName::getName).collect(Collectors.toList());
             LabelSelectorRequirement requirement = new LabelSelectorRequirement(Labels.STRIMZI_CLUSTER_LABEL, "In", connects);
             LabelSelector connectorsSelector = new LabelSelector(List.of(requirement), null);
@@ -387,22 +387,22 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
             return Future.join(
-                    apiClient.list(reconciliation, host, port),
+                    connectorsSnapshot(reconciliation, host, apiClient),
                     connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())
             ).compose(cf -> {
-                List<String> runningConnectorNames = cf.resultAt(0);
+                ConnectorsSnapshot snapshot = cf.resultAt(0);
                 List<KafkaConnector> desiredConnectors = cf.resultAt(1);
 
-                Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+                Set<String> deleteConnectorNames = new HashSet<>(snapshot.names());
                 deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
                 LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
                 Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, snapshot)
                 );
 
                 LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
                 Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                        .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                        .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, snapshot));
 
                 return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
             }).recover(error -> {
@@ -427,6 +427,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -442,7 +447,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, snapshot)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -481,7 +486,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -499,7 +504,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, snapshot);
             }
         }
     }
@@ -29,6 +29,7 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.cruisecontrol.CruiseControlConfiguration;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -155,6 +156,8 @@ public class KafkaRebalanceAssemblyOperator
     private boolean usingJbodStorage;
     private final ConfigMapOperator configMapOperator;
     private int cruiseControlPort;
+    private final HttpClientPool cruiseControlHttpClientPool;
+    private final CruiseControlTaskTracker cruiseControlTaskTracker;
 
     /**
      * @param vertx The Vertx instance
@@ -185,6 +188,8 @@ public class KafkaRebalanceAssemblyOperator
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
         this.cruiseControlPort = cruiseControlPort;
+        this.cruiseControlHttpClientPool = new HttpClientPool(vertx, "CruiseControl", supplier.metricsProvider);
+        this.cruiseControlTaskTracker = new CruiseControlTaskTracker(vertx, cruiseControlPort, this::reconcile);
     }
 
     /**
@@ -198,7 +203,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, cruiseControlHttpClientPool);
     }
 
     /**
@@ -1036,6 +1041,7 @@ public class KafkaRebalanceAssemblyOperator
     /* test */ Future<KafkaRebalanceStatus> reconcileRebalance(Reconciliation reconciliation, KafkaRebalance kafkaRebalance) {
         if (kafkaRebalance == null) {
             LOGGER.infoCr(reconciliation, "KafkaRebalance resource deleted");
+            cruiseControlTaskTracker.untrack(reconciliation);
             return Future.succeededFuture();
         }
 
@@ -1139,13 +1145,35 @@ public class KafkaRebalanceAssemblyOperator
                                                 }
                                                 currentState = KafkaRebalanceState.valueOf(rebalanceStateType);
                                             }
-                                            return reconcile(reconciliation, cruiseControlHost(clusterName, clusterNamespace),
-                                                    apiClient, currentKafkaRebalance, currentState);
+                                            String host = cruiseControlHost(clusterName, clusterNamespace);
+                                            return reconcile(reconciliation, host, apiClient, currentKafkaRebalance, currentState)
+                                                    .onSuccess(status -> {
+                                                        if (isWaitingForUserTask(status)) {
+                                                            cruiseControlTaskTracker.track(reconciliation, host, apiClient, status.getSessionId());
+                                                        }
+                                                    });
                                         }, exception -> Future.failedFuture(exception));
                             });
                 }, exception -> Future.succeededFuture(updateStatus(kafkaRebalance, new KafkaRebalanceStatus(), exception)));
     }
 
+    /**
+     * Checks whether the KafkaRebalance is waiting for a Cruise Control user task to finish. Such tasks are tracked by
+     * the {@link CruiseControlTaskTracker} which triggers the reconciliation when the task changes its state.
+     *
+     * @param status    Status of the KafkaRebalance resource
+     *
+     * @return  True if the KafkaRebalance is waiting for the proposal or for the rebalance to finish. False otherwise.
+     */
+    private boolean isWaitingForUserTask(KafkaRebalanceStatus status) {
+        if (status == null || status.getSessionId() == null) {
+            return false;
+        }
+
+        String state = rebalanceStateConditionType(status);
+        return KafkaRebalanceState.PendingProposal.name().equals(state) || KafkaRebalanceState.Rebalancing.name().equals(state);
+    }
+
     private boolean isKafkaClusterReady(Kafka kafka) {
         return kafka.getStatus() != null
                 && kafka.getStatus().getConditions() != null
@@ -1359,7 +1387,12 @@ public class KafkaRebalanceAssemblyOperator
 
     @Override
     protected Future<KafkaRebalanceStatus> createOrUpdate(Reconciliation reconciliation, KafkaRebalance resource) {
-        return reconcileRebalance(reconciliation, resource);
+        return reconcileRebalance(reconciliation, resource)
+                .onComplete(result -> {
+                    if (result.failed() || !isWaitingForUserTask(result.result())) {
+                        cruiseControlTaskTracker.untrack(reconciliation);
+                    }
+                });
     }
 
     @Override
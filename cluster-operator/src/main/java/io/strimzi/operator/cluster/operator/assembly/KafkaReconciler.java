@@ -68,6 +68,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOpe
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -148,6 +149,8 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
     private final AdminClientProvider adminClientProvider;
     private final KafkaAgentClientProvider kafkaAgentClientProvider;
+    private final MetricsProvider metricsProvider;
+    private final int kafkaRollerMaxBatchSize;
 
     // State of the reconciliation => these objects might change during the reconciliation (the collection objects are
     // marked as final, but their contents is modified during the reconciliation)
@@ -230,6 +233,8 @@ public class KafkaReconciler {
 
         this.adminClientProvider = supplier.adminClientProvider;
         this.kafkaAgentClientProvider = supplier.kafkaAgentClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
     }
 
@@ -247,18 +252,22 @@ public class KafkaReconciler {
         return modelWarnings(kafkaStatus)
                 .compose(i -> initClientAuthenticationCertificates())
                 .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
+                .compose(i -> new ReconcilerStages(reconciliation, metricsProvider)
+                        // Resources which do not depend on the other steps run in parallel with them
+                        .stage("networkPolicy", this::networkPolicy)
+                        .stage("serviceAccount", this::serviceAccount)
+                        .stage("initClusterRoleBinding", this::initClusterRoleBinding, "serviceAccount")
+                        .stage("jmxSecret", this::jmxSecret)
+                        .stage("podDisruptionBudget", this::podDisruptionBudget)
+                        // Steps which roll or scale the pods and the steps which need the listener addresses
+                        .stage("manualRollingUpdate", this::manualRollingUpdate, "networkPolicy")
+                        .stage("pvcs", () -> pvcs(kafkaStatus), "manualRollingUpdate")
+                        .stage("scaleDown", this::scaleDown, "pvcs")
+                        .stage("nodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                        .stage("listeners", this::listeners, "nodePoolStatuses")
+                        .stage("certificateSecret", () -> certificateSecret(clock), "listeners")
+                        .stage("brokerConfiguration", this::brokerConfigurationConfigMaps, "listeners")
+                        .run())
                 .compose(i -> migrateFromStatefulSetToPodSet())
                 .compose(i -> podSet())
                 .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
@@ -465,7 +474,9 @@ public class KafkaReconciler {
                     logging,
                     kafka.getKafkaVersion(),
                     allowReconfiguration,
-                    eventsPublisher
+                    eventsPublisher,
+                    kafkaRollerMaxBatchSize,
+                    metricsProvider
             ).rollingRestart(podNeedsRestart);
     }
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Spreads the periodic reconciliations of the custom resources evenly across the reconciliation interval. Each
+ * resource gets a stable phase offset within the interval derived from its kind, namespace and name. So every resource
+ * is still reconciled once per interval, but the resources do not all start reconciling at the same instant.
+ *
+ * The number of periodic reconciliations running in parallel is limited per kind. The reconciliations which exceed
+ * the limit wait in a queue. A resource which is still waiting from the previous interval is not scheduled again.
+ * The number of scheduled and running reconciliations and the lag between the planned and the actual start of the
+ * reconciliations are exposed as metrics.
+ */
+public class PeriodicReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class);
+
+    /**
+     * Metric name for the number of periodic reconciliations which are scheduled but did not start yet
+     */
+    public static final String METRICS_SCHEDULED = MetricsHolder.METRICS_PREFIX + "reconciliations.periodic.scheduled";
+
+    /**
+     * Metric name for the number of periodic reconciliations in progress
+     */
+    public static final String METRICS_RUNNING = MetricsHolder.METRICS_PREFIX + "reconciliations.periodic.running";
+
+    /**
+     * Metric name for the lag between the planned and the actual start of the periodic reconciliations
+     */
+    public static final String METRICS_LAG = MetricsHolder.METRICS_PREFIX + "reconciliations.periodic.lag";
+
+    private final Vertx vertx;
+    private final long intervalMs;
+    private final int maxConcurrentReconciliations;
+    private final MetricsProvider metricsProvider;
+    private final Map<String, KindQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx                         Vert.x instance
+     * @param intervalMs                    Interval of the periodic reconciliations across which they are spread
+     * @param maxConcurrentReconciliations  Maximal number of periodic reconciliations of the same kind running in parallel
+     * @param metricsProvider               Metrics provider
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, long intervalMs, int maxConcurrentReconciliations, MetricsProvider metricsProvider) {
+        this.vertx = vertx;
+        this.intervalMs = intervalMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Triggers the periodic reconciliation of all resources of the operator. The reconciliations are spread across
+     * the reconciliation interval.
+     *
+     * @param trigger       The cause of this reconciliation (for logging)
+     * @param operator      Operator which should reconcile the resources
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     */
+    public void reconcileAll(String trigger, Operator operator, String namespace) {
+        operator.reconcileAll(trigger, namespace, reconciliation -> schedule(operator, reconciliation), ignored -> { });
+    }
+
+    /**
+     * Schedules the reconciliation at the phase offset of the resource within the reconciliation interval.
+     *
+     * @param operator          Operator which should reconcile the resource
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    /* test */ Future<Void> schedule(Operator operator, Reconciliation reconciliation) {
+        KindQueue queue = queues.computeIfAbsent(operator.kind(), KindQueue::new);
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+
+        if (!queue.add(key)) {
+            LOGGER.debugCr(reconciliation, "Periodic reconciliation of {} {} is still waiting from the previous interval", operator.kind(), key);
+            return Future.succeededFuture();
+        }
+
+        Promise<Void> result = Promise.promise();
+        long offsetMs = phaseOffsetMs(operator.kind(), reconciliation.namespace(), reconciliation.name());
+        long plannedStartNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offsetMs);
+        Runnable task = () -> queue.enqueue(() -> {
+            long lagNs = Math.max(0, System.nanoTime() - plannedStartNs);
+            queue.lag.record(lagNs, TimeUnit.NANOSECONDS);
+            queue.remove(key);
+
+            return operator.reconcile(reconciliation).onComplete(result);
+        });
+
+        if (offsetMs > 0) {
+            vertx.setTimer(offsetMs, timerId -> task.run());
+        } else {
+            task.run();
+        }
+
+        return result.future();
+    }
+
+    /**
+     * Calculates the phase offset of the resource. The offset is stable for the same resource, so each resource is
+     * reconciled once per interval.
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Offset from the beginning of the reconciliation interval in milliseconds
+     */
+    /* test */ long phaseOffsetMs(String kind, String namespace, String name) {
+        if (intervalMs <= 0) {
+            return 0;
+        }
+
+        return Math.floorMod((long) (kind + "/" + namespace + "/" + name).hashCode() * 2_654_435_761L, intervalMs);
+    }
+
+    /**
+     * Queue of the periodic reconciliations of a single kind
+     */
+    private class KindQueue {
+        private final Set<String> scheduledKeys = new HashSet<>();
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private final AtomicInteger scheduled;
+        private final AtomicInteger running;
+        private final Timer lag;
+
+        KindQueue(String kind) {
+            Tags tags = Tags.of("kind", kind);
+            this.scheduled = metricsProvider.gauge(METRICS_SCHEDULED, "Number of periodic reconciliations which are scheduled but did not start yet", tags);
+            this.running = metricsProvider.gauge(METRICS_RUNNING, "Number of periodic reconciliations in progress", tags);
+            this.lag = metricsProvider.timer(METRICS_LAG, "Lag between the planned and the actual start of the periodic reconciliations", tags);
+        }
+
+        synchronized boolean add(String key) {
+            if (scheduledKeys.add(key)) {
+                scheduled.set(scheduledKeys.size());
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        synchronized void remove(String key) {
+            scheduledKeys.remove(key);
+            scheduled.set(scheduledKeys.size());
+        }
+
+        void enqueue(Supplier<Future<Void>> reconciliation) {
+            Runnable task = () -> {
+                Future<Void> future;
+                try {
+                    future = reconciliation.get();
+                } catch (RuntimeException e) {
+                    future = Future.failedFuture(e);
+                }
+
+                future.onComplete(res -> completed());
+            };
+
+            boolean runNow;
+            synchronized (this) {
+                runNow = maxConcurrentReconciliations <= 0 || running.get() < maxConcurrentReconciliations;
+                if (runNow) {
+                    running.incrementAndGet();
+                } else {
+                    waiting.add(task);
+                }
+            }
+
+            if (runNow) {
+                task.run();
+            }
+        }
+
+        private void completed() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running.decrementAndGet();
+                }
+            }
+
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
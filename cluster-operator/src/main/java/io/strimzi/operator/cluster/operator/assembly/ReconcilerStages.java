@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Graph of the stages of a reconciliation with the dependencies between them. Each stage is started once all the
+ * stages it depends on completed successfully. The stages which do not depend on each other therefore run
+ * concurrently. When a stage fails, the stages depending on it are not started and the graph fails with the error once
+ * the stages already in progress complete.
+ *
+ * The stages have to be added after the stages they depend on, so the graph cannot contain cycles. The duration of
+ * each stage is recorded in a timer tagged with the kind of the reconciled resource and the name of the stage.
+ */
+public class ReconcilerStages {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconcilerStages.class);
+
+    /**
+     * Metric name for the duration of the reconciliation stages
+     */
+    public static final String METRICS_STAGE_DURATION = MetricsHolder.METRICS_PREFIX + "reconciliation.stage.duration";
+
+    private final Reconciliation reconciliation;
+    private final MetricsProvider metricsProvider;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metricsProvider   Metrics provider used for the stage timers
+     */
+    public ReconcilerStages(Reconciliation reconciliation, MetricsProvider metricsProvider) {
+        this.reconciliation = reconciliation;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Adds a stage to the graph.
+     *
+     * @param name          Name of the stage
+     * @param operation     Supplier of the stage operation
+     * @param dependsOn     Names of the stages which have to complete before this stage starts
+     *
+     * @return  This graph to allow chaining
+     */
+    public ReconcilerStages stage(String name, Supplier<Future<Void>> operation, String... dependsOn) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Stage " + name + " is already defined");
+        }
+
+        for (String dependency : dependsOn) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Stage " + name + " depends on stage " + dependency + " which is not defined");
+            }
+        }
+
+        stages.put(name, new Stage(name, operation, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Runs the stages
+     *
+     * @return  Future which completes when all stages complete. It fails if any of the stages failed.
+     */
+    public Future<Void> run() {
+        Map<String, Future<Void>> results = new LinkedHashMap<>();
+
+        for (Stage stage : stages.values()) {
+            List<Future<Void>> dependencies = new ArrayList<>(stage.dependsOn().size());
+            stage.dependsOn().forEach(dependency -> dependencies.add(results.get(dependency)));
+
+            results.put(stage.name(), Future.all(dependencies).compose(i -> runStage(stage)));
+        }
+
+        return Future.join(new ArrayList<>(results.values())).mapEmpty();
+    }
+
+    private Future<Void> runStage(Stage stage) {
+        LOGGER.debugCr(reconciliation, "Starting reconciliation stage {}", stage.name());
+        Timer.Sample sample = Timer.start();
+
+        Future<Void> result;
+        try {
+            result = stage.operation().get();
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.onComplete(res -> {
+            long durationNs = sample.stop(metricsProvider.timer(METRICS_STAGE_DURATION, "Time spent in the stages of the reconciliation",
+                    Tags.of("kind", reconciliation.kind(), "stage", stage.name())));
+            LOGGER.debugCr(reconciliation, "Reconciliation stage {} {} after {}ms", stage.name(), res.succeeded() ? "completed" : "failed", durationNs / 1_000_000L);
+        });
+    }
+
+    private record Stage(String name, Supplier<Future<Void>> operation, List<String> dependsOn) { }
+}
@@ -41,18 +41,19 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +68,7 @@ public class StrimziPodSetController implements Runnable {
             .build();
 
     private final Thread controllerThread;
+    private final List<Thread> workerThreads = new ArrayList<>();
 
     private volatile boolean stop = false;
 
@@ -76,7 +78,7 @@ public class StrimziPodSetController implements Runnable {
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final ControllerQueue[] workQueues;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -114,15 +116,55 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller with multiple workers. The StrimziPodSets are split into shards based on
+     * their namespace and name. Each shard has its own work queue and worker thread. So the same StrimziPodSet is never
+     * reconciled concurrently while different StrimziPodSets can be reconciled in parallel.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the work queue of each shard
+     * @param podSetControllerWorkers       Number of worker threads (and shards) used by the controller
+     */
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
-        this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.metrics = new ControllerMetricsHolder(StrimziPodSet.RESOURCE_KIND, crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+
+        // Set up the work queues => one per shard
+        this.workQueues = new ControllerQueue[podSetControllerWorkers];
+        for (int shard = 0; shard < podSetControllerWorkers; shard++) {
+            ControllerQueue workQueue = new ControllerQueue(podSetControllerWorkQueueSize, this.metrics);
+            this.metrics.shardQueuedReconciliationsGauge(watchedNamespace, shard, workQueue::size);
+            this.workQueues[shard] = workQueue;
+        }
 
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
@@ -184,6 +226,22 @@ public class StrimziPodSetController implements Runnable {
         InformerUtils.stopAll(5_000L, strimziPodSetInformer, podInformer, kafkaInformer, kafkaConnectInformer, kafkaMirrorMaker2Informer);
     }
 
+    /**
+     * Finds the work queue of the shard to which the StrimziPodSet belongs. The shard is derived from the namespace and
+     * name of the StrimziPodSet, so all events for the same StrimziPodSet end up in the same queue.
+     *
+     * @param reconciliation    Reconciliation identifying the StrimziPodSet
+     *
+     * @return  The work queue of the shard
+     */
+    /* test */ ControllerQueue workQueue(SimplifiedReconciliation reconciliation)  {
+        return workQueues[Math.floorMod(reconciliation.hashCode(), workQueues.length)];
+    }
+
+    private void enqueue(SimplifiedReconciliation reconciliation)   {
+        workQueue(reconciliation).enqueue(reconciliation);
+    }
+
     /**
      * Checks if the StrimziPodSet which should be enqueued matches the CR selector. If it does, it will enqueue the
      * reconciliation. This is used to enqueue reconciliations based on StrimziPodSet events.
@@ -195,7 +253,7 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            enqueue(new SimplifiedReconciliation(StrimziPodSet.RESOURCE_KIND, podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -218,7 +276,7 @@ public class StrimziPodSetController implements Runnable {
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                enqueue(new SimplifiedReconciliation(StrimziPodSet.RESOURCE_KIND, parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -351,11 +409,15 @@ public class StrimziPodSetController implements Runnable {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation succeeded. False if it failed and should be retried.
      */
-    private void reconcile(Reconciliation reconciliation)    {
+    private boolean reconcile(Reconciliation reconciliation)    {
         metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
 
+        boolean succeeded = true;
+
         try {
             String name = reconciliation.name();
             String namespace = reconciliation.namespace();
@@ -409,6 +471,7 @@ public class StrimziPodSetController implements Runnable {
                     LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
                     status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
                     metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
+                    succeeded = false;
                 } finally {
                     maybeUpdateStatus(reconciliation, podSet, status);
                     LOGGER.infoCr(reconciliation, "reconciled");
@@ -418,6 +481,8 @@ public class StrimziPodSetController implements Runnable {
             // Tasks after reconciliation
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
         }
+
+        return succeeded;
     }
 
     /**
@@ -529,23 +594,8 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
-     *
-     * @param reconciliation    Reconciliation identifier
-     */
-    private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
-    }
-
-    /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers and once they are in-sync, it starts the worker
+     * threads for the other shards and processes the first shard itself.
      */
     @Override
     public void run() {
@@ -559,21 +609,58 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
+        for (int shard = 1; shard < workQueues.length && !stop; shard++) {
+            ControllerQueue workQueue = workQueues[shard];
+            Thread workerThread = new Thread(() -> processWorkQueue(workQueue), "StrimziPodSetController-" + shard);
+            workerThreads.add(workerThread);
+            workerThread.start();
+        }
+
+        processWorkQueue(workQueues[0]);
+
+        LOGGER.infoOp("Stopping StrimziPodSet controller");
+
+        stopWorkers();
+        stopController();
+    }
+
+    /**
+     * Picks reconciliations from the work queue of one shard and executes them until the controller is stopped.
+     *
+     * @param workQueue     Work queue of the shard
+     */
+    private void processWorkQueue(ControllerQueue workQueue) {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation reconciliation = workQueue.take();
+
+                if (reconcile(reconciliation.toReconciliation())) {
+                    workQueue.forget(reconciliation);
+                } else {
+                    // The reconciliation failed => we re-queue it with a back-off
+                    workQueue.enqueueWithBackOff(reconciliation);
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
                 LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
             }
         }
+    }
 
-        LOGGER.infoOp("Stopping StrimziPodSet controller");
+    private void stopWorkers()  {
+        for (Thread workerThread : workerThreads) {
+            workerThread.interrupt();
+        }
 
-        stopController();
+        for (Thread workerThread : workerThreads) {
+            try {
+                workerThread.join();
+            } catch (InterruptedException e)    {
+                LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller worker {} to stop", workerThread.getName());
+            }
+        }
     }
 
     /**
@@ -609,67 +696,6 @@ public class StrimziPodSetController implements Runnable {
         int currentPods = 0;
     }
 
-    /**
-     * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
-     * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
-     * to detect if the same resource is already enqueued or not. It doesn't yet request the reconciliation ID. Not
-     * issuing the reconciliation ID right away makes the IDs more linear and means they are not requested unless a
-     * reconciliation really starts.
-     */
-    static class SimplifiedReconciliation    {
-        private final String namespace;
-        private final String name;
-
-        public SimplifiedReconciliation(String namespace, String name) {
-            this.namespace = namespace;
-            this.name = name;
-        }
-
-        /**
-         * Converts the simplified reconciliation to a proper reconciliation
-         *
-         * @return  Reconciliation object
-         */
-        public Reconciliation toReconciliation()    {
-            return new Reconciliation("watch", "StrimziPodSet", namespace, name);
-        }
-
-        /**
-         * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
-         * times.
-         *
-         * @param o     SimplifiedReconciliation to be compared
-         *
-         * @return      True if the objects equal, false otherwise
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)  {
-                return true;
-            } else if (o == null || getClass() != o.getClass())   {
-                return false;
-            } else {
-                SimplifiedReconciliation reconciliation = (SimplifiedReconciliation) o;
-
-                return this.name.equals(reconciliation.name)
-                        && this.namespace.equals(reconciliation.namespace);
-            }
-        }
-
-        /**
-         * Generates the hashcode based on the name and namespace hash codes.
-         *
-         * @return  The hashcode of this object
-         */
-        @Override
-        public int hashCode() {
-            int result = 17;
-            result = 31 * result + (name != null ? name.hashCode() : 0);
-            result = 31 * result + (namespace != null ? namespace.hashCode() : 0);
-            return result;
-        }
-    }
-
     /**
      * Event handler used in the StrimziPodSet informer which decides what to do with the incoming events.
      */
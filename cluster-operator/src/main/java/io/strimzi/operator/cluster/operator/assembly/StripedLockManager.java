@@ -0,0 +1,178 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Lock;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Local registry of asynchronous locks used to make sure that only one reconciliation of the same resource runs at the
+ * same time. It replaces the Vert.x shared-data locks for the locks which never need to be shared outside the operator
+ * process.
+ *
+ * The locks are kept in striped maps so that acquiring the locks of different resources does not contend on a single
+ * monitor. The state of a lock exists only while the lock is held. The waiters are queued in FIFO order and the lock is
+ * handed over directly to the next waiter when it is released, so the lock is fair and nothing is polling for it. Only
+ * the waiters get a timer to enforce the timeout.
+ *
+ * Same as with the Vert.x locks, the returned futures are completed on the context of the caller.
+ */
+class StripedLockManager {
+    /**
+     * Number of stripes
+     */
+    /* test */ static final int STRIPES = 64;
+
+    private final Vertx vertx;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance used for the timeouts
+     */
+    StripedLockManager(Vertx vertx) {
+        this.vertx = vertx;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Acquires the lock
+     *
+     * @param name          Name of the lock
+     * @param timeoutMs     Timeout in milliseconds
+     *
+     * @return  Future which completes with the lock once it is acquired or fails when it is not acquired within the
+     *          timeout
+     */
+    Future<Lock> acquire(String name, long timeoutMs) {
+        Context context = vertx.getOrCreateContext();
+        Stripe stripe = stripe(name);
+        Waiter waiter = null;
+
+        synchronized (stripe) {
+            Queue<Waiter> waiters = stripe.locks.get(name);
+
+            if (waiters == null) {
+                stripe.locks.put(name, new ArrayDeque<>(1));
+            } else {
+                waiter = new Waiter(context);
+                waiters.add(waiter);
+            }
+        }
+
+        if (waiter == null) {
+            Promise<Lock> promise = Promise.promise();
+            context.runOnContext(v -> promise.complete(new LocalLock(name)));
+            return promise.future();
+        } else {
+            Waiter timedWaiter = waiter;
+            timedWaiter.timerId = vertx.setTimer(timeoutMs, id -> timeout(name, timedWaiter));
+            return timedWaiter.promise.future();
+        }
+    }
+
+    /**
+     * @param name  Name of the lock
+     *
+     * @return  True if the lock is currently held. False otherwise.
+     */
+    /* test */ boolean isLocked(String name) {
+        Stripe stripe = stripe(name);
+
+        synchronized (stripe) {
+            return stripe.locks.containsKey(name);
+        }
+    }
+
+    private void release(String name) {
+        Stripe stripe = stripe(name);
+        Waiter next;
+
+        synchronized (stripe) {
+            Queue<Waiter> waiters = stripe.locks.get(name);
+            next = waiters != null ? waiters.poll() : null;
+
+            if (next == null) {
+                stripe.locks.remove(name);
+            }
+        }
+
+        if (next != null) {
+            Waiter granted = next;
+            vertx.cancelTimer(granted.timerId);
+            granted.context.runOnContext(v -> granted.promise.complete(new LocalLock(name)));
+        }
+    }
+
+    private void timeout(String name, Waiter waiter) {
+        Stripe stripe = stripe(name);
+        boolean removed;
+
+        synchronized (stripe) {
+            Queue<Waiter> waiters = stripe.locks.get(name);
+            removed = waiters != null && waiters.remove(waiter);
+        }
+
+        if (removed) {
+            waiter.context.runOnContext(v -> waiter.promise.fail("Timed out waiting to get lock " + name));
+        }
+    }
+
+    private Stripe stripe(String name) {
+        return stripes[Math.floorMod(name.hashCode(), STRIPES)];
+    }
+
+    /**
+     * Stripe holding the queues of waiters of the locks which are currently held
+     */
+    private static class Stripe {
+        private final Map<String, Queue<Waiter>> locks = new HashMap<>();
+    }
+
+    /**
+     * Caller waiting for a lock
+     */
+    private static class Waiter {
+        private final Context context;
+        private final Promise<Lock> promise = Promise.promise();
+        private volatile long timerId = -1L;
+
+        Waiter(Context context) {
+            this.context = context;
+        }
+    }
+
+    /**
+     * Acquired lock. Releasing it more than once has no effect.
+     */
+    private class LocalLock implements Lock {
+        private final String name;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        LocalLock(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                StripedLockManager.this.release(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Registry of long-lived HTTP clients, with one client for each target host and port. Each client keeps a pool of
+ * keep-alive connections to its target, so that the requests to the same REST API do not open a new TCP (and TLS)
+ * connection every time.
+ *
+ * Each client is created with a fingerprint of its options (for example of the trusted TLS certificates). When the
+ * fingerprint of a target changes, its client is replaced with a new one. The replaced clients and the clients which
+ * were not used for a while are closed after a grace period to let the requests in progress complete.
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+
+    /**
+     * Metric name for the duration of the HTTP requests
+     */
+    public static final String METRICS_REQUESTS = MetricsHolder.METRICS_PREFIX + "http.client.requests";
+
+    /**
+     * Metric name for the number of HTTP requests in progress
+     */
+    public static final String METRICS_REQUESTS_IN_FLIGHT = MetricsHolder.METRICS_PREFIX + "http.client.requests.inflight";
+
+    /**
+     * Metric name for the number of pooled HTTP clients
+     */
+    public static final String METRICS_CLIENTS = MetricsHolder.METRICS_PREFIX + "http.client.pool.clients";
+
+    private static final long IDLE_CLIENT_EXPIRY_NS = 600_000_000_000L;
+    private static final long CLOSE_GRACE_PERIOD_MS = 60_000L;
+
+    private final Vertx vertx;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private final Timer requestsTimer;
+    private final AtomicInteger requestsInFlight;
+    private final AtomicInteger clientsGauge;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param type              Type of the REST API used to tag the metrics (for example KafkaConnect)
+     * @param metricsProvider   Metrics provider
+     */
+    public HttpClientPool(Vertx vertx, String type, MetricsProvider metricsProvider) {
+        this.vertx = vertx;
+
+        Tags tags = Tags.of("type", type);
+        this.requestsTimer = metricsProvider.timer(METRICS_REQUESTS, "The time the HTTP requests to the REST APIs take", tags);
+        this.requestsInFlight = metricsProvider.gauge(METRICS_REQUESTS_IN_FLIGHT, "Number of HTTP requests to the REST APIs in progress", tags);
+        this.clientsGauge = metricsProvider.gauge(METRICS_CLIENTS, "Number of pooled HTTP clients", tags);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client for the target. Unlike
+     * {@link HttpClientUtils#withHttpClient(Vertx, HttpClientOptions, BiConsumer)}, the client is not closed
+     * afterwards.
+     *
+     * @param host          Target host
+     * @param port          Target port
+     * @param fingerprint   Fingerprint of the client options. A client with a different fingerprint is replaced.
+     * @param options       Supplier of the client options used when a new client is created
+     * @param operation     The operation to perform
+     * @param <T>           The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(String host, int port, String fingerprint, Supplier<HttpClientOptions> options, BiConsumer<HttpClient, Promise<T>> operation) {
+        HttpClient httpClient = client(host, port, fingerprint, options);
+        Timer.Sample sample = Timer.start();
+        requestsInFlight.incrementAndGet();
+
+        Promise<T> promise = Promise.promise();
+        try {
+            operation.accept(httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(res -> {
+                    requestsInFlight.decrementAndGet();
+                    sample.stop(requestsTimer);
+                });
+    }
+
+    /**
+     * Returns the pooled HTTP client for the target, creating or replacing it when needed.
+     *
+     * @param host          Target host
+     * @param port          Target port
+     * @param fingerprint   Fingerprint of the client options
+     * @param options       Supplier of the client options used when a new client is created
+     *
+     * @return  The HTTP client
+     */
+    /* test */ HttpClient client(String host, int port, String fingerprint, Supplier<HttpClientOptions> options) {
+        long now = System.nanoTime();
+        closeIdleClients(now);
+
+        PooledClient pooled = clients.compute(host + ":" + port, (target, existing) -> {
+            if (existing != null && existing.fingerprint.equals(fingerprint)) {
+                existing.lastUsedNanos = now;
+                return existing;
+            } else {
+                if (existing != null) {
+                    LOGGER.debugOp("Replacing the HTTP client for {} after its options changed", target);
+                    closeLater(existing.client);
+                }
+
+                return new PooledClient(vertx.createHttpClient(options.get().setKeepAlive(true)), fingerprint, now);
+            }
+        });
+
+        clientsGauge.set(clients.size());
+        return pooled.client;
+    }
+
+    /**
+     * @return  Number of the pooled HTTP clients
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    /**
+     * Closes all pooled HTTP clients.
+     */
+    public void close() {
+        clients.values().forEach(pooled -> pooled.client.close());
+        clients.clear();
+        clientsGauge.set(0);
+    }
+
+    private void closeIdleClients(long now) {
+        clients.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().lastUsedNanos > IDLE_CLIENT_EXPIRY_NS) {
+                LOGGER.debugOp("Closing the idle HTTP client for {}", entry.getKey());
+                closeLater(entry.getValue().client);
+                return true;
+            } else {
+                return false;
+            }
+        });
+    }
+
+    private void closeLater(HttpClient client) {
+        vertx.setTimer(CLOSE_GRACE_PERIOD_MS, id -> client.close());
+    }
+
+    private static class PooledClient {
+        private final HttpClient client;
+        private final String fingerprint;
+        private volatile long lastUsedNanos;
+
+        PooledClient(HttpClient client, String fingerprint, long lastUsedNanos) {
+            this.client = client;
+            this.fingerprint = fingerprint;
+            this.lastUsedNanos = lastUsedNanos;
+        }
+    }
+}
@@ -16,13 +16,23 @@ import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Creates HTTP client and interacts with Kafka Agent's REST endpoint
@@ -33,6 +43,7 @@ public class KafkaAgentClient {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private static final String BROKER_STATE_REST_PATH = "/v1/broker-state/";
+    private static final String BROKER_STATE_STREAM_REST_PATH = "/v1/broker-state/stream";
     private static final String KRAFT_MIGRATION_PATH = "/v1/kraft-migration/";
     private static final int KAFKA_AGENT_HTTPS_PORT = 8443;
     private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
@@ -119,6 +130,56 @@ public class KafkaAgentClient {
         }
     }
 
+    /**
+     * Sends HTTP request to a streaming endpoint and returns the lines of the response as they arrive. The returned
+     * stream has to be closed to close the connection. The connection is also closed when the timeout expires, even
+     * if no further lines arrive, so that reading from the stream cannot block for longer than the timeout.
+     *
+     * @param uri       URI of the streaming endpoint
+     * @param timeoutMs Maximal time in milliseconds for which the response is read
+     *
+     * @return  Stream with the lines of the response
+     */
+    Stream<String> doGetLines(URI uri, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        try {
+            HttpRequest req = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .GET()
+                    .build();
+
+            var response = httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = response.body();
+            if (response.statusCode() != 200) {
+                body.close();
+                throw new RuntimeException("Unexpected HTTP status code: " + response.statusCode());
+            }
+
+            // The request timeout covers only the response headers. The body is closed from another thread when the
+            // deadline is reached, which makes the blocked read of the next line fail.
+            CompletableFuture<Void> closeOnTimeout = CompletableFuture.runAsync(() -> closeQuietly(body),
+                    CompletableFuture.delayedExecutor(Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS));
+
+            return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)).lines()
+                    .onClose(() -> {
+                        closeOnTimeout.cancel(false);
+                        closeQuietly(body);
+                    });
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException("Failed to send HTTP request to Kafka Agent", e);
+        }
+    }
+
+    private void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            LOGGER.debugCr(reconciliation, "Failed to close the HTTP response from Kafka Agent", e);
+        }
+    }
+
     /**
      * Gets broker state by sending HTTP request to the /v1/broker-state endpoint of the KafkaAgent
      *
@@ -143,6 +204,76 @@ public class KafkaAgentClient {
         return brokerstate;
     }
 
+    /**
+     * Waits for the broker to complete the log recovery by subscribing to the /v1/broker-state/stream endpoint of the
+     * KafkaAgent. The KafkaAgent pushes the broker state and the recovery progress every time they change, so the end
+     * of the recovery is detected right away without polling the broker state.
+     *
+     * @param podName   Name of the pod to interact with
+     * @param timeoutMs Maximal time to wait in milliseconds
+     *
+     * @return The last received BrokerState. -1 is returned for broker state if the http request failed or returned
+     *         non 200 response.
+     */
+    public BrokerState awaitBrokerRecovery(String podName, long timeoutMs) {
+        BrokerState brokerState = new BrokerState(-1, null);
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        try {
+            URI uri = new URI("https", null, host, KAFKA_AGENT_HTTPS_PORT, BROKER_STATE_STREAM_REST_PATH, "timeoutMs=" + timeoutMs, null);
+
+            try (Stream<String> lines = doGetLines(uri, timeoutMs)) {
+                Iterator<String> iterator = lines.iterator();
+
+                while (hasNextLine(iterator, deadline)) {
+                    String line = iterator.next();
+
+                    if (line.startsWith("data:")) {
+                        brokerState = MAPPER.readValue(line.substring("data:".length()).trim(), BrokerState.class);
+
+                        if (!brokerState.isBrokerInRecovery()) {
+                            break;
+                        }
+
+                        LOGGER.debugCr(reconciliation, "Pod {} is recovering logs. There are {} logs and {} segments left to recover.", podName, brokerState.remainingLogsToRecover(), brokerState.remainingSegmentsToRecover());
+                    } else if (line.startsWith("{")) {
+                        // Older Kafka Agents without the stream endpoint return the current broker state instead
+                        brokerState = MAPPER.readValue(line, BrokerState.class);
+                        break;
+                    }
+
+                    if (System.currentTimeMillis() >= deadline) {
+                        break;
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            LOGGER.warnCr(reconciliation, "Failed to parse broker state", e);
+        } catch (URISyntaxException e) {
+            LOGGER.warnCr(reconciliation, "Failed to get broker state due to invalid URI", e);
+        } catch (RuntimeException e) {
+            LOGGER.warnCr(reconciliation, "Failed to get broker state", e);
+        }
+        return brokerState;
+    }
+
+    /**
+     * Checks if the next line of the stream is available. Failing to read the next line because the stream was closed
+     * when the deadline was reached is not an error, the waiting just ends.
+     */
+    private boolean hasNextLine(Iterator<String> iterator, long deadline) {
+        try {
+            return iterator.hasNext();
+        } catch (UncheckedIOException e) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+
+            throw e;
+        }
+    }
+
     /**
      * Gets ZooKeeper to KRaft migration state by sending HTTP request to the /v1/kraft-migration endpoint of the KafkaAgent
      *
@@ -18,11 +18,15 @@ import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,131 +34,347 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>The topic partitions are kept in an index which maps each broker to the topics it hosts and keeps the replicas and
+ * ISR of each partition as arrays of broker IDs. The index is built by describing all topics on the first call to
+ * {@link #canRoll(int)}. The following calls only describe the topics with replicas on the broker being evaluated
+ * (their ISR might have changed after the previous broker was rolled) and the topics created in the meantime. The
+ * {@code min.in.sync.replicas} configuration is loaded once for each topic when it is first needed. One instance is
+ * expected to be used for the whole rolling update.</p>
+ *
+ * <p>The index can also be used to find groups of brokers which can be rolled at the same time. A group of brokers can
+ * be rolled when none of the partitions with a replica on these brokers would drop below its
+ * {@code min.in.sync.replicas} after removing all of them from the ISR.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    private static final int NO_MIN_ISR = -1;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, PartitionState[]> partitionsByTopic = new HashMap<>();
+    private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+    private final Map<String, Integer> minIsrByTopic = new HashMap<>();
+
+    // Indicates whether the index was built successfully
+    private boolean loaded = false;
+    // Indicates whether the index was already used for some broker and has to be refreshed before the next use
+    private boolean stale = false;
+    // The last update of the index. The updates are chained so that they never run in parallel.
+    private Future<?> lastUpdate = Future.succeededFuture();
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
      * Determine whether the given broker can be rolled without affecting
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
-    Future<Boolean> canRoll(int podId) {
+    synchronized Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
-    }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
-                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+        return update(Set.of(podId), () -> canRollBrokers(Set.of(podId)))
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
                     return Future.failedFuture(error);
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+    /**
+     * Finds the brokers which can be rolled together with the first of the candidates. The candidates are considered
+     * in the given order and each of them is added to the batch only when the whole batch can be rolled at the same time.
+     * The first candidate is always part of the batch, because whether it can be rolled on its own is checked
+     * separately before it is rolled.
+     *
+     * @param candidates    IDs of the brokers which should be considered for the batch
+     * @param maxBatchSize  Maximal number of brokers in the batch
+     *
+     * @return  Future with the IDs of the brokers in the batch
+     */
+    synchronized Future<List<Integer>> rollableBatch(List<Integer> candidates, int maxBatchSize) {
+        LOGGER.debugCr(reconciliation, "Determining which of the brokers {} can be rolled together", candidates);
+
+        return update(Set.copyOf(candidates), () -> {
+            List<Integer> batch = new ArrayList<>(maxBatchSize);
+            batch.add(candidates.get(0));
+
+            for (Integer candidate : candidates.subList(1, candidates.size())) {
+                if (batch.size() >= maxBatchSize) {
+                    break;
+                }
+
+                Set<Integer> group = new HashSet<>(batch);
+                group.add(candidate);
+
+                if (canRollBrokers(group)) {
+                    batch.add(candidate);
+                }
             }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
+
+            return batch;
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+    private <T> Future<T> update(Set<Integer> podIds, Supplier<T> check) {
+        Future<T> result = lastUpdate
+                .transform(ignored -> updateIndex(podIds))
+                .map(v -> check.get());
+        lastUpdate = result;
+
+        return result;
+    }
+
+    private Future<Void> updateIndex(Set<Integer> podIds) {
+        Future<Void> partitions;
+
+        if (!loaded) {
+            partitions = loadIndex();
+        } else if (stale) {
+            partitions = refreshIndex(podIds);
         } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            partitions = Future.succeededFuture();
         }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    if (LOGGER.isInfoEnabled()) {
-                        String msg;
-                        if (contains(isr, broker)) {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
-                                                          "so should not be restarted right now (it would impact consumers).";
-                        } else {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
-                                                          "so should not be restarted right now (it might be first to catch up).";
+        return partitions
+                .compose(v -> loadMinIsr(topicsOn(podIds)));
+    }
+
+    private Set<String> topicsOn(Set<Integer> podIds) {
+        Set<String> topics = new HashSet<>();
+
+        for (Integer podId : podIds) {
+            topics.addAll(topicsByBroker.getOrDefault(podId, Set.of()));
+        }
+
+        return topics;
+    }
+
+    private Future<Void> loadIndex() {
+        // 1. Get all topic names
+        return topicNames()
+                // 2. Get topic descriptions
+                .compose(names -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+                    LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                    return describeTopics(names);
+                })
+                // 3. Index the partitions by broker
+                .map(topicDescriptions -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
+                    partitionsByTopic.clear();
+                    topicsByBroker.clear();
+                    minIsrByTopic.clear();
+                    topicDescriptions.forEach(this::indexTopic);
+                    loaded = true;
+                    stale = false;
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    private Future<Void> refreshIndex(Set<Integer> podIds) {
+        return topicNames()
+                .compose(names -> {
+                    Set<String> toDescribe = new HashSet<>();
+
+                    for (String topic : Set.copyOf(partitionsByTopic.keySet())) {
+                        if (!names.contains(topic)) {
+                            removeTopic(topic);
                         }
-                        LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                     }
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+
+                    for (String topic : names) {
+                        if (!partitionsByTopic.containsKey(topic)) {
+                            toDescribe.add(topic);
                         }
-                        return true;
+                    }
+
+                    toDescribe.addAll(topicsOn(podIds));
+
+                    if (toDescribe.isEmpty()) {
+                        return Future.succeededFuture(List.<TopicDescription>of());
                     } else {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
-                        }
+                        LOGGER.debugCr(reconciliation, "Refreshing descriptions of {} topics", toDescribe.size());
+                        return describeTopics(toDescribe);
+                    }
+                })
+                .map(topicDescriptions -> {
+                    topicDescriptions.forEach(this::indexTopic);
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "failed to refresh topic descriptions", error);
+                    // The next call will rebuild the whole index
+                    loaded = false;
+                    return Future.failedFuture(error);
+                });
+    }
+
+    private void indexTopic(TopicDescription td) {
+        LOGGER.traceCr(reconciliation, td);
+        unindexTopic(td.name());
+
+        PartitionState[] partitions = new PartitionState[td.partitions().size()];
+        int i = 0;
+        for (TopicPartitionInfo pi : td.partitions()) {
+            int[] replicas = brokerIds(pi.replicas());
+            partitions[i++] = new PartitionState(pi.partition(), replicas, brokerIds(pi.isr()));
+
+            for (int broker : replicas) {
+                topicsByBroker.computeIfAbsent(broker, b -> new HashSet<>()).add(td.name());
+            }
+        }
+
+        partitionsByTopic.put(td.name(), partitions);
+    }
+
+    private void unindexTopic(String topic) {
+        PartitionState[] partitions = partitionsByTopic.remove(topic);
+
+        if (partitions != null) {
+            for (PartitionState partition : partitions) {
+                for (int broker : partition.replicas()) {
+                    Set<String> topics = topicsByBroker.get(broker);
+                    if (topics != null) {
+                        topics.remove(topic);
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeTopic(String topic) {
+        unindexTopic(topic);
+        minIsrByTopic.remove(topic);
+    }
+
+    private Future<Void> loadMinIsr(Set<String> topics) {
+        Set<String> missing = topics.stream()
+                .filter(topic -> !minIsrByTopic.containsKey(topic))
+                .collect(Collectors.toSet());
+
+        if (missing.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        // 4. Get topic configs (for those on $broker)
+        return topicConfigs(missing)
+                .map(topicNameToConfig -> {
+                    for (String topic : missing) {
+                        minIsrByTopic.put(topic, minIsr(topic, topicNameToConfig.get(topic)));
+                    }
+                    return (Void) null;
+                });
+    }
+
+    private int minIsr(String topic, Config config) {
+        ConfigEntry minIsrConfig = config != null ? config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG) : null;
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            int minIsr = parseInt(minIsrConfig.value());
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
+        } else {
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return NO_MIN_ISR;
+        }
+    }
+
+    // 5. join
+    private boolean canRollBrokers(Set<Integer> podIds) {
+        stale = true;
+
+        String brokers = podIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        boolean canRoll = topicsOn(podIds).stream().noneMatch(
+            topic -> wouldAffectAvailability(podIds, brokers, topic, minIsrByTopic.getOrDefault(topic, NO_MIN_ISR), partitionsByTopic.get(topic)));
+        if (!canRoll) {
+            LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", brokers);
+        }
+        return canRoll;
+    }
+
+    private boolean wouldAffectAvailability(Set<Integer> podIds, String brokers, String topic, int minIsr, PartitionState[] partitions) {
+        if (minIsr < 0) {
+            return false;
+        }
+
+        // Reasons why a group of brokers cannot be rolled together are only logged at debug level, because other
+        // groups might be tried afterwards
+        boolean logInfo = podIds.size() == 1 && LOGGER.isInfoEnabled();
+
+        for (PartitionState pi : partitions) {
+            int[] isr = pi.isr();
+            int[] replicas = pi.replicas();
+            int restartedIsr = count(isr, podIds);
+            if (replicas.length <= minIsr) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
+                            topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers,
+                            replicas.length);
+                }
+            } else if (isr.length < minIsr
+                    && count(replicas, podIds) > 0) {
+                if (logInfo || LOGGER.isDebugEnabled()) {
+                    String msg;
+                    if (restartedIsr > 0) {
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
+                                                      "so should not be restarted right now (it would impact consumers).";
+                    } else {
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
+                                                      "so should not be restarted right now (it might be first to catch up).";
                     }
+                    log(logInfo, msg,
+                            topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
+                }
+                return true;
+            } else if (restartedIsr > 0
+                    && isr.length - restartedIsr < minIsr) {
+                if (logInfo || LOGGER.isDebugEnabled()) {
+                    log(logInfo, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
+                            topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                 }
+                return true;
             }
         }
         return false;
     }
 
-    private String nodeList(List<Node> isr) {
-        return isr.stream().map(Node::idString).collect(Collectors.joining(","));
+    private void log(boolean info, String msg, Object... params) {
+        if (info) {
+            LOGGER.infoCr(reconciliation, msg, params);
+        } else {
+            LOGGER.debugCr(reconciliation, msg, params);
+        }
+    }
+
+    private static int[] brokerIds(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id();
+        }
+        return ids;
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private String nodeList(int[] brokers) {
+        return Arrays.stream(brokers).mapToObj(Integer::toString).collect(Collectors.joining(","));
+    }
+
+    private static int count(int[] brokers, Set<Integer> podIds) {
+        int count = 0;
+        for (int b : brokers) {
+            if (podIds.contains(b)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -177,21 +397,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
@@ -219,4 +424,13 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    /**
+     * Replicas and in-sync replicas of a single partition
+     *
+     * @param partition     Partition number
+     * @param replicas      IDs of the brokers with the replicas of the partition
+     * @param isr           IDs of the brokers in the ISR of the partition
+     */
+    private record PartitionState(int partition, int[] replicas, int[] isr) { }
 }
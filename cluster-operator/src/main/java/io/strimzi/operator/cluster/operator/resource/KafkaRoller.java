@@ -21,6 +21,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -50,14 +51,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -129,6 +133,8 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxBatchSize;
+    private final KafkaRollerMetrics metrics;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
@@ -139,6 +145,11 @@ public class KafkaRoller {
      */
     private Admin controllerAdminClient;
     private KafkaAgentClient kafkaAgentClient;
+    /**
+     * Availability index shared by all the availability checks during this rolling update. It is created on the first
+     * check and refreshed incrementally for each broker instead of describing all topics again.
+     */
+    private KafkaAvailability kafkaAvailability;
 
     /**
      * Constructor
@@ -163,6 +174,38 @@ public class KafkaRoller {
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, nodes, coTlsPemIdentity,
+                adminClientProvider, kafkaAgentClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion, allowReconfiguration,
+                eventsPublisher, 1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param vertx                     Vert.x instance
+     * @param podOperations             Pod operator for managing pods
+     * @param pollingIntervalMs         Polling interval in milliseconds
+     * @param operationTimeoutMs        Operation timeout in milliseconds
+     * @param backOffSupplier           Backoff supplier
+     * @param nodes                     List of Kafka node references to consider rolling
+     * @param coTlsPemIdentity          Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     * @param adminClientProvider       Kafka Admin client provider
+     * @param kafkaAgentClientProvider  Kafka Agent client provider
+     * @param kafkaConfigProvider       Kafka configuration provider
+     * @param kafkaLogging              Kafka logging configuration
+     * @param kafkaVersion              Kafka version
+     * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxBatchSize              Maximal number of broker nodes restarted at the same time. With 1, the nodes are
+     *                                  restarted one by one.
+     * @param metricsProvider           Metrics provider used to report the rolling update metrics. Null disables the metrics.
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+                       TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxBatchSize, MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -183,6 +226,9 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = metricsProvider != null ? new KafkaRollerMetrics(reconciliation, metricsProvider) : null;
+        this.batchExecutor = maxBatchSize > 1 ? Executors.newScheduledThreadPool(maxBatchSize, runnable -> new Thread(runnable, "kafka-roller-batch")) : null;
     }
 
     /**
@@ -196,6 +242,17 @@ public class KafkaRoller {
     private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
         runnable -> new Thread(runnable, "kafka-roller"));
 
+    /**
+     * Executor used to restart the brokers in batches. It is used only when more than one broker can be restarted at
+     * the same time.
+     */
+    private final ScheduledExecutorService batchExecutor;
+
+    /**
+     * Racks of the broker nodes. Used to restart only brokers from the same rack in a batch.
+     */
+    private Map<Integer, String> racks;
+
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -203,7 +260,7 @@ public class KafkaRoller {
      * Initializes brokerAdminClient, if it has not been initialized yet
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean maybeInitBrokerAdminClient() {
+    private synchronized boolean maybeInitBrokerAdminClient() {
         if (this.brokerAdminClient == null) {
             try {
                 this.brokerAdminClient = adminClient(nodes.stream().filter(NodeRef::broker).collect(Collectors.toSet()), false);
@@ -219,7 +276,7 @@ public class KafkaRoller {
      * Initializes controllerAdminClient if it has not been initialized yet
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean maybeInitControllerAdminClient() {
+    private synchronized boolean maybeInitControllerAdminClient() {
         if (this.controllerAdminClient == null) {
             try {
                 // TODO: Currently, when running in KRaft mode Kafka does not support using Kafka Admin API with controller
@@ -247,6 +304,7 @@ public class KafkaRoller {
      */
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
+        long rollingStart = System.currentTimeMillis();
         Promise<Void> result = Promise.promise();
         singleExecutor.submit(() -> {
             try {
@@ -275,13 +333,22 @@ public class KafkaRoller {
                 }
 
                 Future.join(controllerFutures).compose(v -> {
+                    if (batchExecutor != null) {
+                        return rollInBatches(brokerPods);
+                    }
+
                     List<Future<Void>> brokerFutures = new ArrayList<>(nodes.size());
                     for (NodeRef broker : brokerPods) {
                         brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
                     }
-                    return Future.join(brokerFutures);
+                    return Future.join(brokerFutures).<Void>mapEmpty();
                 }).onComplete(ar -> {
                     singleExecutor.shutdown();
+                    shutdownBatchExecutor(false);
+
+                    if (metrics != null && ar.succeeded()) {
+                        metrics.rollingUpdateCompleted(System.currentTimeMillis() - rollingStart);
+                    }
 
                     try {
                         if (brokerAdminClient != null) {
@@ -306,12 +373,197 @@ public class KafkaRoller {
                 // Its logged at upper level, so we just log it at debug here
                 LOGGER.debugCr(reconciliation, "Something went wrong when trying to do a rolling restart", e);
                 singleExecutor.shutdown();
+                shutdownBatchExecutor(false);
                 result.fail(e);
             }
         });
         return result.future();
     }
 
+    /**
+     * Restarts the broker nodes in batches. Each batch contains only brokers from the same rack which can be restarted
+     * at the same time without making any partition under-replicated. The next batch is formed only once the previous
+     * batch is complete, so that it is based on the current state of the partitions.
+     *
+     * @param remaining     Broker nodes which were not considered for restart yet
+     *
+     * @return  Future which completes when all the broker nodes are rolled
+     */
+    private Future<Void> rollInBatches(List<NodeRef> remaining) {
+        if (remaining.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Promise<List<NodeRef>> nextBatch = Promise.promise();
+        try {
+            singleExecutor.submit(() -> {
+                try {
+                    nextBatch.complete(nextBatch(remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    nextBatch.fail(e);
+                } catch (RuntimeException e) {
+                    nextBatch.fail(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The rolling update was aborted because of a fatal problem
+            return Future.failedFuture(e);
+        }
+
+        return nextBatch.future().compose(batch -> {
+            LOGGER.debugCr(reconciliation, "Considering updating pods {} at the same time", batch);
+
+            if (metrics != null) {
+                metrics.batchStarted(batch.size());
+            }
+
+            List<Future<Void>> batchFutures = new ArrayList<>(batch.size());
+            for (NodeRef broker : batch) {
+                batchFutures.add(schedule(batchExecutor, broker, 0, TimeUnit.MILLISECONDS));
+            }
+
+            List<NodeRef> rest = new ArrayList<>(remaining);
+            rest.removeAll(batch);
+
+            return Future.join(batchFutures)
+                    .transform(ar -> {
+                        if (ar.failed() && batchExecutor.isShutdown()) {
+                            // A fatal problem aborted the rolling update
+                            return Future.failedFuture(ar.cause());
+                        }
+
+                        // As when rolling the brokers one by one, the remaining brokers are rolled even when some
+                        // brokers in this batch failed and the failure is reported at the end
+                        return rollInBatches(rest).compose(v -> ar.succeeded() ? Future.succeededFuture() : Future.failedFuture(ar.cause()));
+                    });
+        });
+    }
+
+    /**
+     * Finds the next batch of broker nodes to restart. The first remaining node is always part of the batch. The other
+     * nodes from its rack are added to the batch when they can be restarted together with it. The controller is not
+     * added to any batch as long as there are other remaining nodes, so that it is rolled last.
+     *
+     * @param remaining     Broker nodes which were not considered for restart yet
+     *
+     * @return  Broker nodes in the batch
+     */
+    private List<NodeRef> nextBatch(List<NodeRef> remaining) throws InterruptedException {
+        List<NodeRef> eligible = remaining;
+
+        if (remaining.size() > 1) {
+            // The restart contexts of the nodes from the later batches are not registered yet. So deferController()
+            // cannot see them and the controller has to be kept out of the batches here instead.
+            int controller = batchController(remaining.get(0));
+            List<NodeRef> withoutController = remaining.stream().filter(node -> node.nodeId() != controller).toList();
+
+            if (!withoutController.isEmpty()) {
+                eligible = withoutController;
+            }
+        }
+
+        NodeRef first = eligible.get(0);
+
+        if (!maybeInitBrokerAdminClient()) {
+            return List.of(first);
+        }
+
+        if (racks == null) {
+            racks = racks();
+        }
+
+        String rack = racks.get(first.nodeId());
+        Map<Integer, NodeRef> candidates = new LinkedHashMap<>();
+        for (NodeRef node : eligible) {
+            if (Objects.equals(rack, racks.get(node.nodeId()))) {
+                candidates.put(node.nodeId(), node);
+            }
+        }
+
+        if (candidates.size() == 1) {
+            return List.of(first);
+        }
+
+        List<Integer> batch;
+        try {
+            batch = await(kafkaAvailability().rollableBatch(new ArrayList<>(candidates.keySet()), maxBatchSize), 60, TimeUnit.SECONDS,
+                    t -> new ForceableProblem("An error while trying to determine which Kafka broker pods can be updated together", t));
+        } catch (ForceableProblem e) {
+            LOGGER.warnCr(reconciliation, "Failed to find Kafka broker pods which can be updated together with pod {}", first, e);
+            return List.of(first);
+        }
+
+        List<NodeRef> nodes = batch.stream().map(candidates::get).toList();
+        if (nodes.size() > 1) {
+            // The availability of the whole batch was checked. So the nodes do not need to be checked one by one again
+            // before their first restart attempt.
+            for (NodeRef node : nodes) {
+                podToContext.computeIfAbsent(node.podName(), k -> new RestartContext(backoffSupplier)).batchAdmitted = true;
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Finds the controller of the cluster when forming the next batch. Failing to find it is not fatal. The batch is
+     * then formed without considering the controller and deferController() still applies within the batch.
+     *
+     * @param nodeRef   Node used to find the controller
+     *
+     * @return  Node ID of the controller or -1 if it is not known
+     */
+    private int batchController(NodeRef nodeRef) throws InterruptedException {
+        try {
+            return controller(nodeRef, operationTimeoutMs, TimeUnit.MILLISECONDS, new RestartContext(backoffSupplier));
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.warnCr(reconciliation, "Failed to find the controller before forming the next batch of Kafka broker pods", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the racks of the broker nodes as reported by the Kafka cluster. Brokers without a rack are missing in the
+     * returned map. When the racks cannot be determined, the map is empty and all brokers are considered to be in the
+     * same rack.
+     *
+     * @return  Map with the rack of each broker node
+     */
+    /* test */ Map<Integer, String> racks() {
+        try {
+            Collection<Node> brokers = await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerAdminClient.describeCluster().nodes()),
+                    operationTimeoutMs, TimeUnit.MILLISECONDS, t -> new ForceableProblem("An error while trying to get the racks of the Kafka brokers", t));
+
+            Map<Integer, String> racks = new HashMap<>();
+            for (Node broker : brokers) {
+                if (broker.hasRack()) {
+                    racks.put(broker.id(), broker.rack());
+                }
+            }
+
+            return racks;
+        } catch (ForceableProblem | RuntimeException e) {
+            LOGGER.warnCr(reconciliation, "Failed to get the racks of the Kafka brokers", e);
+            return Map.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        }
+    }
+
+    private void shutdownBatchExecutor(boolean now) {
+        if (batchExecutor != null) {
+            if (now) {
+                batchExecutor.shutdownNow();
+            } else {
+                batchExecutor.shutdown();
+            }
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -322,6 +574,7 @@ public class KafkaRoller {
         boolean needsReconfig;
         boolean forceRestart;
         boolean podStuck;
+        boolean batchAdmitted;
         KafkaBrokerConfigurationDiff brokerConfigDiff;
         KafkaBrokerLoggingConfigurationDiff brokerLoggingDiff;
         KafkaQuorumCheck quorumCheck;
@@ -368,9 +621,23 @@ public class KafkaRoller {
      * @return A future which completes when the pod has been rolled.
      */
     private Future<Void> schedule(NodeRef nodeRef, long delay, TimeUnit unit) {
+        return schedule(singleExecutor, nodeRef, delay, unit);
+    }
+
+    /**
+     * Schedule the rolling of the given pod on the given executor. See {@link #schedule(NodeRef, long, TimeUnit)}.
+     *
+     * @param executor  The executor on which the pod should be rolled.
+     * @param nodeRef   The reference to pod to roll.
+     * @param delay     The delay.
+     * @param unit      The unit of the delay.
+     *
+     * @return A future which completes when the pod has been rolled.
+     */
+    private Future<Void> schedule(ScheduledExecutorService executor, NodeRef nodeRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(nodeRef.podName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering updating pod {} after a delay of {} {}", nodeRef, delay, unit);
             try {
                 restartIfNecessary(nodeRef, ctx);
@@ -383,6 +650,7 @@ public class KafkaRoller {
                         nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
                 singleExecutor.shutdownNow();
+                shutdownBatchExecutor(true);
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> f.promise.tryFail(e));
             } catch (Exception e) {
                 if (ctx.backOff.done()) {
@@ -395,7 +663,7 @@ public class KafkaRoller {
                     long delay1 = ctx.backOff.delayMs();
                     LOGGER.infoCr(reconciliation, "Will temporarily skip verifying pod {} is up-to-date due to {}, retrying after at least {}ms",
                             nodeRef, e, delay1);
-                    schedule(nodeRef, delay1, TimeUnit.MILLISECONDS);
+                    schedule(executor, nodeRef, delay1, TimeUnit.MILLISECONDS);
                 }
             }
         }, delay, unit);
@@ -414,9 +682,23 @@ public class KafkaRoller {
      *                                  or exception.forceNow is true AND canRoll is true. Otherwise, is thrown.
      * @throws UnforceableProblem       Some error, always thrown.
      */
-    @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
     private void restartIfNecessary(NodeRef nodeRef, RestartContext restartContext)
             throws Exception {
+        try {
+            restartNodeIfNecessary(nodeRef, restartContext);
+        } finally {
+            // The availability check done for the batch is valid only for the first attempt. The next attempts have to
+            // check the availability again, because the other nodes of the batch might not be back in-sync yet.
+            restartContext.batchAdmitted = false;
+        }
+    }
+
+    /**
+     * Single attempt to restart the given pod. See {@link #restartIfNecessary(NodeRef, RestartContext)}.
+     */
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
+    private void restartNodeIfNecessary(NodeRef nodeRef, RestartContext restartContext)
+            throws Exception {
         final Pod pod;
         try {
             pod = podOperations.get(namespace, nodeRef.podName());
@@ -439,19 +721,41 @@ public class KafkaRoller {
                 await(isReady(pod), operationTimeoutMs, TimeUnit.MILLISECONDS, RuntimeException::new);
             } catch (Exception e) {
                 //Initialise the client for KafkaAgent if pod is not ready
-                if (kafkaAgentClient == null) {
-                    this.kafkaAgentClient = initKafkaAgentClient();
+                BrokerState brokerState = kafkaAgentClient().getBrokerState(pod.getMetadata().getName());
+                boolean recovered = false;
+                if (brokerState.isBrokerInRecovery()) {
+                    // Follow the recovery progress pushed by the Kafka Agent instead of retrying later
+                    LOGGER.infoCr(reconciliation, "Pod {} is performing log recovery. Waiting for it to complete.", nodeRef.podName());
+                    BrokerState recoveredState = kafkaAgentClient().awaitBrokerRecovery(pod.getMetadata().getName(), operationTimeoutMs);
+
+                    if (recoveredState.code() != -1) {
+                        brokerState = recoveredState;
+                        recovered = !brokerState.isBrokerInRecovery();
+                    }
                 }
 
-                BrokerState brokerState = kafkaAgentClient.getBrokerState(pod.getMetadata().getName());
                 if (brokerState.isBrokerInRecovery()) {
                     throw new UnforceableProblem("Pod " + nodeRef.podName() + " is not ready because the Kafka node is performing log recovery. There are " + brokerState.remainingLogsToRecover() + " logs and " + brokerState.remainingSegmentsToRecover() + " segments left to recover.", e.getCause());
                 }
 
-                if (e.getCause() instanceof TimeoutException) {
+                Throwable notReadyCause = e.getCause();
+                if (recovered) {
+                    // The pod could not get ready while the log recovery was running, so we give it another chance now
+                    LOGGER.infoCr(reconciliation, "Pod {} completed log recovery. Waiting for it to become ready.", nodeRef.podName());
+                    try {
+                        await(isReady(pod), operationTimeoutMs, TimeUnit.MILLISECONDS, RuntimeException::new);
+                        notReadyCause = null;
+                    } catch (Exception readinessException) {
+                        notReadyCause = readinessException.getCause();
+                    }
+                }
+
+                if (recovered && notReadyCause == null) {
+                    LOGGER.debugCr(reconciliation, "Pod {} is ready after the log recovery", nodeRef.podName());
+                } else if (notReadyCause instanceof TimeoutException) {
                     LOGGER.warnCr(reconciliation, "Pod {} is not ready. We will check if KafkaRoller can do anything about it.", nodeRef.podName());
                 } else {
-                    LOGGER.warnCr(reconciliation, "Failed to wait for the readiness of the pod {}. We will proceed and check if it needs to be rolled.", nodeRef.podName(), e.getCause());
+                    LOGGER.warnCr(reconciliation, "Failed to wait for the readiness of the pod {}. We will proceed and check if it needs to be rolled.", nodeRef.podName(), notReadyCause);
                 }
             }
         }
@@ -516,6 +820,14 @@ public class KafkaRoller {
         }
     }
 
+    private synchronized KafkaAgentClient kafkaAgentClient() throws FatalProblem {
+        if (kafkaAgentClient == null) {
+            this.kafkaAgentClient = initKafkaAgentClient();
+        }
+
+        return kafkaAgentClient;
+    }
+
     KafkaAgentClient initKafkaAgentClient() throws FatalProblem {
         try {
             return kafkaAgentClientProvider.createKafkaAgentClient(reconciliation, coTlsPemIdentity);
@@ -810,18 +1122,27 @@ public class KafkaRoller {
 
     private boolean canRoll(int nodeId, boolean isController, boolean isBroker, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException, UnforceableProblem {
+        if (restartContext.batchAdmitted) {
+            // The node was checked together with the other nodes in its batch right before the batch was started
+            restartContext.batchAdmitted = false;
+
+            if (isBroker && !isController) {
+                return true;
+            }
+        }
+
         try {
             if (isBroker && isController) {
                 boolean canRollController = await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
-                boolean canRollBroker = await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                boolean canRollBroker = await(kafkaAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
                 return canRollController && canRollBroker;
             } else if (isController) {
                 return await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
             } else {
-                return await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
+                return await(kafkaAvailability().canRoll(nodeId), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
             }
         } catch (ForceableProblem | UnforceableProblem e) {
@@ -911,7 +1232,8 @@ public class KafkaRoller {
 
     /**
      * Returns an AdminClient instance bootstrapped from the given nodes. If nodes is an
-     * empty set, use the brokers service to bootstrap the client.
+     * empty set, use the brokers service to bootstrap the client. The client bootstrapped from a single node is used
+     * to check the connectivity to that node. So it is never shared with the other users of a pooled provider.
      */
     /* test */ Admin adminClient(Set<NodeRef> nodes, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
         // If no nodes are passed initialize the admin client using the brokers service
@@ -926,7 +1248,11 @@ public class KafkaRoller {
 
         try {
             LOGGER.debugCr(reconciliation, "Creating AdminClient for {}", bootstrapHostnames);
-            return adminClientProvider.createAdminClient(bootstrapHostnames, coTlsPemIdentity.pemTrustSet(), coTlsPemIdentity.pemAuthIdentity());
+            if (nodes.size() == 1) {
+                return adminClientProvider.createDedicatedAdminClient(bootstrapHostnames, coTlsPemIdentity.pemTrustSet(), coTlsPemIdentity.pemAuthIdentity());
+            } else {
+                return adminClientProvider.createAdminClient(bootstrapHostnames, coTlsPemIdentity.pemTrustSet(), coTlsPemIdentity.pemAuthIdentity());
+            }
         } catch (KafkaException e) {
             if (ceShouldBeFatal && (e instanceof ConfigException
                     || e.getCause() instanceof ConfigException)) {
@@ -946,6 +1272,17 @@ public class KafkaRoller {
     /* test */ KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
+
+    /**
+     * Returns the availability index used for this rolling update, creating it if it does not exist yet
+     */
+    private synchronized KafkaAvailability kafkaAvailability() {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(brokerAdminClient);
+        }
+
+        return kafkaAvailability;
+    }
     
     /**
      * Return true if the given {@code nodeId} is the controller or the active controller in KRaft case and there are other brokers we might yet have to consider.
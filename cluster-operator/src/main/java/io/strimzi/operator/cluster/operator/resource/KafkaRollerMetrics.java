@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics describing the rolling updates of the Kafka nodes done by the {@link KafkaRoller}
+ */
+public class KafkaRollerMetrics {
+    /**
+     * Metric name for the duration of the rolling updates
+     */
+    public static final String METRICS_ROLLING_UPDATE_DURATION = MetricsHolder.METRICS_PREFIX + "kafka.roller.duration";
+    /**
+     * Metric name for the number of Kafka brokers in the batches restarted at the same time
+     */
+    public static final String METRICS_ROLLING_UPDATE_BATCH_SIZE = MetricsHolder.METRICS_PREFIX + "kafka.roller.batch.size";
+
+    private final Timer duration;
+    private final DistributionSummary batchSize;
+
+    /**
+     * Constructs the Kafka roller metrics
+     *
+     * @param reconciliation    Reconciliation marker identifying the Kafka cluster
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaRollerMetrics(Reconciliation reconciliation, MetricsProvider metricsProvider) {
+        Tags tags = Tags.of(
+                Tag.of("kind", reconciliation.kind()),
+                Tag.of("name", reconciliation.name()),
+                Tag.of("resource-namespace", reconciliation.namespace()));
+
+        this.duration = metricsProvider.timer(METRICS_ROLLING_UPDATE_DURATION, "The time the rolling updates of the Kafka nodes take to complete", tags);
+        this.batchSize = DistributionSummary.builder(METRICS_ROLLING_UPDATE_BATCH_SIZE)
+                .description("Number of Kafka brokers restarted at the same time during rolling updates")
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
+    }
+
+    /**
+     * Records the duration of a rolling update
+     *
+     * @param durationMs    Duration in milliseconds
+     */
+    public void rollingUpdateCompleted(long durationMs) {
+        duration.record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the size of a batch of brokers restarted at the same time
+     *
+     * @param size  Number of brokers in the batch
+     */
+    public void batchStarted(int size) {
+        batchSize.record(size);
+    }
+}
@@ -40,6 +40,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.NodeOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodDisruptionBudgetOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PvcOperator;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.ResourceCache;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RoleOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RouteOperator;
@@ -53,8 +54,12 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.PooledAdminClientProvider;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
@@ -252,6 +257,8 @@ public class ResourceOperatorSupplier {
      */
     public final BrokersInUseCheck brokersInUseCheck;
 
+    private final List<ResourceCache<?>> resourceCaches = new ArrayList<>();
+
     /**
      * Constructor
      *
@@ -268,7 +275,7 @@ public class ResourceOperatorSupplier {
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
-                new DefaultAdminClientProvider(),
+                new PooledAdminClientProvider(new DefaultAdminClientProvider(), metricsProvider),
                 new DefaultZookeeperScalerProvider(),
                 new DefaultKafkaAgentClientProvider(),
                 metricsProvider,
@@ -488,4 +495,38 @@ public class ResourceOperatorSupplier {
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokersInUseCheck = brokersInUseCheck;
     }
+
+    /**
+     * Enables and starts the informer-backed caches serving the reads of the Secrets, ConfigMaps, Services, PVCs and
+     * StrimziPodSets. The reads which cannot be served from the caches still go to the Kubernetes API server.
+     *
+     * @param namespaces    Namespaces which should be cached (or * for all namespaces)
+     */
+    public synchronized void startResourceCaches(List<String> namespaces) {
+        if (resourceCaches.isEmpty()) {
+            resourceCaches.add(secretOperations.enableCache(namespaces, metricsProvider));
+            resourceCaches.add(configMapOperations.enableCache(namespaces, metricsProvider));
+            resourceCaches.add(serviceOperations.enableCache(namespaces, metricsProvider));
+            resourceCaches.add(pvcOperations.enableCache(namespaces, metricsProvider));
+            resourceCaches.add(strimziPodSetOperator.enableCache(namespaces, metricsProvider));
+
+            resourceCaches.forEach(ResourceCache::start);
+        }
+    }
+
+    /**
+     * Stops the informer-backed caches
+     */
+    public synchronized void stopResourceCaches() {
+        resourceCaches.forEach(ResourceCache::stop);
+    }
+
+    /**
+     * Closes the pooled Kafka Admin clients (if the Admin client provider pools them)
+     */
+    public void closeAdminClients() {
+        if (adminClientProvider instanceof PooledAdminClientProvider pool) {
+            pool.close();
+        }
+    }
 }
@@ -18,18 +18,27 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Helper class for finding the leader of a ZK cluster
+ * Helper class for finding the leader of a ZK cluster. All pods are probed in parallel and the first pod confirmed as
+ * the leader wins. The last known leader of each cluster is kept as a hint and probed first in the next attempts. The
+ * TLS clients used for the probes are reused between the attempts for the same cluster as long as their options do not
+ * change.
  */
 public class ZookeeperLeaderFinder {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZookeeperLeaderFinder.class);
@@ -41,8 +50,12 @@ public class ZookeeperLeaderFinder {
      */
     public static final String UNKNOWN_LEADER = "-1";
 
+    private static final long IDLE_CLIENT_EXPIRY_NS = 600_000_000_000L;
+
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final Map<String, String> leaderHints = new ConcurrentHashMap<>();
+    private final Map<String, CachedClient> clients = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -137,38 +150,75 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Reconciliation, String, NetClientOptions)}.
+     * Find the leader by testing the pods using {@link #isLeader(Reconciliation, String, NetClientOptions)}. The last
+     * known leader is tested first. When it is not the leader anymore, all other pods are tested in parallel.
      */
     private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
         try {
-            Future<String> f = Future.succeededFuture(UNKNOWN_LEADER);
+            String clusterKey = clusterKey(reconciliation);
+            String hint = leaderHints.get(clusterKey);
+            Future<String> f;
 
-            for (String podName : pods) {
-                f = f.compose(leader -> {
-                    if (UNKNOWN_LEADER.equals(leader)) {
-                        LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
-                        return isLeader(reconciliation, podName, netClientOptions).map(isLeader -> {
+            if (hint != null && pods.contains(hint)) {
+                LOGGER.debugCr(reconciliation, "Checking whether the last known leader {} is still leader", hint);
+                f = isLeader(reconciliation, hint, netClientOptions)
+                        .compose(isLeader -> {
                             if (isLeader != null && isLeader) {
-                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
-                                return podName;
+                                LOGGER.infoCr(reconciliation, "Pod {} is leader", hint);
+                                return Future.succeededFuture(hint);
                             } else {
-                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
+                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader anymore", hint);
+                                return firstLeader(reconciliation, pods.stream().filter(pod -> !hint.equals(pod)).toList(), netClientOptions);
                             }
                         });
-                    } else {
-                        return Future.succeededFuture(leader);
-                    }
-                });
+            } else {
+                f = firstLeader(reconciliation, List.copyOf(pods), netClientOptions);
             }
 
-            return f;
+            return f.onSuccess(leader -> {
+                if (UNKNOWN_LEADER.equals(leader)) {
+                    leaderHints.remove(clusterKey);
+                } else {
+                    leaderHints.put(clusterKey, leader);
+                }
+            });
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
     }
 
+    /**
+     * Tests all given pods in parallel. The returned future completes with the first pod confirmed as the leader or
+     * with {@link #UNKNOWN_LEADER} when none of the pods is the leader.
+     */
+    private Future<String> firstLeader(Reconciliation reconciliation, List<String> pods, NetClientOptions netClientOptions) {
+        if (pods.isEmpty()) {
+            return Future.succeededFuture(UNKNOWN_LEADER);
+        }
+
+        Promise<String> result = Promise.promise();
+        AtomicInteger remaining = new AtomicInteger(pods.size());
+
+        for (String podName : pods) {
+            LOGGER.debugCr(reconciliation, "Checking whether {} is leader", podName);
+            isLeader(reconciliation, podName, netClientOptions).onComplete(res -> {
+                if (res.succeeded() && res.result() != null && res.result()) {
+                    if (result.tryComplete(podName)) {
+                        LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
+                    }
+                } else {
+                    LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    result.tryComplete(UNKNOWN_LEADER);
+                }
+            });
+        }
+
+        return result.future();
+    }
+
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
@@ -178,7 +228,7 @@ public class ZookeeperLeaderFinder {
         String host = host(reconciliation, podName);
         int port = port(podName);
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
+        netClient(reconciliation, netClientOptions)
             .connect(port, host, ar -> {
                 if (ar.failed()) {
                     LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
@@ -227,6 +277,46 @@ public class ZookeeperLeaderFinder {
         });
     }
 
+    /**
+     * Returns the TLS client for the cluster. The client is reused as long as the options do not change, so that the
+     * TLS context is not created again for every probe. The clients which were not used for a while are closed.
+     *
+     * @param reconciliation    Reconciliation used to obtain the namespace and cluster name
+     * @param netClientOptions  Options of the client
+     *
+     * @return  The TLS client
+     */
+    private NetClient netClient(Reconciliation reconciliation, NetClientOptions netClientOptions) {
+        long now = System.nanoTime();
+        JsonObject options = netClientOptions.toJson();
+
+        clients.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().lastUsedNanos > IDLE_CLIENT_EXPIRY_NS) {
+                entry.getValue().client.close();
+                return true;
+            } else {
+                return false;
+            }
+        });
+
+        return clients.compute(clusterKey(reconciliation), (key, existing) -> {
+            if (existing != null && existing.options.equals(options)) {
+                existing.lastUsedNanos = now;
+                return existing;
+            } else {
+                if (existing != null) {
+                    existing.client.close();
+                }
+
+                return new CachedClient(vertx.createNetClient(netClientOptions), options, now);
+            }
+        }).client;
+    }
+
+    private static String clusterKey(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
     /**
      * The hostname for connecting to zookeeper in the given pod.
      *
@@ -249,4 +339,19 @@ public class ZookeeperLeaderFinder {
     protected int port(String podName) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * TLS client reused for the same cluster
+     */
+    private static class CachedClient {
+        private final NetClient client;
+        private final JsonObject options;
+        private volatile long lastUsedNanos;
+
+        CachedClient(NetClient client, JsonObject options, long lastUsedNanos) {
+            this.client = client;
+            this.options = options;
+            this.lastUsedNanos = lastUsedNanos;
+        }
+    }
 }
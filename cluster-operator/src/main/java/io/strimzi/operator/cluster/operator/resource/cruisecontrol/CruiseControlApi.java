@@ -5,8 +5,12 @@
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
 import io.vertx.core.Future;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -89,6 +93,18 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(Reconciliation reconciliation, String host, int port, String userTaskID);
 
+    /**
+     *  Get the states of several tasks from the Cruise Control server using a single request.
+     *
+     * @param reconciliation The reconciliation marker
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIds The unique IDs of the tasks whose states should be retrieved.
+     * @return A future for the map of the task IDs to their current states. Tasks which are not known to the Cruise
+     *         Control server are not included in the map.
+     */
+    Future<Map<String, CruiseControlUserTaskStatus>> getUserTaskStatuses(Reconciliation reconciliation, String host, int port, Set<String> userTaskIds);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.strimzi.operator.common.CruiseControlUtil;
 import io.strimzi.operator.common.Reconciliation;
@@ -21,16 +22,22 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 import static io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders.USER_TASK_ID_HEADER;
 
@@ -45,12 +52,15 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
     private final PemTrustOptions pto;
+    private final HttpClientPool httpClientPool;
+    private final String httpClientFingerprint;
 
     /**
      * Constructor
@@ -63,11 +73,31 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param idleTimeout       Idle timeout
+     * @param ccSecret          Cruise Control Secret
+     * @param ccApiSecret       Cruise Control API Secret
+     * @param apiAuthEnabled    Flag indicating if authentication is enabled
+     * @param apiSslEnabled     Flag indicating if TLS is enabled
+     * @param httpClientPool    Pool of long-lived HTTP clients or null to use a new HTTP client for each request
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, HttpClientPool httpClientPool) {
         this.vertx = vertx;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
-        this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt")));
+
+        byte[] certificate = Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt");
+        this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(certificate));
+        this.httpClientPool = httpClientPool;
+        // The pooled client is replaced when the TLS settings or the trusted certificate change
+        this.httpClientFingerprint = apiSslEnabled ? "tls-" + Util.hashStub(certificate) : "plain";
     }
 
     @Override
@@ -90,6 +120,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
     }
 
+    private <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(host, port, httpClientFingerprint, this::getHttpClientOptions, operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, getHttpClientOptions(), operation);
+        }
+    }
+
     private static HTTPHeader generateAuthHttpHeader(String user, String password) {
         String headerName = "Authorization";
         String headerValue = CruiseControlUtil.buildBasicAuthValue(user, password);
@@ -112,10 +150,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.JSON, "true")
                 .withParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
-
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {}", path);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -258,10 +293,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.JSON, "true")
                 .withRebalanceParameters(options)
                 .build();
-
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -278,10 +310,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.JSON, "true")
                 .withAddBrokerParameters(options)
                 .build();
-
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -298,10 +327,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.JSON, "true")
                 .withRemoveBrokerParameters(options)
                 .build();
-
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -320,10 +346,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
 
         String path = pathBuilder.build();
-
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -415,16 +438,80 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlUserTaskStatus>> getUserTaskStatuses(Reconciliation reconciliation, String host, int port, Set<String> userTaskIds) {
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                        .withParameter(CruiseControlParameters.JSON, "true")
+                        .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                        .withParameter(CruiseControlParameters.USER_TASK_IDS, String.join(",", userTaskIds))
+                        .build();
+
+        return withHttpClient(host, port, (httpClient, result) -> {
+            LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskIDs {}", path, userTaskIds);
+            httpClient.request(HttpMethod.GET, port, host, path, request -> {
+                if (request.succeeded()) {
+
+                    if (authHttpHeader != null) {
+                        request.result().putHeader(authHttpHeader.getName(), authHttpHeader.getValue());
+                    }
+
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
+                                response.result().bodyHandler(buffer -> {
+                                    JsonObject json = buffer.toJsonObject();
+                                    LOGGER.debugCr(reconciliation, "Got {} response to GET request to {}", response.result().statusCode(), path);
+
+                                    if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                        result.fail(new CruiseControlRestException(
+                                                "Error for request: " + host + ":" + port + path + ". Server returned: " +
+                                                        json.getString(CC_REST_API_ERROR_KEY)));
+                                        return;
+                                    }
+
+                                    Map<String, CruiseControlUserTaskStatus> statuses = new HashMap<>(userTaskIds.size());
+                                    JsonArray userTasks = json.getJsonArray("userTasks", new JsonArray());
+
+                                    for (int i = 0; i < userTasks.size(); i++) {
+                                        JsonObject userTask = userTasks.getJsonObject(i);
+                                        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(userTask.getString(STATUS_KEY));
+
+                                        if (taskStatus != null) {
+                                            statuses.put(userTask.getString(USER_TASK_ID_KEY), taskStatus);
+                                        }
+                                    }
+
+                                    result.complete(statuses);
+                                });
+                            } else {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected status code " + response.result().statusCode() + " for GET request to " +
+                                                host + ":" + port + path));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+
+                    if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+                        request.result().setTimeout(idleTimeout * 1000);
+                    }
+
+                } else {
+                    httpExceptionHandler(result, request.cause());
+                }
+            });
+        });
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(Reconciliation reconciliation, String host, int port) {
 
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .withParameter(CruiseControlParameters.JSON, "true").build();
-
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {}", path);
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -466,7 +553,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.config.ConfigParameter;
@@ -27,6 +28,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +51,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         extends AbstractResourceOperator<C, T, L, R> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractNamespacedResourceOperator.class);
 
+    private volatile ResourceCache<T> cache;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -61,6 +65,41 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Creates the informer-backed cache for this resource type and uses it to serve the reads. Only the resources
+     * managed by Strimzi are cached. The cache is not running and has to be started by the code using it.
+     *
+     * @param namespaces        Namespaces which should be cached (or * for all namespaces)
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  The created cache
+     */
+    public ResourceCache<T> enableCache(List<String> namespaces, MetricsProvider metricsProvider) {
+        Map<String, SharedIndexInformer<T>> informers = new HashMap<>(namespaces.size());
+        for (String namespace : namespaces) {
+            informers.put(namespace, informer(namespace, ResourceCache.SELECTOR, 0));
+        }
+
+        this.cache = new ResourceCache<>(resourceKind, informers, client.getKubernetesSerialization(), metricsProvider);
+        return cache;
+    }
+
+    /**
+     * Records a change of the resource made by the operator, so that the cache does not serve the resource until it
+     * observes the change.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        The resource returned by the change or null if not known
+     * @param deleted       Whether the resource was deleted
+     */
+    protected void cacheWritten(String namespace, String name, T result, boolean deleted) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            cache.written(namespace, name, result, deleted);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -113,6 +152,13 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                             return Future.succeededFuture(ReconcileResult.noop(null));
                         }
                     }
+                })
+                .onComplete(res -> {
+                    if (res.failed()) {
+                        cacheWritten(namespace, name, null, false);
+                    } else if (!(res.result() instanceof ReconcileResult.Noop)) {
+                        cacheWritten(namespace, name, res.result().resourceOpt().orElse(null), res.result() instanceof ReconcileResult.Deleted);
+                    }
                 });
     }
 
@@ -283,6 +329,12 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        T cached = cache != null ? cache.get(namespace, name) : null;
+        if (cached != null) {
+            return cached;
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
@@ -297,6 +349,11 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
+        T cached = cache != null ? cache.get(namespace, name) : null;
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -334,6 +391,11 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        List<T> cached = cache != null ? cache.list(namespace, selector != null ? selector.toMap() : null) : null;
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -346,6 +408,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, LabelSelector selector) {
+        // Only the selectors with plain labels are served from the cache
+        if (cache != null && (selector == null || selector.getMatchExpressions() == null || selector.getMatchExpressions().isEmpty())) {
+            List<T> cached = cache.list(namespace, selector != null ? selector.getMatchLabels() : null);
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -400,7 +470,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onComplete(res -> cacheWritten(namespace, name, null, res.succeeded()))
+                .map((Void) null);
     }
 
     /**
@@ -97,9 +97,11 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), resource);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                cacheWritten(namespace, name, result, false);
                 return result;
             } catch (Throwable e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
+                cacheWritten(namespace, name, null, false);
                 throw e;
             }
         });
@@ -121,9 +123,11 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).resource(resource).updateStatus();
                 LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                cacheWritten(namespace, name, result, false);
                 return result;
             } catch (Throwable e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
+                cacheWritten(namespace, name, null, false);
                 throw e;
             }
         });
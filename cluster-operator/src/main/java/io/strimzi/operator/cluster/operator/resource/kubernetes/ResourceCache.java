@@ -0,0 +1,297 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of Kubernetes resources of a single kind backed by shared informers. The cache serves the reads
+ * of the resource operator from the local informer store, with one informer for each watched namespace (or a single
+ * informer for all namespaces). Only the resources managed by Strimzi, which have the strimzi.io/cluster label, are
+ * cached.
+ *
+ * The cache does not serve a read, which then goes to the Kubernetes API server, when:
+ *   - the namespace of the resource is not watched by any of the informers
+ *   - the informer has not synced yet
+ *   - the resource is not found in the informer store
+ *   - the list is not selected by the strimzi.io/cluster label
+ *   - the operator changed the resource and the informer did not observe the change yet
+ *
+ * The resources returned from the cache are copies, so the callers can modify them the same way as the resources
+ * returned from the Kubernetes API server.
+ *
+ * @param <T>   Type of the resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    /**
+     * Name of the index of the resources by their namespace and the strimzi.io/cluster label
+     */
+    /* test */ static final String CLUSTER_INDEX = "strimzi-cluster";
+
+    /**
+     * Selector of the resources watched by the informers of the cache
+     */
+    public static final LabelSelector SELECTOR = new LabelSelectorBuilder()
+            .addNewMatchExpression()
+                .withKey(Labels.STRIMZI_CLUSTER_LABEL)
+                .withOperator("Exists")
+            .endMatchExpression()
+            .build();
+
+    /**
+     * Metric name for the reads served from the cache
+     */
+    public static final String METRICS_HITS = MetricsHolder.METRICS_PREFIX + "resource.cache.hits";
+
+    /**
+     * Metric name for the reads which had to go to the Kubernetes API server
+     */
+    public static final String METRICS_MISSES = MetricsHolder.METRICS_PREFIX + "resource.cache.misses";
+
+    // How long after its own write the operator does not trust the informer which did not observe the write yet
+    private static final long WRITE_GRACE_PERIOD_NS = 30_000_000_000L;
+
+    private final String resourceKind;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final KubernetesSerialization serialization;
+    private final Map<String, Write> writes = new ConcurrentHashMap<>();
+
+    private final Counter getHits;
+    private final Counter getMisses;
+    private final Counter listHits;
+    private final Counter listMisses;
+
+    private volatile boolean stopping = false;
+
+    /**
+     * Constructor
+     *
+     * @param resourceKind      Kind of the cached resources
+     * @param informers         Informers for the watched namespaces keyed by the namespace (or by * for all namespaces)
+     * @param serialization     Kubernetes serialization used to copy the cached resources
+     * @param metricsProvider   Metrics provider
+     */
+    public ResourceCache(String resourceKind, Map<String, SharedIndexInformer<T>> informers, KubernetesSerialization serialization, MetricsProvider metricsProvider) {
+        this.resourceKind = resourceKind;
+        this.informers = informers;
+        this.serialization = serialization;
+
+        this.getHits = metricsProvider.counter(METRICS_HITS, "Number of reads served from the resource cache", Tags.of("kind", resourceKind, "operation", "get"));
+        this.getMisses = metricsProvider.counter(METRICS_MISSES, "Number of reads which were not served from the resource cache", Tags.of("kind", resourceKind, "operation", "get"));
+        this.listHits = metricsProvider.counter(METRICS_HITS, "Number of reads served from the resource cache", Tags.of("kind", resourceKind, "operation", "list"));
+        this.listMisses = metricsProvider.counter(METRICS_MISSES, "Number of reads which were not served from the resource cache", Tags.of("kind", resourceKind, "operation", "list"));
+    }
+
+    /**
+     * Adds the indexers and starts the informers.
+     */
+    public void start() {
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.addIndexers(Map.of(CLUSTER_INDEX, ResourceCache::clusterIndexKeys));
+            informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(resourceKind, isStarted, throwable));
+            informer.start();
+            informer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler(resourceKind, t, stopping));
+        }
+
+        LOGGER.infoOp("Started the {} cache for namespaces {}", resourceKind, informers.keySet());
+    }
+
+    /**
+     * Stops the informers.
+     */
+    @SuppressWarnings("unchecked")
+    public void stop() {
+        stopping = true;
+        InformerUtils.stopAll(5_000L, informers.values().toArray(new SharedIndexInformer[0]));
+    }
+
+    /**
+     * Gets the resource from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if the read cannot be served from the cache
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = syncedInformer(namespace);
+        T cached = informer != null ? informer.getIndexer().getByKey(Cache.namespaceKeyFunc(namespace, name)) : null;
+
+        if (cached != null && observedWrite(namespace, name, cached)) {
+            getHits.increment();
+            return serialization.clone(cached);
+        } else {
+            getMisses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources matching the label selector from the cache. Only the selectors with the strimzi.io/cluster
+     * label are served from the cache, as the informers do not see the resources without it.
+     *
+     * @param namespace     Namespace of the resources (or * for all namespaces)
+     * @param matchLabels   Labels the resources have to match (or null to match all resources)
+     *
+     * @return  Copies of the matching resources or null if the read cannot be served from the cache
+     */
+    public List<T> list(String namespace, Map<String, String> matchLabels) {
+        SharedIndexInformer<T> informer = syncedInformer(namespace);
+        String cluster = matchLabels != null ? matchLabels.get(Labels.STRIMZI_CLUSTER_LABEL) : null;
+
+        if (informer == null || cluster == null || !observedWrites(namespace)) {
+            listMisses.increment();
+            return null;
+        }
+
+        List<T> candidates;
+        if (ConfigParameter.ANY_NAMESPACE.equals(namespace)) {
+            candidates = informer.getIndexer().list();
+        } else {
+            candidates = informer.getIndexer().byIndex(CLUSTER_INDEX, Cache.namespaceKeyFunc(namespace, cluster));
+        }
+
+        listHits.increment();
+        return candidates.stream()
+                .filter(resource -> matches(resource, matchLabels))
+                .map(serialization::clone)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records a change of the resource made by the operator. The cache does not serve the resource (or lists from its
+     * namespace) until the informer observes the change.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        The resource returned by the change, or null when the resource was deleted or the outcome
+     *                      is not known
+     * @param deleted       Whether the resource was deleted
+     */
+    public void written(String namespace, String name, T result, boolean deleted) {
+        String resourceVersion = result != null && result.getMetadata() != null ? result.getMetadata().getResourceVersion() : null;
+        writes.put(Cache.namespaceKeyFunc(namespace, name), new Write(namespace, resourceVersion, deleted, System.nanoTime()));
+    }
+
+    private SharedIndexInformer<T> syncedInformer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null) {
+            informer = informers.get(ConfigParameter.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    /**
+     * Checks whether the informer observed the last change of the resource made by the operator. The record of the
+     * change is removed once observed or after the grace period.
+     */
+    private boolean observedWrite(String namespace, String name, T cached) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        Write write = writes.get(key);
+
+        if (write == null) {
+            return true;
+        } else if (write.isObservedBy(cached) || write.isExpired()) {
+            writes.remove(key, write);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the informer observed all changes made by the operator in the namespace.
+     */
+    private boolean observedWrites(String namespace) {
+        boolean observed = true;
+
+        Iterator<Map.Entry<String, Write>> iterator = writes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Write> entry = iterator.next();
+            Write write = entry.getValue();
+
+            if (ConfigParameter.ANY_NAMESPACE.equals(namespace) || write.namespace.equals(namespace)) {
+                SharedIndexInformer<T> informer = informers.getOrDefault(write.namespace, informers.get(ConfigParameter.ANY_NAMESPACE));
+                T cached = informer != null ? informer.getIndexer().getByKey(entry.getKey()) : null;
+
+                if (write.isObservedBy(cached) || write.isExpired()) {
+                    iterator.remove();
+                } else {
+                    observed = false;
+                }
+            }
+        }
+
+        return observed;
+    }
+
+    private static boolean matches(HasMetadata resource, Map<String, String> matchLabels) {
+        if (matchLabels == null || matchLabels.isEmpty()) {
+            return true;
+        }
+
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return labels != null && labels.entrySet().containsAll(matchLabels.entrySet());
+    }
+
+    private static List<String> clusterIndexKeys(HasMetadata resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        String cluster = labels != null ? labels.get(Labels.STRIMZI_CLUSTER_LABEL) : null;
+
+        List<String> keys = new ArrayList<>(1);
+        if (cluster != null) {
+            keys.add(Cache.namespaceKeyFunc(resource.getMetadata().getNamespace(), cluster));
+        }
+
+        return keys;
+    }
+
+    /**
+     * Change of a resource made by the operator
+     *
+     * @param namespace         Namespace of the resource
+     * @param resourceVersion   Resource version returned by the change or null if not known
+     * @param deleted           Whether the resource was deleted
+     * @param timestampNanos    Time of the change
+     */
+    private record Write(String namespace, String resourceVersion, boolean deleted, long timestampNanos) {
+        boolean isObservedBy(HasMetadata cached) {
+            if (deleted) {
+                return cached == null;
+            } else {
+                return cached != null && resourceVersion != null && Objects.equals(resourceVersion, cached.getMetadata().getResourceVersion());
+            }
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - timestampNanos > WRITE_GRACE_PERIOD_NS;
+        }
+    }
+}
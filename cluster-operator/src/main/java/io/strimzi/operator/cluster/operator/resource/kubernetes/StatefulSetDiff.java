@@ -7,14 +7,16 @@ package io.strimzi.operator.cluster.operator.resource.kubernetes;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.cluster.model.Quantities;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
+import io.strimzi.operator.common.model.JsonTreeDiff;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -84,15 +86,17 @@ public class StatefulSetDiff extends AbstractJsonDiff {
     public StatefulSetDiff(Reconciliation reconciliation, StatefulSet current, StatefulSet desired) {
         JsonNode source = PATCH_MAPPER.valueToTree(current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        // All differences are needed to find out which parts of the StatefulSet changed
+        List<JsonTreeDiff.Difference> diff = new ArrayList<>();
+        JsonTreeDiff.walk(source, target, diff::add);
         int num = 0;
         boolean changesVolumeClaimTemplate = false;
         boolean changesVolumeSize = false;
         boolean changesSpecTemplate = false;
         boolean changesLabels = false;
         boolean changesSpecReplicas = false;
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+        for (JsonTreeDiff.Difference d : diff) {
+            String pathValue = d.path();
             if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
                 ObjectMeta md = current.getMetadata();
                 LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
@@ -100,7 +104,7 @@ public class StatefulSetDiff extends AbstractJsonDiff {
             }
             Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
             if (resourceMatchers.matches()) {
-                if ("replace".equals(d.path("op").asText())) {
+                if (d.operation() == JsonTreeDiff.Operation.REPLACE) {
                     boolean same = compareMemoryAndCpuResources(source, target, pathValue, resourceMatchers);
                     if (same) {
                         ObjectMeta md = current.getMetadata();
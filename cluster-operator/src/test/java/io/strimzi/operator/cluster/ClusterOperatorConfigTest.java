@@ -245,6 +245,22 @@ public class ClusterOperatorConfigTest {
             new LocalObjectReferenceBuilder().withName("secret3").build()));
     }
 
+    @Test
+    public void testCertificateKeyPool() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCertificateKeyPoolSize(), is(0));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.CERTIFICATE_KEY_POOL_SIZE.key(), "20");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getCertificateKeyPoolSize(), is(20));
+
+        envVars.put(ClusterOperatorConfig.CERTIFICATE_KEY_POOL_SIZE.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
     @Test
     public void testImagePullSecretsThrowsWithInvalidCharacter() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -17,7 +17,6 @@ import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.HashMap;
@@ -450,8 +449,7 @@ public class ClusterCaRenewalTest {
         }
 
         @Override
-        protected CertAndKey generateSignedCert(Subject subject,
-                                                File csrFile, File keyFile, File certFile, File keyStoreFile) {
+        protected CertAndKey generateSignedCert(Subject subject) {
             int index = invocationCount.getAndIncrement();
 
             return new CertAndKey(
@@ -0,0 +1,62 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ParallelSuite
+public class KafkaConfigModelsTest {
+    @ParallelTest
+    public void testModelIsLoadedOnce() {
+        KafkaVersion version = KafkaVersionTestUtils.getLatestVersion();
+
+        KafkaConfigModels models = KafkaConfigModels.forVersion(version);
+
+        assertThat(models.version(), is(version.version()));
+        assertThat(KafkaConfigModels.forVersion(version), sameInstance(models));
+        assertThat(KafkaConfiguration.readConfigModel(version), sameInstance(models.configs()));
+        assertThrows(UnsupportedOperationException.class, () -> models.configs().remove("broker.id"));
+    }
+
+    @ParallelTest
+    public void testLookup() {
+        KafkaConfigModels models = KafkaConfigModels.forVersion(KafkaVersionTestUtils.getLatestVersion());
+
+        assertThat(models.isKnown("log.retention.ms"), is(true));
+        assertThat(models.type("log.retention.ms"), is(Type.LONG));
+        assertThat(models.scope("log.retention.ms"), is(Scope.CLUSTER_WIDE));
+        assertThat(models.isReadOnly("log.retention.ms"), is(false));
+
+        assertThat(models.scope("broker.id"), is(Scope.READ_ONLY));
+        assertThat(models.isReadOnly("broker.id"), is(true));
+
+        assertThat(models.isKnown("my.plugin.option"), is(false));
+        assertThat(models.type("my.plugin.option"), is(nullValue()));
+        assertThat(models.scope("my.plugin.option"), is(nullValue()));
+        assertThat(models.isReadOnly("my.plugin.option"), is(false));
+    }
+
+    @ParallelTest
+    public void testMissingModel() {
+        KafkaVersion version = KafkaVersionTestUtils.getKafkaVersionLookup().version("2.6.0");
+
+        RuntimeException exc = assertThrows(RuntimeException.class, () -> KafkaConfigModels.forVersion(version));
+        assertThat(exc.getMessage(), is("Configuration model /kafka-2.6.0-config-model.json was not found"));
+
+        // Failures are not cached
+        exc = assertThrows(RuntimeException.class, () -> KafkaConfigModels.forVersion(version));
+        assertThat(exc.getMessage(), is("Configuration model /kafka-2.6.0-config-model.json was not found"));
+    }
+}
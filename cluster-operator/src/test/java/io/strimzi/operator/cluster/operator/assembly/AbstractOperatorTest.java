@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.common.Spec;
 import io.strimzi.api.kafka.model.kafka.Status;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableStatusedNamespacedResourceOperator;
@@ -25,7 +26,6 @@ import io.vertx.core.shareddata.Lock;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
-import io.vertx.micrometer.backends.BackendRegistries;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -64,7 +64,7 @@ class AbstractOperatorTest {
     void testWithLockCallableSuccessfulReleasesLock(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
-        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
         String lockName = target.getLockName(reconciliation);
 
@@ -81,7 +81,7 @@ class AbstractOperatorTest {
         })));
 
         successHandlerCalled.future()
-            .compose(v -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
+            .compose(v -> target.locks.acquire(lockName, 10000L))
             .onComplete(context.succeeding(lock -> context.verify(() -> {
                 assertThat(lock, instanceOf(Lock.class));
                 lock.release();
@@ -97,7 +97,7 @@ class AbstractOperatorTest {
     void testWithLockCallableHandledExceptionReleasesLock(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
-        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
         String lockName = target.getLockName(reconciliation);
 
@@ -116,7 +116,7 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
+            .compose(nothing -> target.locks.acquire(lockName, 10000L))
             .onComplete(context.succeeding(lock -> context.verify(() -> {
                 assertThat(lock, instanceOf(Lock.class));
                 lock.release();
@@ -132,7 +132,7 @@ class AbstractOperatorTest {
     void testWithLockCallableUnhandledExceptionReleasesLock(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
-        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
         String lockName = target.getLockName(reconciliation);
 
@@ -153,7 +153,7 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
+            .compose(nothing -> target.locks.acquire(lockName, 10000L))
             .onComplete(context.succeeding(lock -> context.verify(() -> {
                 assertThat(lock, instanceOf(Lock.class));
                 lock.release();
@@ -170,7 +170,7 @@ class AbstractOperatorTest {
     void testWithLockFailHandlerUnhandledExceptionReleasesLock(VertxTestContext context) {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
-        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
         String lockName = target.getLockName(reconciliation);
 
@@ -204,7 +204,7 @@ class AbstractOperatorTest {
 
         failHandlerCalled.future()
             .compose(nothing ->
-                vertx.sharedData().getLockWithTimeout(lockName, 10000L))
+                target.locks.acquire(lockName, 10000L))
             .onComplete(context.succeeding(lock -> context.verify(() -> {
                 assertThat(lock, instanceOf(Lock.class));
                 lock.release();
@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ConnectorsSnapshotTest {
+    @Test
+    public void testFromExpanded() {
+        ConnectorsSnapshot snapshot = ConnectorsSnapshot.fromExpanded(Map.of(
+                "my-connector", Map.of(
+                        "status", Map.of("name", "my-connector", "connector", Map.of("state", "RUNNING")),
+                        "info", Map.of("name", "my-connector", "config", Map.of("connector.class", "MyClass", "tasks.max", 2))),
+                "other-connector", Map.of()));
+
+        assertThat(snapshot.names(), containsInAnyOrder("my-connector", "other-connector"));
+        assertThat(snapshot.exists("my-connector"), is(true));
+        assertThat(snapshot.exists("missing-connector"), is(false));
+
+        assertThat(snapshot.config("my-connector"), is(Map.of("connector.class", "MyClass", "tasks.max", "2")));
+        assertThat(snapshot.status("my-connector"), is(Map.of("name", "my-connector", "connector", Map.of("state", "RUNNING"))));
+
+        // Status and info are not known
+        assertThat(snapshot.config("other-connector"), is(nullValue()));
+        assertThat(snapshot.status("other-connector"), is(nullValue()));
+    }
+
+    @Test
+    public void testFromNames() {
+        ConnectorsSnapshot snapshot = ConnectorsSnapshot.fromNames(List.of("my-connector"));
+
+        assertThat(snapshot.exists("my-connector"), is(true));
+        assertThat(snapshot.config("my-connector"), is(nullValue()));
+        assertThat(snapshot.status("my-connector"), is(nullValue()));
+    }
+
+    @Test
+    public void testWritesAreBounded() {
+        ConnectorsSnapshot snapshot = new ConnectorsSnapshot(Map.of(), 2);
+        List<Promise<Void>> started = new ArrayList<>();
+        List<Future<Void>> results = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            results.add(snapshot.write(() -> {
+                Promise<Void> promise = Promise.promise();
+                started.add(promise);
+                return promise.future();
+            }));
+        }
+
+        assertThat(started.size(), is(2));
+
+        started.get(0).complete();
+        assertThat(started.size(), is(3));
+        assertThat(results.get(0).succeeded(), is(true));
+
+        started.get(1).fail("failure");
+        started.get(2).complete();
+        assertThat(started.size(), is(5));
+        assertThat(results.get(1).failed(), is(true));
+
+        started.get(3).complete();
+        started.get(4).complete();
+        assertThat(results.stream().filter(Future::isComplete).count(), is(5L));
+
+        // The capacity is released once the writes complete
+        snapshot.write(() -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(promise);
+            return promise.future();
+        });
+        assertThat(started.size(), is(6));
+    }
+}
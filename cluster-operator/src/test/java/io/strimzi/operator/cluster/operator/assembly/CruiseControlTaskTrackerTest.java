@@ -0,0 +1,150 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlTaskTrackerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final Reconciliation FIRST = new Reconciliation("test", "KafkaRebalance", "my-namespace", "first-rebalance");
+    private static final Reconciliation SECOND = new Reconciliation("test", "KafkaRebalance", "my-namespace", "second-rebalance");
+
+    private static Vertx vertx;
+
+    private CruiseControlApi apiClient;
+    private Map<String, CruiseControlUserTaskStatus> statuses;
+    private List<Set<String>> polls;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        statuses = new ConcurrentHashMap<>();
+        polls = new CopyOnWriteArrayList<>();
+
+        apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(any(), anyString(), anyInt(), any())).thenAnswer(i -> {
+            Set<String> userTaskIds = i.getArgument(3, Set.class);
+            polls.add(Set.copyOf(userTaskIds));
+            return Future.succeededFuture(Map.copyOf(statuses));
+        });
+    }
+
+    @Test
+    public void testTasksAreFetchedTogetherAndOnlyChangedAreWokenUp(VertxTestContext context) {
+        Promise<Reconciliation> wokenUp = Promise.promise();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, 9090, 10L, 40L, wokenUp::tryComplete);
+        Checkpoint async = context.checkpoint();
+
+        statuses.put("first-task", CruiseControlUserTaskStatus.ACTIVE);
+        statuses.put("second-task", CruiseControlUserTaskStatus.IN_EXECUTION);
+
+        tracker.track(FIRST, HOST, apiClient, "first-task");
+        tracker.track(SECOND, HOST, apiClient, "second-task");
+
+        vertx.setTimer(100L, id -> {
+            // Nothing changed, so nothing is woken up
+            context.verify(() -> {
+                assertThat(wokenUp.future().isComplete(), is(false));
+                assertThat(polls.get(0), is(Set.of("first-task", "second-task")));
+            });
+
+            statuses.put("second-task", CruiseControlUserTaskStatus.COMPLETED);
+
+            wokenUp.future().onComplete(context.succeeding(reconciliation -> context.verify(() -> {
+                assertThat(reconciliation.kind(), is("KafkaRebalance"));
+                assertThat(reconciliation.namespace(), is("my-namespace"));
+                assertThat(reconciliation.name(), is("second-rebalance"));
+
+                tracker.untrack(FIRST);
+                tracker.untrack(SECOND);
+                assertThat(tracker.isTracked(FIRST), is(false));
+                assertThat(tracker.pollIntervalMs(HOST), is(-1L));
+                async.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testFinishedTaskIsWokenUpOnFirstPoll(VertxTestContext context) {
+        Promise<Reconciliation> wokenUp = Promise.promise();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, 9090, 10L, 40L, wokenUp::tryComplete);
+        Checkpoint async = context.checkpoint();
+
+        statuses.put("first-task", CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR);
+        tracker.track(FIRST, HOST, apiClient, "first-task");
+
+        wokenUp.future().onComplete(context.succeeding(reconciliation -> context.verify(() -> {
+            assertThat(reconciliation.name(), is("first-rebalance"));
+            tracker.untrack(FIRST);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testPollIntervalBacksOffAndPollingStops(VertxTestContext context) {
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, 9090, 10L, 40L, reconciliation -> context.failNow("Unexpected wake up"));
+        Checkpoint async = context.checkpoint();
+
+        statuses.put("first-task", CruiseControlUserTaskStatus.ACTIVE);
+        tracker.track(FIRST, HOST, apiClient, "first-task");
+        assertThat(tracker.pollIntervalMs(HOST), is(10L));
+
+        vertx.setTimer(200L, id -> {
+            context.verify(() -> assertThat(tracker.pollIntervalMs(HOST), is(40L)));
+
+            // Tracking a new task resets the interval
+            tracker.track(SECOND, HOST, apiClient, "second-task");
+            context.verify(() -> assertThat(tracker.pollIntervalMs(HOST), is(10L)));
+
+            tracker.untrack(FIRST);
+            tracker.untrack(SECOND);
+            int pollCount = polls.size();
+
+            vertx.setTimer(100L, id2 -> context.verify(() -> {
+                assertThat(tracker.pollIntervalMs(HOST), is(-1L));
+                assertThat(polls.size(), is(pollCount));
+                async.flag();
+            }));
+        });
+    }
+}
@@ -4,8 +4,14 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.model.common.ExternalLoggingBuilder;
+import io.strimzi.api.kafka.model.common.metrics.JmxPrometheusExporterMetricsBuilder;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
 import io.strimzi.api.kafka.model.kafka.KafkaList;
@@ -17,12 +23,16 @@ import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.InvalidResourceException;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.platform.KubernetesVersion;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -37,17 +47,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -209,4 +231,153 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                     async.flag();
                 })));
     }
+
+    private Kafka kafkaWithReferences() {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .withNewConfiguration()
+                                    .withNewBrokerCertChainAndKey()
+                                        .withSecretName("my-listener-cert")
+                                        .withCertificate("tls.crt")
+                                        .withKey("tls.key")
+                                    .endBrokerCertChainAndKey()
+                                .endConfiguration()
+                                .build())
+                        .withLogging(new ExternalLoggingBuilder()
+                                .withNewValueFrom()
+                                    .withNewConfigMapKeyRef("log4j.properties", "my-logging", false)
+                                .endValueFrom()
+                                .build())
+                        .withMetricsConfig(new JmxPrometheusExporterMetricsBuilder()
+                                .withNewValueFrom()
+                                    .withNewConfigMapKeyRef("metrics.yaml", "my-metrics", false)
+                                .endValueFrom()
+                                .build())
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private KafkaAssemblyOperator fingerprintOperator(ResourceOperatorSupplier supplier, List<Secret> clusterSecrets, Map<String, ConfigMap> referencedConfigMaps) {
+        when(supplier.kafkaNodePoolOperator.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.secretOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(clusterSecrets));
+        when(supplier.configMapOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.strimziPodSetOperator.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.secretOperations.getAsync(eq(NAMESPACE), anyString())).thenReturn(Future.succeededFuture(null));
+        when(supplier.configMapOperations.getAsync(eq(NAMESPACE), anyString()))
+                .thenAnswer(i -> Future.succeededFuture(referencedConfigMaps.get(i.getArgument(1, String.class))));
+
+        return new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
+                supplier, ResourceUtils.dummyClusterOperatorConfig());
+    }
+
+    @Test
+    public void testReconciliationFingerprintCoversReferencedResources(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        Map<String, ConfigMap> configMaps = new HashMap<>(Map.of("my-logging", configMap("my-logging", "1"), "my-metrics", configMap("my-metrics", "1")));
+        KafkaAssemblyOperator op = fingerprintOperator(supplier, List.of(), configMaps);
+        Kafka kafka = kafkaWithReferences();
+        Reconciliation reconciliation = new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        op.reconciliationFingerprint(reconciliation, kafka)
+                .compose(first -> op.reconciliationFingerprint(reconciliation, kafka)
+                        .compose(second -> {
+                            context.verify(() -> {
+                                assertThat(first, is(notNullValue()));
+                                assertThat(second, is(first));
+                            });
+
+                            // The referenced logging ConfigMap changes
+                            configMaps.put("my-logging", configMap("my-logging", "2"));
+                            return op.reconciliationFingerprint(reconciliation, kafka);
+                        })
+                        .map(changed -> {
+                            context.verify(() -> assertThat(changed, is(not(first))));
+                            return null;
+                        }))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    verify(supplier.secretOperations, times(3)).getAsync(NAMESPACE, "my-listener-cert");
+                    verify(supplier.configMapOperations, times(3)).getAsync(NAMESPACE, "my-metrics");
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconciliationFingerprintCollectsReferences() {
+        Set<String> secretNames = new TreeSet<>();
+        Set<String> configMapNames = new TreeSet<>();
+
+        KafkaAssemblyOperator.collectReferences(new ObjectMapper().valueToTree(kafkaWithReferences().getSpec()), secretNames, configMapNames);
+
+        assertThat(secretNames, is(Set.of("my-listener-cert")));
+        assertThat(configMapNames, is(Set.of("my-logging", "my-metrics")));
+    }
+
+    @Test
+    public void testReconciliationFingerprintInMaintenanceWindow(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        KafkaAssemblyOperator op = fingerprintOperator(supplier, List.of(), Map.of());
+        Kafka kafka = new KafkaBuilder(kafkaWithReferences())
+                .editSpec()
+                    .withMaintenanceTimeWindows("* * * * * ?")
+                .endSpec()
+                .build();
+
+        Checkpoint async = context.checkpoint();
+        op.reconciliationFingerprint(new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME), kafka)
+                .onComplete(context.succeeding(fingerprint -> context.verify(() -> {
+                    assertThat(fingerprint, is(nullValue()));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconciliationFingerprintInCertificateRenewalPeriod(VertxTestContext context) {
+        Secret clusterCaCert = ResourceUtils.createInitialCaCertSecret(NAMESPACE, NAME, AbstractModel.clusterCaCertSecretName(NAME),
+                MockCertManager.clusterCaCert(), MockCertManager.clusterCaCertStore(), "123456");
+        Instant notAfter = Ca.cert(clusterCaCert, Ca.CA_CRT).getNotAfter().toInstant();
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        KafkaAssemblyOperator op = fingerprintOperator(supplier, List.of(clusterCaCert), Map.of());
+        Kafka kafka = kafkaWithReferences();
+        Reconciliation reconciliation = new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        // Before the default renewal period of 30 days
+        op.clock = Clock.fixed(notAfter.minus(31, ChronoUnit.DAYS), ZoneOffset.UTC);
+        op.reconciliationFingerprint(reconciliation, kafka)
+                .compose(beforeRenewal -> {
+                    context.verify(() -> assertThat(beforeRenewal, is(notNullValue())));
+
+                    // In the renewal period
+                    op.clock = Clock.fixed(notAfter.minus(29, ChronoUnit.DAYS), ZoneOffset.UTC);
+                    return op.reconciliationFingerprint(reconciliation, kafka);
+                })
+                .onComplete(context.succeeding(inRenewal -> context.verify(() -> {
+                    assertThat(inRenewal, is(nullValue()));
+                    async.flag();
+                })));
+    }
 }
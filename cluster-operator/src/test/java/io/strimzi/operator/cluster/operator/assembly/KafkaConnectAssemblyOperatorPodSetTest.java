@@ -79,6 +79,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -190,7 +191,7 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
 
         // Mock Connect REST API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
                 .withType("sink")
@@ -324,7 +325,7 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
 
         // Mock Connect REST API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
                 .withType("sink")
@@ -950,7 +951,7 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
 
         // Mock Connect REST API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
                 .withType("sink")
@@ -1626,6 +1627,48 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
                 })));
     }
 
+    @Test
+    public void testConnectorsSnapshotFallsBackToNamesWhenExpandIsNotSupported(VertxTestContext context) {
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt()))
+                .thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors", 404, "Not Found", "Unknown parameter expand")));
+        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(List.of("my-connector")));
+
+        KafkaConnectAssemblyOperator op = new KafkaConnectAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KUBERNETES_VERSION),
+                ResourceUtils.supplierWithMocks(false), ResourceUtils.dummyClusterOperatorConfig(), x -> mockConnectClient);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaConnect.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        op.connectorsSnapshot(reconciliation, "my-host", mockConnectClient)
+                .onComplete(context.succeeding(snapshot -> context.verify(() -> {
+                    assertThat(snapshot.names(), is(List.of("my-connector")));
+                    assertThat(snapshot.config("my-connector"), is(nullValue()));
+                    assertThat(snapshot.status("my-connector"), is(nullValue()));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConnectorsSnapshotDoesNotFallBackOnServerError(VertxTestContext context) {
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt()))
+                .thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors", 500, "Internal Server Error", "Request timed out")));
+
+        KafkaConnectAssemblyOperator op = new KafkaConnectAssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KUBERNETES_VERSION),
+                ResourceUtils.supplierWithMocks(false), ResourceUtils.dummyClusterOperatorConfig(), x -> mockConnectClient);
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaConnect.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        op.connectorsSnapshot(reconciliation, "my-host", mockConnectClient)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(((ConnectRestException) e).getStatusCode(), is(500));
+                    verify(mockConnectClient, never()).list(any(), anyString(), anyInt());
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testImageStreamValidation(VertxTestContext context) {
         String kcName = "my-connect", kcNamespace = "test";
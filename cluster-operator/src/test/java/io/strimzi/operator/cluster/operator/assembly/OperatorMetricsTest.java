@@ -20,6 +20,7 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.vertx.core.Future;
@@ -41,6 +42,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
@@ -350,6 +352,65 @@ public class OperatorMetricsTest {
                 })));
     }
 
+    @Test
+    public void testUnchangedPeriodicReconciliationsAreSkipped(VertxTestContext context)  {
+        MetricsProvider metricsProvider = createCleanMetricsProvider();
+        AtomicInteger fullReconciliations = new AtomicInteger(0);
+
+        AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithSelectorLabel(null);
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                fullReconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus(CustomResource ignored) {
+                return new Status() { };
+            }
+
+            @Override
+            protected Future<String> reconciliationFingerprint(Reconciliation reconciliation, CustomResource cr) {
+                return Future.succeededFuture("my-fingerprint");
+            }
+
+            @Override
+            protected int fullReconciliationIntervals() {
+                return 3;
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource"))
+                .compose(i -> operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource")))
+                .compose(i -> operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource")))
+                .onComplete(context.succeeding(v -> context.verify(() -> assertThat(fullReconciliations.get(), is(1)))))
+                // Reconciliations triggered by watches are never skipped
+                .compose(i -> operator.reconcile(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource")))
+                .onComplete(context.succeeding(v -> context.verify(() -> assertThat(fullReconciliations.get(), is(2)))))
+                // The full reconciliation is forced after the configured number of intervals
+                .compose(i -> operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource")))
+                .compose(i -> operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource")))
+                .compose(i -> operator.reconcile(new Reconciliation("timer", "TestResource", "my-namespace", "my-resource")))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(fullReconciliations.get(), is(3));
+
+                    MeterRegistry registry = metricsProvider.meterRegistry();
+                    assertThat(registry.get(MetricsHolder.METRICS_RECONCILIATIONS).tag("kind", "TestResource").counter().count(), is(7.0));
+                    assertThat(registry.get(MetricsHolder.METRICS_RECONCILIATIONS_SUCCESSFUL).tag("kind", "TestResource").counter().count(), is(7.0));
+                    assertThat(registry.get(OperatorMetricsHolder.METRICS_RECONCILIATIONS_UNCHANGED).tag("kind", "TestResource").counter().count(), is(4.0));
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testReconcileAll(VertxTestContext context)  {
         MetricsProvider metrics = createCleanMetricsProvider();
@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PeriodicReconciliationSchedulerTest {
+    private MeterRegistry meterRegistry;
+    private Operator operator;
+    private List<Promise<Void>> started;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new ArrayList<>();
+
+        operator = mock(Operator.class);
+        when(operator.kind()).thenReturn("Kafka");
+        when(operator.reconcile(any())).thenAnswer(i -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(promise);
+            return promise.future();
+        });
+    }
+
+    @Test
+    public void testPhaseOffsets() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(null, 120_000L, 10, new MicrometerMetricsProvider(meterRegistry));
+        Set<Long> offsets = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            long offset = scheduler.phaseOffsetMs("Kafka", "my-namespace", "my-cluster-" + i);
+
+            assertThat(offset, is(greaterThanOrEqualTo(0L)));
+            assertThat(offset, is(lessThan(120_000L)));
+            assertThat(scheduler.phaseOffsetMs("Kafka", "my-namespace", "my-cluster-" + i), is(offset));
+            offsets.add(offset);
+        }
+
+        // Similar names are spread across the interval
+        assertThat(offsets.size(), is(greaterThan(90)));
+    }
+
+    @Test
+    public void testConcurrentReconciliationsAreLimited() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(null, 0L, 2, new MicrometerMetricsProvider(meterRegistry));
+        List<Future<Void>> results = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            results.add(scheduler.schedule(operator, new Reconciliation("timer", "Kafka", "my-namespace", "my-cluster-" + i)));
+        }
+
+        assertThat(started.size(), is(2));
+        assertThat(meterRegistry.get(PeriodicReconciliationScheduler.METRICS_RUNNING).tag("kind", "Kafka").gauge().value(), is(2.0));
+        assertThat(meterRegistry.get(PeriodicReconciliationScheduler.METRICS_SCHEDULED).tag("kind", "Kafka").gauge().value(), is(2.0));
+
+        started.get(0).complete();
+        assertThat(started.size(), is(3));
+        assertThat(results.get(0).succeeded(), is(true));
+
+        started.get(1).fail("failure");
+        assertThat(started.size(), is(4));
+        assertThat(results.get(1).failed(), is(true));
+
+        started.get(2).complete();
+        started.get(3).complete();
+        assertThat(results.stream().allMatch(Future::isComplete), is(true));
+        assertThat(meterRegistry.get(PeriodicReconciliationScheduler.METRICS_RUNNING).tag("kind", "Kafka").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get(PeriodicReconciliationScheduler.METRICS_SCHEDULED).tag("kind", "Kafka").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get(PeriodicReconciliationScheduler.METRICS_LAG).tag("kind", "Kafka").timer().count(), is(4L));
+    }
+
+    @Test
+    public void testWaitingReconciliationIsNotScheduledAgain() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(null, 0L, 1, new MicrometerMetricsProvider(meterRegistry));
+
+        scheduler.schedule(operator, new Reconciliation("timer", "Kafka", "my-namespace", "my-cluster"));
+        Future<Void> waiting = scheduler.schedule(operator, new Reconciliation("timer", "Kafka", "my-namespace", "other-cluster"));
+        Future<Void> duplicate = scheduler.schedule(operator, new Reconciliation("timer", "Kafka", "my-namespace", "other-cluster"));
+
+        assertThat(duplicate.succeeded(), is(true));
+        assertThat(waiting.isComplete(), is(false));
+
+        started.get(0).complete();
+        started.get(1).complete();
+        assertThat(waiting.succeeded(), is(true));
+        verify(operator, times(2)).reconcile(any());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconcilerStagesTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private MeterRegistry meterRegistry;
+    private ReconcilerStages stages;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        stages = new ReconcilerStages(RECONCILIATION, new MicrometerMetricsProvider(meterRegistry));
+    }
+
+    @Test
+    public void testIndependentStagesRunConcurrently() {
+        List<String> started = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+
+        Future<Void> result = stages
+                .stage("first", () -> {
+                    started.add("first");
+                    return first.future();
+                })
+                .stage("second", () -> {
+                    started.add("second");
+                    return second.future();
+                })
+                .stage("third", () -> {
+                    started.add("third");
+                    return Future.succeededFuture();
+                }, "first", "second")
+                .run();
+
+        // Both independent stages started before any of them completed
+        assertThat(started, is(List.of("first", "second")));
+
+        second.complete();
+        assertThat(started, is(List.of("first", "second")));
+
+        first.complete();
+        assertThat(started, is(List.of("first", "second", "third")));
+        assertThat(result.succeeded(), is(true));
+
+        assertThat(meterRegistry.get(ReconcilerStages.METRICS_STAGE_DURATION).tag("kind", "Kafka").tag("stage", "third").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testFailedStageSkipsDependentStages() {
+        List<String> started = new ArrayList<>();
+        Promise<Void> independent = Promise.promise();
+
+        Future<Void> result = stages
+                .stage("failing", () -> {
+                    started.add("failing");
+                    throw new RuntimeException("failure");
+                })
+                .stage("independent", () -> {
+                    started.add("independent");
+                    return independent.future();
+                })
+                .stage("dependent", () -> {
+                    started.add("dependent");
+                    return Future.succeededFuture();
+                }, "failing")
+                .run();
+
+        // The graph waits for the stages in progress
+        assertThat(result.isComplete(), is(false));
+
+        independent.complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("failure"));
+        assertThat(started, is(List.of("failing", "independent")));
+    }
+
+    @Test
+    public void testUndefinedDependency() {
+        assertThrows(IllegalArgumentException.class, () -> stages.stage("stage", Future::succeededFuture, "missing"));
+
+        stages.stage("stage", Future::succeededFuture);
+        assertThrows(IllegalArgumentException.class, () -> stages.stage("stage", Future::succeededFuture));
+    }
+}
@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.strimzi.api.kafka.model.connect.KafkaConnect;
@@ -37,6 +38,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOperator;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.TestUtils;
@@ -803,4 +805,111 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(namespace).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests the controller with multiple workers. It creates several StrimziPodSets and drives thousands of pod events
+     * through the controller. All pods should be owned by their StrimziPodSets, the StrimziPodSet statuses should be
+     * up-to-date and the work queues of all shards should be drained at the end.
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testShardedControllerWithManyPodEvents(VertxTestContext context) {
+        int workers = 4;
+        int podSets = 8;
+        int podsPerPodSet = 10;
+        int rounds = 25;
+
+        // Replace the default controller with a sharded one
+        stopController();
+        controller = new StrimziPodSetController(namespace, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()), workers);
+        controller.start();
+
+        try {
+            for (int i = 0; i < podSets; i++) {
+                String podSetName = "sharded-" + i;
+                Pod[] pods = new Pod[podsPerPodSet];
+                for (int j = 0; j < podsPerPodSet; j++) {
+                    pods[j] = pod(namespace, podSetName + "-" + j, KAFKA_NAME, podSetName, "Kafka");
+                }
+
+                // Each StrimziPodSet selects only its own pods
+                StrimziPodSet podSet = new StrimziPodSetBuilder(podSet(namespace, podSetName, KAFKA_NAME, "Kafka", pods))
+                        .editSpec()
+                            .withSelector(new LabelSelector(null, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, KAFKA_NAME, Labels.STRIMZI_NAME_LABEL, podSetName)))
+                        .endSpec()
+                        .build();
+                podSetOp().inNamespace(namespace).resource(podSet).create();
+            }
+
+            TestUtils.waitFor(
+                    "Wait for all Pods to be ready",
+                    100,
+                    60_000,
+                    () -> client.pods().inNamespace(namespace).list().getItems().stream().filter(p -> p.getMetadata().getName().startsWith("sharded-") && Readiness.isPodReady(p)).count() == (long) podSets * podsPerPodSet,
+                    () -> context.failNow("Test timed out waiting for pod readiness!"));
+
+            // Generate thousands of pod events
+            for (int round = 0; round < rounds; round++) {
+                String value = String.valueOf(round);
+
+                for (int i = 0; i < podSets; i++) {
+                    for (int j = 0; j < podsPerPodSet; j++) {
+                        client.pods().inNamespace(namespace).withName("sharded-" + i + "-" + j)
+                                .edit(p -> new PodBuilder(p).editMetadata().addToAnnotations("test-round", value).endMetadata().build());
+                    }
+                }
+            }
+
+            // Delete one pod in each StrimziPodSet and check that they are recreated
+            for (int i = 0; i < podSets; i++) {
+                client.pods().inNamespace(namespace).withName("sharded-" + i + "-0").delete();
+            }
+
+            TestUtils.waitFor(
+                    "Wait for all StrimziPodSets to be reconciled",
+                    100,
+                    60_000,
+                    () -> {
+                        for (int i = 0; i < podSets; i++) {
+                            StrimziPodSet podSet = podSetOp().inNamespace(namespace).withName("sharded-" + i).get();
+                            Pod pod = client.pods().inNamespace(namespace).withName("sharded-" + i + "-0").get();
+
+                            if (pod == null
+                                    || podSet.getStatus() == null
+                                    || podSet.getStatus().getPods() != podsPerPodSet
+                                    || podSet.getStatus().getReadyPods() != podsPerPodSet
+                                    || podSet.getStatus().getCurrentPods() != podsPerPodSet) {
+                                return false;
+                            }
+                        }
+
+                        return true;
+                    },
+                    () -> context.failNow("StrimziPodSets were not reconciled"));
+
+            for (Pod pod : client.pods().inNamespace(namespace).list().getItems()) {
+                if (pod.getMetadata().getName().startsWith("sharded-")) {
+                    checkOwnerReference(pod, pod.getMetadata().getLabels().get(Labels.STRIMZI_NAME_LABEL));
+                }
+            }
+
+            // Each shard has its own queue metric and all queues are drained at the end
+            MeterRegistry registry = metricsProvider.meterRegistry();
+            assertThat(registry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_SHARD_QUEUED).gauges().size(), is(workers));
+
+            TestUtils.waitFor(
+                    "Wait for the shard work queues to be drained",
+                    100,
+                    10_000,
+                    () -> registry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_SHARD_QUEUED).gauges().stream().allMatch(g -> g.value() == 0.0),
+                    () -> context.failNow("Shard work queues were not drained"));
+
+            context.completeNow();
+        } finally {
+            for (int i = 0; i < podSets; i++) {
+                podSetOp().inNamespace(namespace).withName("sharded-" + i).delete();
+            }
+        }
+    }
 }
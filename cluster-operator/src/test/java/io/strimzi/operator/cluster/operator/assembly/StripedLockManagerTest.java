@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Lock;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class StripedLockManagerTest {
+    private static Vertx vertx;
+
+    private StripedLockManager locks;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        locks = new StripedLockManager(vertx);
+    }
+
+    @Test
+    public void testWaitersAcquireTheLockInOrder(VertxTestContext context) {
+        List<String> acquired = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint();
+
+        locks.acquire("my-lock", 10_000L).onComplete(context.succeeding(first -> {
+            acquired.add("first");
+
+            Future<Lock> second = locks.acquire("my-lock", 10_000L).onSuccess(lock -> {
+                acquired.add("second");
+                lock.release();
+            });
+            Future<Lock> third = locks.acquire("my-lock", 10_000L).onSuccess(lock -> {
+                acquired.add("third");
+                lock.release();
+            });
+
+            // Other locks are not blocked
+            locks.acquire("other-lock", 10_000L)
+                    .compose(other -> {
+                        context.verify(() -> assertThat(acquired, is(List.of("first"))));
+                        other.release();
+                        first.release();
+                        // Releasing the same lock again has no effect
+                        first.release();
+
+                        return Future.all(second, third);
+                    })
+                    .onComplete(context.succeeding(v -> context.verify(() -> {
+                        assertThat(acquired, is(List.of("first", "second", "third")));
+                        assertThat(locks.isLocked("my-lock"), is(false));
+                        assertThat(locks.isLocked("other-lock"), is(false));
+                        async.flag();
+                    })));
+        }));
+    }
+
+    @Test
+    public void testAcquireTimesOut(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        locks.acquire("my-lock", 10_000L).onComplete(context.succeeding(held -> locks.acquire("my-lock", 50L)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(locks.isLocked("my-lock"), is(true));
+                    held.release();
+                    assertThat(locks.isLocked("my-lock"), is(false));
+
+                    // The timed out waiter is not handed the lock
+                    locks.acquire("my-lock", 50L).onComplete(context.succeeding(lock -> {
+                        lock.release();
+                        async.flag();
+                    }));
+                })))));
+    }
+}
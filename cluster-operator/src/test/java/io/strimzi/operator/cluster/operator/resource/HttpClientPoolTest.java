@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class HttpClientPoolTest {
+    private Vertx vertx;
+    private MeterRegistry meterRegistry;
+    private HttpClientPool pool;
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new HttpClientPool(vertx, "KafkaConnect", new MicrometerMetricsProvider(meterRegistry));
+    }
+
+    @AfterEach
+    public void teardown() {
+        pool.close();
+        vertx.close();
+    }
+
+    @Test
+    public void testClientIsReusedForTheSameTarget() {
+        HttpClient client = pool.client("my-connect-api", 8083, "", HttpClientOptions::new);
+
+        assertThat(pool.client("my-connect-api", 8083, "", HttpClientOptions::new), is(sameInstance(client)));
+        assertThat(pool.client("other-connect-api", 8083, "", HttpClientOptions::new), is(not(sameInstance(client))));
+        assertThat(pool.size(), is(2));
+        assertThat(meterRegistry.get(HttpClientPool.METRICS_CLIENTS).tag("type", "KafkaConnect").gauge().value(), is(2.0));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenFingerprintChanges() {
+        HttpClient client = pool.client("my-cruise-control", 9090, "tls-1234", HttpClientOptions::new);
+        HttpClient replaced = pool.client("my-cruise-control", 9090, "tls-5678", HttpClientOptions::new);
+
+        assertThat(replaced, is(not(sameInstance(client))));
+        assertThat(pool.client("my-cruise-control", 9090, "tls-5678", HttpClientOptions::new), is(sameInstance(replaced)));
+        assertThat(pool.size(), is(1));
+    }
+
+    @Test
+    public void testRequestMetrics() {
+        pool.<String>withHttpClient("my-connect-api", 8083, "", HttpClientOptions::new, (httpClient, promise) -> {
+            assertThat(meterRegistry.get(HttpClientPool.METRICS_REQUESTS_IN_FLIGHT).gauge().value(), is(1.0));
+            promise.complete("done");
+        });
+
+        pool.<String>withHttpClient("my-connect-api", 8083, "", HttpClientOptions::new, (httpClient, promise) -> {
+            throw new RuntimeException("failed");
+        });
+
+        assertThat(meterRegistry.get(HttpClientPool.METRICS_REQUESTS_IN_FLIGHT).gauge().value(), is(0.0));
+        assertThat(meterRegistry.get(HttpClientPool.METRICS_REQUESTS).timer().count(), is(2L));
+    }
+}
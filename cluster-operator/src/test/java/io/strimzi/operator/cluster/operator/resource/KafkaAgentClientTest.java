@@ -7,9 +7,19 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 
@@ -62,6 +72,90 @@ public class KafkaAgentClientTest {
         assertEquals(0, actual.remainingSegmentsToRecover());
     }
 
+    @Test
+    public void testAwaitBrokerRecovery() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> Stream.of(
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}",
+                "",
+                ": heartbeat",
+                "",
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":50}}",
+                "",
+                "data: {\"brokerState\":3}",
+                "",
+                "data: {\"brokerState\":4}"
+        )).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerRecovery("mypod", 60_000L);
+        assertEquals(3, actual.code());
+        assertFalse(actual.isBrokerInRecovery());
+    }
+
+    @Test
+    public void testAwaitBrokerRecoveryWithoutStreamSupport() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> Stream.of("{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}"))
+                .when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerRecovery("mypod", 60_000L);
+        assertTrue(actual.isBrokerInRecovery());
+        assertEquals(10, actual.remainingLogsToRecover());
+        assertEquals(100, actual.remainingSegmentsToRecover());
+    }
+
+    @Test
+    public void testAwaitBrokerRecoveryTimeout() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> {
+            long timeoutMs = invocation.getArgument(1);
+
+            // Sends one update and then no further lines until the stream is closed on timeout
+            Iterator<String> lines = new Iterator<>() {
+                private boolean sent = false;
+
+                @Override
+                public boolean hasNext() {
+                    if (!sent) {
+                        return true;
+                    }
+
+                    try {
+                        Thread.sleep(timeoutMs + 100L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    throw new UncheckedIOException(new IOException("closed"));
+                }
+
+                @Override
+                public String next() {
+                    sent = true;
+                    return "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}";
+                }
+            };
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines, Spliterator.ORDERED), false);
+        }).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerRecovery("mypod", 100L);
+        assertTrue(actual.isBrokerInRecovery());
+        assertEquals(10, actual.remainingLogsToRecover());
+        assertEquals(100, actual.remainingSegmentsToRecover());
+    }
+
+    @Test
+    public void testAwaitBrokerRecoveryError() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> {
+            throw new RuntimeException("Test failure");
+        }).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerRecovery("mypod", 60_000L);
+        assertEquals(-1, actual.code());
+    }
+
     @Test
     public void testZkMigrationDone() {
         KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
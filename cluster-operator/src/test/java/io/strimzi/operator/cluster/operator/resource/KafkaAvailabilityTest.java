@@ -26,6 +26,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,16 +35,20 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -633,4 +638,102 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testIndexIsRefreshedIncrementally(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 0 should not be rollable, being in the ISR of A which is at min ISR"));
+
+                    // Broker 0 catches up
+                    ksb.topics.get("A").partitions.get(0).isr(0, 1, 2);
+                    return kafkaAvailability.canRoll(0);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable after the ISR was refreshed"));
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll, "broker 1 should be rollable");
+
+                    // All topics are described only once, then only the topics on the evaluated broker
+                    @SuppressWarnings("unchecked")
+                    ArgumentCaptor<Collection<String>> describeTopics = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeTopics(describeTopics.capture());
+                    assertThat(describeTopics.getAllValues().get(0), is(Set.of("A", "B")));
+                    assertThat(describeTopics.getAllValues().get(1), is(Set.of("A")));
+                    assertThat(describeTopics.getAllValues().get(2), is(Set.of("A", "B")));
+
+                    // The configs are described only once for each topic
+                    @SuppressWarnings("unchecked")
+                    ArgumentCaptor<Collection<ConfigResource>> describeConfigs = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeConfigs(describeConfigs.capture());
+                    assertThat(describeConfigs.getAllValues().get(0), is(List.of(new ConfigResource(ConfigResource.Type.TOPIC, "A"))));
+                    assertThat(describeConfigs.getAllValues().get(1), is(List.of(new ConfigResource(ConfigResource.Type.TOPIC, "B"))));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRollableBatch(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 3)
+                        .leader(0)
+                        .isr(0, 3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.rollableBatch(List.of(0, 3, 1, 4), 3)
+                .compose(batch -> {
+                    // Broker 3 would leave B without ISR and broker 1 would leave A/0 under min ISR
+                    context.verify(() -> assertThat(batch, is(List.of(0, 4))));
+                    return kafkaAvailability.rollableBatch(List.of(0, 4, 5), 1);
+                })
+                .onComplete(context.succeeding(batch -> context.verify(() -> {
+                    assertThat(batch, is(List.of(0)));
+                    async.flag();
+                })));
+    }
 }
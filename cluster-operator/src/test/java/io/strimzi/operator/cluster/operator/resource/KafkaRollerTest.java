@@ -7,6 +7,9 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
@@ -17,6 +20,8 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 import io.vertx.core.Future;
@@ -156,6 +161,7 @@ public class KafkaRollerTest {
         when(admin.describeCluster()).thenReturn(mockResult);
         AdminClientProvider mock = mock(AdminClientProvider.class);
         when(mock.createAdminClient(anyString(), any(), any())).thenReturn(admin);
+        when(mock.createDedicatedAdminClient(anyString(), any(), any())).thenReturn(admin);
         return mock;
     }
 
@@ -272,6 +278,68 @@ public class KafkaRollerTest {
                 singletonList(2));
     }
 
+    @Test
+    public void testRollInRackAwareBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(2, new MicrometerMetricsProvider(meterRegistry), addPodNames(6), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), mockKafkaAgentClientProvider(), false, null, -1) {
+            @Override
+            Map<Integer, String> racks() {
+                return Map.of(0, "zone0", 1, "zone1", 2, "zone2", 3, "zone0", 4, "zone1", 5, "zone2");
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // The brokers from the same rack are restarted together
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(6));
+                    assertThat(Set.copyOf(restarted.subList(0, 2)), is(Set.of(0, 3)));
+                    assertThat(Set.copyOf(restarted.subList(2, 4)), is(Set.of(1, 4)));
+                    assertThat(Set.copyOf(restarted.subList(4, 6)), is(Set.of(2, 5)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+
+                    DistributionSummary batchSize = meterRegistry.get(KafkaRollerMetrics.METRICS_ROLLING_UPDATE_BATCH_SIZE).summary();
+                    assertThat(batchSize.count(), is(3L));
+                    assertThat(batchSize.totalAmount(), is(6.0));
+                    assertThat(meterRegistry.get(KafkaRollerMetrics.METRICS_ROLLING_UPDATE_DURATION).timer().count(), is(1L));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testControllerIsRolledLastWhenRollingInBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(2, null, addPodNames(6), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), mockKafkaAgentClientProvider(), false, null, 3) {
+            @Override
+            Map<Integer, String> racks() {
+                return Map.of(0, "zone0", 1, "zone1", 2, "zone2", 3, "zone0", 4, "zone1", 5, "zone2");
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // The controller is not rolled together with the other broker from its rack, but after all batches
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(6));
+                    assertThat(restarted.get(0), is(0));
+                    assertThat(Set.copyOf(restarted.subList(1, 3)), is(Set.of(1, 4)));
+                    assertThat(Set.copyOf(restarted.subList(3, 5)), is(Set.of(2, 5)));
+                    assertThat(restarted.get(5), is(3));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
     public Set<NodeRef> addPodNames(int replicas) {
         Set<NodeRef> podNames = new LinkedHashSet<>(replicas);
 
@@ -612,6 +680,53 @@ public class KafkaRollerTest {
                 List.of(1, 2));
     }
 
+    @Test
+    public void testBrokerReadyAfterRecovery(VertxTestContext testContext) {
+        AtomicBoolean recovered = new AtomicBoolean(false);
+        AtomicInteger readinessChecks = new AtomicInteger();
+        PodOperator podOps = mockPodOps(podId ->
+                // The first pod is not ready until it completes the log recovery
+                (podId == 0 && !recovered.get()) ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+
+        Map<String, Object> recoveryState = new HashMap<>();
+        recoveryState.put("remainingLogsToRecover", 10);
+        recoveryState.put("remainingSegmentsToRecover", 100);
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addPodNames(REPLICAS),
+                podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, null, null, false, null, -1) {
+            @Override
+            KafkaAgentClient initKafkaAgentClient() {
+                KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+                when(kafkaAgentClient.getBrokerState(anyString())).thenReturn(new BrokerState(2, recoveryState));
+                when(kafkaAgentClient.awaitBrokerRecovery(anyString(), anyLong())).thenAnswer(invocation -> {
+                    recovered.set(true);
+                    return new BrokerState(3, null);
+                });
+                return kafkaAgentClient;
+            }
+
+            @Override
+            protected Future<Void> isReady(String namespace, String podName) {
+                if (podName2Number(podName) == 0) {
+                    readinessChecks.incrementAndGet();
+                }
+
+                return super.isReady(namespace, podName);
+            }
+        };
+
+        // The readiness of the first pod is checked before the recovery, again once the recovery completes and
+        // finally when the pod is not restarted
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                emptyList(),
+                emptyList(),
+                () -> testContext.verify(() -> assertThat(readinessChecks.get(), is(3))));
+    }
+
     @Test
     public void testBrokerInRunningState(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -793,7 +908,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -856,6 +971,25 @@ public class KafkaRollerTest {
                                    AdminClientProvider adminClientProvider,
                                    KafkaAgentClientProvider kafkaAgentClientProvider,
                                    boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
+            this(1, null, nodes, podOps, acOpenException, acCloseException, controllerException, alterConfigsException, getConfigsException,
+                    canRollFn, delegateControllerCall, adminClientProvider, kafkaAgentClientProvider, delegateAdminClientCall, brokerState, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(int maxBatchSize,
+                                   MetricsProvider metricsProvider,
+                                   Set<NodeRef> nodes,
+                                   PodOperator podOps,
+                                   Function<Set<NodeRef>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   KafkaAgentClientProvider kafkaAgentClientProvider,
+                                   boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -871,7 +1005,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class));
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxBatchSize,
+                    metricsProvider);
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
@@ -890,7 +1026,8 @@ public class KafkaRollerTest {
         @Override
         KafkaAgentClient initKafkaAgentClient() {
             return mock(KafkaAgentClient.class, invocation -> {
-                if ("getBrokerState".equals(invocation.getMethod().getName())) {
+                if ("getBrokerState".equals(invocation.getMethod().getName())
+                        || "awaitBrokerRecovery".equals(invocation.getMethod().getName())) {
                     if (brokerState == null) {
                         return new BrokerState(-1, null);
                     }
@@ -941,6 +1078,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<List<Integer>> rollableBatch(List<Integer> candidates, int maxBatchSize) {
+                    return succeededFuture(candidates.subList(0, Math.min(maxBatchSize, candidates.size())));
+                }
             };
         }
 
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -70,6 +71,7 @@ public class ZookeeperLeaderFinderTest {
 
     class TestingZookeeperLeaderFinder extends ZookeeperLeaderFinder {
         private final int[] ports;
+        private final List<String> probedPods = new CopyOnWriteArrayList<>();
 
         public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports) {
             super(vertx, backOffSupplier);
@@ -85,6 +87,12 @@ public class ZookeeperLeaderFinderTest {
                     .setSsl(true);
         }
 
+        @Override
+        protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions) {
+            probedPods.add(podName);
+            return super.isLeader(reconciliation, podName, netClientOptions);
+        }
+
         @Override
         protected String host(Reconciliation reconciliation, String podName) {
             return "localhost";
@@ -273,9 +281,9 @@ public class ZookeeperLeaderFinderTest {
         finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), DUMMY_IDENTITY)
             .onComplete(context.succeeding(leader -> context.verify(() -> {
                 assertThat(leader, is(leaderPod));
-                for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
-                }
+                // The pods are probed in parallel, so the probe of the other pod might still be in progress
+                assertThat(finder.probedPods.size(), is(2 * (succeedOnAttempt + 1)));
+                assertThat(zks.get(desiredLeaderId).attempts.get(), is(succeedOnAttempt + 1));
                 a.flag();
             })));
     }
@@ -287,15 +295,38 @@ public class ZookeeperLeaderFinderTest {
 
         int[] ports = startMockZks(context, 2, (id, attempt) -> id == leader);
 
-        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        TestingZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
 
         Checkpoint a = context.checkpoint();
         finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), DUMMY_IDENTITY)
             .onComplete(context.succeeding(l -> context.verify(() -> {
                 assertThat(l, is(leaderPod));
-                for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
-                }
+                // The pods are probed in parallel, so the probe of the other pod might still be in progress
+                assertThat(finder.probedPods.size(), is(2));
+                assertThat(zks.get(leader).attempts.get(), is(1));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testLastKnownLeaderIsProbedFirst(VertxTestContext context) throws InterruptedException {
+        String leaderPod = "my-cluster-zookeeper-1";
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == 1);
+
+        TestingZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Set<String> pods = new TreeSet<>(List.of(createPodWithId(0), createPodWithId(1), createPodWithId(2)));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, DUMMY_IDENTITY)
+            .compose(leader -> {
+                context.verify(() -> assertThat(leader, is(leaderPod)));
+                finder.probedPods.clear();
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, DUMMY_IDENTITY);
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                assertThat(leader, is(leaderPod));
+                assertThat(finder.probedPods, is(List.of(leaderPod)));
                 a.flag();
             })));
     }
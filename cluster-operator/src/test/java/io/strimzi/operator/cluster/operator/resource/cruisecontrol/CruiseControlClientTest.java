@@ -26,6 +26,8 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
@@ -145,6 +147,22 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetUserTaskStatuses(Vertx vertx, VertxTestContext context) {
+        cruiseControlServer.setupCCUserTasksStatuses();
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+        Set<String> userTaskIds = Set.of(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID, MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID);
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTaskStatuses(Reconciliation.DUMMY_RECONCILIATION, HOST, cruiseControlPort, userTaskIds).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result, is(Map.of(
+                    MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID, CruiseControlUserTaskStatus.IN_EXECUTION,
+                    MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID, CruiseControlUserTaskStatus.COMPLETED))));
+            checkpoint.flag();
+        }));
+    }
+
     @Test
     public void testCCAddBroker(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         AddBrokerOptions options = new AddBrokerOptions.AddBrokerOptionsBuilder()
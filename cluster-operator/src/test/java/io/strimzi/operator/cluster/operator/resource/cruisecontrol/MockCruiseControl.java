@@ -490,6 +490,33 @@ public class MockCruiseControl {
                                 .withDelay(TimeUnit.SECONDS, 0));
     }
 
+    /**
+     * Sets up the User Tasks endpoint for a single request asking for the states of multiple user tasks. The rebalance
+     * task with no goals set is in execution and the verbose rebalance task with no goals set is completed.
+     */
+    public void setupCCUserTasksStatuses() {
+        JsonBody jsonStatuses = new JsonBody(TestUtils.jsonFromResource(CC_JSON_ROOT + "CC-User-tasks-statuses.json"));
+
+        server
+                .when(
+                        request()
+                                .withMethod("GET")
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.JSON.toString(), "true"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.FETCH_COMPLETE.toString(), "true"))
+                                // The user task IDs can be sent in any order
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.USER_TASK_IDS.toString(),
+                                        REBALANCE_NO_GOALS_RESPONSE_UTID + "," + REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID + "|"
+                                                + REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID + "," + REBALANCE_NO_GOALS_RESPONSE_UTID))
+                                .withPath(CruiseControlEndpoints.USER_TASKS.toString())
+                                .withHeader(AUTH_HEADER)
+                                .withSecure(true))
+                .respond(
+                        response()
+                                .withBody(jsonStatuses)
+                                .withStatusCode(200)
+                                .withDelay(TimeUnit.SECONDS, 0));
+    }
+
     /**
      * Setup response of task completed with error.
      */
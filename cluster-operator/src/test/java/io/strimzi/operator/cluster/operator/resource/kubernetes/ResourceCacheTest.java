@@ -0,0 +1,151 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private MeterRegistry meterRegistry;
+    private SharedIndexInformer<Secret> informer;
+    private Indexer<Secret> indexer;
+    private ResourceCache<Secret> cache;
+
+    private static final Map<String, String> CLUSTER_SELECTOR = Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster");
+
+    private static Secret secret(String name, String cluster, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, cluster, "foo", "bar"))
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        informer = mock(SharedIndexInformer.class);
+        indexer = mock(Indexer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        cache = new ResourceCache<>("Secret", Map.of(NAMESPACE, informer), new KubernetesSerialization(), new MicrometerMetricsProvider(meterRegistry));
+    }
+
+    private double count(String metric, String operation) {
+        return meterRegistry.get(metric).tag("kind", "Secret").tag("operation", operation).counter().count();
+    }
+
+    @Test
+    public void testGet() {
+        Secret secret = secret("my-secret", "my-cluster", "1");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret);
+
+        Secret cached = cache.get(NAMESPACE, "my-secret");
+        assertThat(cached, is(secret));
+        assertThat(cached, is(not(sameInstance(secret))));
+
+        // Not in the informer store or namespace not cached
+        assertThat(cache.get(NAMESPACE, "other-secret"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "my-secret"), is(nullValue()));
+
+        assertThat(count(ResourceCache.METRICS_HITS, "get"), is(1.0));
+        assertThat(count(ResourceCache.METRICS_MISSES, "get"), is(2.0));
+    }
+
+    @Test
+    public void testGetBeforeSync() {
+        when(informer.hasSynced()).thenReturn(false);
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "my-cluster", "1"));
+
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, CLUSTER_SELECTOR), is(nullValue()));
+    }
+
+    @Test
+    public void testGetAfterWrite() {
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "my-cluster", "1"));
+
+        cache.written(NAMESPACE, "my-secret", secret("my-secret", "my-cluster", "2"), false);
+
+        // The informer did not observe the write yet
+        assertThat(cache.get(NAMESPACE, "my-secret"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, CLUSTER_SELECTOR), is(nullValue()));
+
+        // The informer observed the write
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "my-cluster", "2"));
+        assertThat(cache.get(NAMESPACE, "my-secret").getMetadata().getResourceVersion(), is("2"));
+    }
+
+    @Test
+    public void testListAfterDelete() {
+        Secret secret = secret("my-secret", "my-cluster", "1");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret);
+        when(indexer.byIndex(ResourceCache.CLUSTER_INDEX, Cache.namespaceKeyFunc(NAMESPACE, "my-cluster"))).thenReturn(List.of(secret));
+
+        cache.written(NAMESPACE, "my-secret", null, true);
+        assertThat(cache.list(NAMESPACE, CLUSTER_SELECTOR), is(nullValue()));
+
+        // The informer observed the deletion
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(null);
+        when(indexer.byIndex(ResourceCache.CLUSTER_INDEX, Cache.namespaceKeyFunc(NAMESPACE, "my-cluster"))).thenReturn(List.of());
+        assertThat(cache.list(NAMESPACE, CLUSTER_SELECTOR), is(List.of()));
+    }
+
+    @Test
+    public void testListUsesClusterIndex() {
+        Secret secret1 = secret("secret-1", "my-cluster", "1");
+        Secret secret2 = new SecretBuilder(secret("secret-2", "my-cluster", "1")).editMetadata().withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster")).endMetadata().build();
+        when(indexer.byIndex(ResourceCache.CLUSTER_INDEX, Cache.namespaceKeyFunc(NAMESPACE, "my-cluster"))).thenReturn(List.of(secret1, secret2));
+
+        List<Secret> all = cache.list(NAMESPACE, Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster"));
+        assertThat(all, is(notNullValue()));
+        assertThat(all, is(List.of(secret1, secret2)));
+
+        List<Secret> filtered = cache.list(NAMESPACE, Map.of(Labels.STRIMZI_CLUSTER_LABEL, "my-cluster", "foo", "bar"));
+        assertThat(filtered, is(List.of(secret1)));
+
+        assertThat(count(ResourceCache.METRICS_HITS, "list"), is(2.0));
+    }
+
+    @Test
+    public void testListWithoutClusterLabelIsNotCached() {
+        // The informers watch only the resources with the strimzi.io/cluster label, so the other lists are incomplete
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Map.of()), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Map.of("foo", "bar")), is(nullValue()));
+        assertThat(cache.list("*", Map.of("foo", "bar")), is(nullValue()));
+
+        assertThat(count(ResourceCache.METRICS_MISSES, "list"), is(4.0));
+    }
+}
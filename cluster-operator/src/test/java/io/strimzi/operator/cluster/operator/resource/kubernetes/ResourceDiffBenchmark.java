@@ -0,0 +1,196 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.MetricsAndLogging;
+import io.strimzi.operator.cluster.model.MockSharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.nodepools.NodePoolUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the structural diff used by {@link ResourceDiff} with the JSON Patch based diff used before.
+ * The diffed resources are generated from a Kafka custom resource in the same way as during the reconciliation: the
+ * services, the per-broker configuration maps and the StrimziPodSets. The current resources carry the metadata added
+ * by Kubernetes, which has to be ignored by the diff. Optionally, the inter-broker protocol version is changed so that
+ * the diff finds a real difference in the broker configurations.
+ *
+ * The benchmark is not run as part of the build. It can be run from the cluster-operator directory after the tests
+ * were compiled:
+ *
+ *     mvn test-compile
+ *     java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" io.strimzi.operator.cluster.operator.resource.kubernetes.ResourceDiffBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResourceDiffBenchmark {
+    private static final SharedEnvironmentProvider SHARED_ENV_PROVIDER = new MockSharedEnvironmentProvider();
+    @SuppressWarnings("deprecation") // Same configuration as used by the diff classes
+    private static final ObjectMapper PATCH_MAPPER = Serialization.jsonMapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
+
+    @Param({"3", "12"})
+    private int replicas;
+
+    @Param({"false", "true"})
+    private boolean changed;
+
+    private final List<HasMetadata> current = new ArrayList<>();
+    private final List<HasMetadata> desired = new ArrayList<>();
+
+    /**
+     * Generates the resources diffed in the benchmark
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        KafkaCluster desiredCluster = kafkaCluster("3.0");
+        KafkaCluster currentCluster = kafkaCluster(changed ? "2.8" : "3.0");
+
+        desired.addAll(resources(desiredCluster));
+        for (HasMetadata resource : resources(currentCluster)) {
+            // Metadata added by Kubernetes which is ignored by the diff
+            resource.setMetadata(new ObjectMetaBuilder(resource.getMetadata())
+                    .withResourceVersion("12345")
+                    .withUid(UUID.randomUUID().toString())
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                    .withGeneration(1L)
+                    .build());
+            current.add(resource);
+        }
+    }
+
+    private KafkaCluster kafkaCluster(String protocolVersion) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withListeners(new GenericKafkaListenerBuilder().withName("plain").withPort(9092).withType(KafkaListenerType.INTERNAL).withTls(false).build(),
+                                new GenericKafkaListenerBuilder().withName("tls").withPort(9093).withType(KafkaListenerType.INTERNAL).withTls(true).build())
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                        .endPersistentClaimStorage()
+                        .withConfig(Map.of("inter.broker.protocol.version", protocolVersion, "default.replication.factor", 3, "min.insync.replicas", 2))
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        return KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka,
+                NodePoolUtils.createKafkaPools(Reconciliation.DUMMY_RECONCILIATION, kafka, null, Map.of(), Map.of(), KafkaVersionTestUtils.DEFAULT_ZOOKEEPER_VERSION_CHANGE, false, SHARED_ENV_PROVIDER),
+                KafkaVersionTestUtils.getKafkaVersionLookup(), KafkaVersionTestUtils.DEFAULT_ZOOKEEPER_VERSION_CHANGE, KafkaMetadataConfigurationState.ZK, null, SHARED_ENV_PROVIDER);
+    }
+
+    private List<HasMetadata> resources(KafkaCluster kafka) {
+        Map<Integer, Map<String, String>> advertisedHostnames = new HashMap<>();
+        Map<Integer, Map<String, String>> advertisedPorts = new HashMap<>();
+        for (int nodeId = 0; nodeId < replicas; nodeId++) {
+            advertisedHostnames.put(nodeId, Map.of("PLAIN_9092", "broker-" + nodeId, "TLS_9093", "broker-" + nodeId));
+            advertisedPorts.put(nodeId, Map.of("PLAIN_9092", "9092", "TLS_9093", "9093"));
+        }
+
+        List<HasMetadata> resources = new ArrayList<>();
+        resources.add(kafka.generateService());
+        resources.add(kafka.generateHeadlessService());
+        resources.addAll(kafka.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts));
+        resources.addAll(kafka.generatePodSets(false, null, null, node -> Map.of()));
+        return resources;
+    }
+
+    /**
+     * Diffs the resources using the structural diff
+     *
+     * @param blackhole     Blackhole consuming the results
+     */
+    @Benchmark
+    public void structuralDiff(Blackhole blackhole) {
+        for (int i = 0; i < desired.size(); i++) {
+            blackhole.consume(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Resource", "my-resource", current.get(i), desired.get(i), ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty());
+        }
+    }
+
+    /**
+     * Diffs the resources by generating the JSON Patch with zjsonpatch
+     *
+     * @param blackhole     Blackhole consuming the results
+     */
+    @Benchmark
+    public void jsonPatchDiff(Blackhole blackhole) {
+        for (int i = 0; i < desired.size(); i++) {
+            JsonNode diff = JsonDiff.asJson(PATCH_MAPPER.valueToTree(current.get(i)), PATCH_MAPPER.valueToTree(desired.get(i)));
+
+            boolean isEmpty = true;
+            for (JsonNode d : diff) {
+                if (!ResourceDiff.DEFAULT_IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                    isEmpty = false;
+                    break;
+                }
+            }
+
+            blackhole.consume(isEmpty);
+        }
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments
+     *
+     * @throws RunnerException  When the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResourceDiffBenchmark.class.getSimpleName()).build()).run();
+    }
+}
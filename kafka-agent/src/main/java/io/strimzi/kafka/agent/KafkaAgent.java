@@ -32,6 +32,7 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
@@ -53,6 +54,11 @@ import java.util.Map;
  *          "remainingSegmentsToRecover": 456
  *        }
  *      }</dd>
+ *     <dt>{@code GET /v1/broker-state/stream}</dt>
+ *     <dd>Streams the broker state as server-sent events. A new event with the same JSON as returned by
+ *      {@code /v1/broker-state} is pushed whenever the broker state or the recovery progress changes. The stream is
+ *      closed once the broker is running or after the timeout given in the optional {@code timeoutMs} query parameter.
+ *     </dd>
  *     <dt>{@code GET /v1/ready}</dt>
  *     <dd>Returns HTTP code 204 if broker state is RUNNING(3). Otherwise returns non successful HTTP code.
  *     </dd>
@@ -61,11 +67,15 @@ import java.util.Map;
 public class KafkaAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
     private static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final String BROKER_STATE_STREAM_PATH = "/v1/broker-state/stream";
     private static final String READINESS_ENDPOINT_PATH = "/v1/ready";
     private static final String KRAFT_MIGRATION_PATH = "/v1/kraft-migration";
     private static final int HTTPS_PORT = 8443;
     private static final int HTTP_PORT = 8080;
     private static final long GRACEFUL_SHUTDOWN_TIMEOUT_MS = 30 * 1000;
+    private static final long STREAM_MAX_DURATION_MS = 10 * 60 * 1000;
+    private static final long STREAM_SAMPLE_INTERVAL_MS = 100;
+    private static final long STREAM_HEARTBEAT_INTERVAL_MS = 1000;
 
     // KafkaYammerMetrics class in Kafka 3.3+
     private static final String YAMMER_METRICS_IN_KAFKA_3_3_AND_LATER = "org.apache.kafka.server.metrics.KafkaYammerMetrics";
@@ -243,6 +253,9 @@ public class KafkaAgent {
         ContextHandler brokerStateContext = new ContextHandler(BROKER_STATE_PATH);
         brokerStateContext.setHandler(getBrokerStateHandler());
 
+        ContextHandler brokerStateStreamContext = new ContextHandler(BROKER_STATE_STREAM_PATH);
+        brokerStateStreamContext.setHandler(getBrokerStateStreamHandler());
+
         ServerConnector httpConn  = new ServerConnector(server);
         httpConn.setPort(HTTP_PORT);
 
@@ -253,7 +266,7 @@ public class KafkaAgent {
         kraftMigrationContext.setHandler(getKRaftMigrationHandler());
 
         server.setConnectors(new Connector[] {httpsConn, httpConn});
-        server.setHandler(new ContextHandlerCollection(brokerStateContext, readinessContext, kraftMigrationContext));
+        server.setHandler(new ContextHandlerCollection(brokerStateContext, brokerStateStreamContext, readinessContext, kraftMigrationContext));
 
         server.setStopTimeout(GRACEFUL_SHUTDOWN_TIMEOUT_MS);
         server.setStopAtShutdown(true);
@@ -273,20 +286,9 @@ public class KafkaAgent {
                 response.setCharacterEncoding("UTF-8");
                 baseRequest.setHandled(true);
 
-                Map<String, Object> brokerStateResponse = new HashMap<>();
                 if (brokerState != null) {
-                    if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
-                        Map<String, Object> recoveryState = new HashMap<>();
-                        recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
-                        recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                        brokerStateResponse.put("recoveryState", recoveryState);
-                    } else {
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                    }
-
                     response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse);
+                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse(brokerState.value()));
                     response.getWriter().print(json);
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
@@ -296,6 +298,101 @@ public class KafkaAgent {
         };
     }
 
+    /**
+     * Creates a Handler instance to handle incoming HTTP requests for the stream of the broker state. The broker state
+     * is sampled locally and pushed to the client as a server-sent event every time it changes. Comment lines are sent
+     * as a heartbeat when nothing changes, so that closed connections are detected.
+     *
+     * @return Handler
+     */
+    /* test */ Handler getBrokerStateStreamHandler() {
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+
+                if (brokerState == null) {
+                    response.setContentType("application/json");
+                    response.setCharacterEncoding("UTF-8");
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    response.getWriter().print("Broker state metric not found");
+                    return;
+                }
+
+                response.setContentType("text/event-stream");
+                response.setCharacterEncoding("UTF-8");
+                response.setHeader("Cache-Control", "no-cache");
+                response.setStatus(HttpServletResponse.SC_OK);
+
+                ObjectMapper mapper = new ObjectMapper();
+                PrintWriter writer = response.getWriter();
+                long deadline = System.currentTimeMillis() + streamTimeoutMs(request.getParameter("timeoutMs"));
+                long lastWrite = 0;
+                String lastJson = null;
+
+                while (true) {
+                    Object observedState = brokerState.value();
+                    String json = mapper.writeValueAsString(brokerStateResponse(observedState));
+                    long now = System.currentTimeMillis();
+
+                    if (!json.equals(lastJson)) {
+                        writer.print("data: " + json + "\n\n");
+                        lastJson = json;
+                        lastWrite = now;
+                    } else if (now - lastWrite >= STREAM_HEARTBEAT_INTERVAL_MS) {
+                        writer.print(": heartbeat\n\n");
+                        lastWrite = now;
+                    }
+
+                    // checkError() flushes the writer and tells us when the client closed the connection
+                    if (writer.checkError() || isBrokerRunning((byte) observedState) || now >= deadline) {
+                        break;
+                    }
+
+                    try {
+                        Thread.sleep(STREAM_SAMPLE_INTERVAL_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Builds the broker state response including the recovery progress when the broker is recovering its logs
+     *
+     * @param observedState     The observed value of the broker state metric
+     *
+     * @return  Map with the broker state response
+     */
+    private Map<String, Object> brokerStateResponse(Object observedState) {
+        Map<String, Object> brokerStateResponse = new HashMap<>();
+        brokerStateResponse.put("brokerState", observedState);
+
+        if ((byte) observedState == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
+            Map<String, Object> recoveryState = new HashMap<>();
+            recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
+            recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
+            brokerStateResponse.put("recoveryState", recoveryState);
+        }
+
+        return brokerStateResponse;
+    }
+
+    private static long streamTimeoutMs(String timeoutMs) {
+        try {
+            return timeoutMs != null ? Math.min(Math.max(Long.parseLong(timeoutMs), 0), STREAM_MAX_DURATION_MS) : STREAM_MAX_DURATION_MS;
+        } catch (NumberFormatException e) {
+            return STREAM_MAX_DURATION_MS;
+        }
+    }
+
+    private static boolean isBrokerRunning(byte observedState) {
+        return BROKER_RUNNING_STATE <= observedState && BROKER_UNKNOWN_STATE != observedState;
+    }
+
     /**
      * Creates a Handler instance to handle incoming HTTP requests for the ZooKeeper to KRaft migration state
      *
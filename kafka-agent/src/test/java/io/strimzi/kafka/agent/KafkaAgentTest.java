@@ -20,8 +20,11 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -99,6 +102,39 @@ public class KafkaAgentTest {
         assertThat(expectedResponse, is(response.body()));
     }
 
+    @Test
+    public void testBrokerStateStream() throws Exception {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2, (byte) 2, (byte) 2, (byte) 3);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingLogs = mock(Gauge.class);
+        when(remainingLogs.value()).thenReturn((byte) 10, (byte) 10, (byte) 5);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingSegments = mock(Gauge.class);
+        when(remainingSegments.value()).thenReturn((byte) 100);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, remainingLogs, remainingSegments, null);
+        context.setHandler(agent.getBrokerStateStreamHandler());
+        server.setHandler(context);
+        server.start();
+
+        // The stream is closed once the broker is running
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_OK));
+        assertThat(response.headers().firstValue("Content-Type").orElse(""), startsWith("text/event-stream"));
+
+        List<String> events = response.body().lines().filter(line -> line.startsWith("data: ")).collect(Collectors.toList());
+        assertThat(events, is(List.of(
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}",
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":100}}",
+                "data: {\"brokerState\":3}")));
+    }
+
     @Test
     public void testBrokerMetricNotFound() throws Exception {
         KafkaAgent agent = new KafkaAgent(null, null, null, null);
@@ -36,4 +36,18 @@ public interface AdminClientProvider {
      * @return Instance of Kafka Admin interface
      */
     Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity, Properties config);
+
+    /**
+     * Create a Kafka Admin interface instance which is not shared with any other user, even when the provider pools
+     * the Admin clients. This should be used when the client is used to check the connectivity to particular nodes.
+     * By default, this is the same as {@link #createAdminClient(String, PemTrustSet, PemAuthIdentity)}.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param kafkaCaTrustSet Trust set for connecting to Kafka
+     * @param authIdentity Identity for TLS client authentication for connecting to Kafka
+     * @return Instance of Kafka Admin interface
+     */
+    default Admin createDedicatedAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity) {
+        return createAdminClient(bootstrapHostnames, kafkaCaTrustSet, authIdentity);
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.auth.PemAuthIdentity;
+import io.strimzi.operator.common.auth.PemTrustSet;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admin client provider which keeps one long-lived Kafka Admin client for each bootstrap address and shares it between
+ * its users. So the reconciliations and the rolling updates of the same Kafka cluster do not have to create a new
+ * Admin client (and open new TLS connections and fetch the metadata again) every time.
+ *
+ * Each user gets its own lease of the shared client. Closing the lease does not close the shared client. Each client
+ * is created with a fingerprint of the trusted certificates and of the identity used to authenticate. When the
+ * fingerprint changes (for example after the CA renewal), the client is replaced with a new one. The replaced clients
+ * and the clients which were not used for a while are closed once all their leases are closed.
+ *
+ * The Admin clients with custom configuration and the dedicated Admin clients are not pooled.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PooledAdminClientProvider.class);
+
+    /**
+     * Metric name for the number of pooled Admin clients
+     */
+    public static final String METRICS_CLIENTS = MetricsHolder.METRICS_PREFIX + "admin.client.pool.clients";
+
+    /**
+     * Metric name for the number of Admin clients created by the pool
+     */
+    public static final String METRICS_CREATED = MetricsHolder.METRICS_PREFIX + "admin.client.pool.created";
+
+    private static final long IDLE_CLIENT_EXPIRY_NS = 600_000_000_000L;
+
+    private final AdminClientProvider delegate;
+    private final long idleClientExpiryNs;
+    private final Map<String, PooledAdmin> clients = new ConcurrentHashMap<>();
+    private final AtomicInteger clientsGauge;
+    private final Counter createdCounter;
+
+    /**
+     * Constructor
+     *
+     * @param delegate          Admin client provider used to create the pooled clients
+     * @param metricsProvider   Metrics provider
+     */
+    public PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metricsProvider) {
+        this(delegate, metricsProvider, IDLE_CLIENT_EXPIRY_NS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate              Admin client provider used to create the pooled clients
+     * @param metricsProvider       Metrics provider
+     * @param idleClientExpiryNs    Time in nanoseconds after which an unused client is closed
+     */
+    /* test */ PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metricsProvider, long idleClientExpiryNs) {
+        this.delegate = delegate;
+        this.idleClientExpiryNs = idleClientExpiryNs;
+        this.clientsGauge = metricsProvider.gauge(METRICS_CLIENTS, "Number of pooled Kafka Admin clients", Tags.empty());
+        this.createdCounter = metricsProvider.counter(METRICS_CREATED, "Number of Kafka Admin clients created by the pool", Tags.empty());
+    }
+
+    /**
+     * Returns a lease of the pooled Admin client for the bootstrap address, creating or replacing the client when
+     * needed. The lease has to be closed when it is not used anymore.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param kafkaCaTrustSet Trust set for connecting to Kafka
+     * @param authIdentity Identity for TLS client authentication for connecting to Kafka
+     * @return Lease of the pooled Admin client
+     */
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity) {
+        long now = System.nanoTime();
+        closeIdleClients(now);
+
+        String fingerprint = fingerprint(kafkaCaTrustSet, authIdentity);
+        PooledAdmin pooled = clients.compute(bootstrapHostnames, (target, existing) -> {
+            if (existing != null && existing.fingerprint.equals(fingerprint)) {
+                existing.acquire(now);
+                return existing;
+            } else {
+                if (existing != null) {
+                    LOGGER.debugOp("Replacing the Admin client for {} after its trust or identity changed", target);
+                    existing.retire();
+                }
+
+                PooledAdmin created = new PooledAdmin(delegate.createAdminClient(target, kafkaCaTrustSet, authIdentity), fingerprint);
+                createdCounter.increment();
+                created.acquire(now);
+                return created;
+            }
+        });
+
+        clientsGauge.set(clients.size());
+        return pooled.lease();
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity, Properties config) {
+        return delegate.createAdminClient(bootstrapHostnames, kafkaCaTrustSet, authIdentity, config);
+    }
+
+    @Override
+    public Admin createDedicatedAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity) {
+        return delegate.createAdminClient(bootstrapHostnames, kafkaCaTrustSet, authIdentity);
+    }
+
+    /**
+     * @return  Number of the pooled Admin clients
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    /**
+     * Closes all pooled Admin clients. The clients which are still leased are closed when their last lease is closed.
+     */
+    public void close() {
+        for (String target : clients.keySet()) {
+            clients.computeIfPresent(target, (t, pooled) -> {
+                pooled.retire();
+                return null;
+            });
+        }
+
+        clientsGauge.set(clients.size());
+    }
+
+    private void closeIdleClients(long now) {
+        for (String target : clients.keySet()) {
+            clients.computeIfPresent(target, (t, pooled) -> {
+                if (pooled.closeIfIdle(now, idleClientExpiryNs)) {
+                    LOGGER.debugOp("Closed the idle Admin client for {}", t);
+                    return null;
+                } else {
+                    return pooled;
+                }
+            });
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the trust set and identity used by the Admin client
+     *
+     * @param kafkaCaTrustSet   Trust set for connecting to Kafka
+     * @param authIdentity      Identity for TLS client authentication for connecting to Kafka
+     *
+     * @return  The fingerprint
+     */
+    /* test */ static String fingerprint(PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (kafkaCaTrustSet != null) {
+                digest.update(kafkaCaTrustSet.trustedCertificatesString().getBytes(StandardCharsets.US_ASCII));
+            }
+
+            digest.update((byte) 0);
+
+            if (authIdentity != null) {
+                digest.update(authIdentity.certificateChainAsPem().getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) 0);
+                digest.update(authIdentity.privateKeyAsPem().getBytes(StandardCharsets.US_ASCII));
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get the SHA-256 digest", e);
+        }
+    }
+
+    /**
+     * Pooled Admin client with the number of its open leases
+     */
+    private static class PooledAdmin {
+        private final Admin admin;
+        private final String fingerprint;
+        private int leases = 0;
+        private long lastUsedNanos;
+        private boolean retired = false;
+
+        PooledAdmin(Admin admin, String fingerprint) {
+            this.admin = admin;
+            this.fingerprint = fingerprint;
+        }
+
+        synchronized void acquire(long now) {
+            leases++;
+            lastUsedNanos = now;
+        }
+
+        void release() {
+            boolean close;
+
+            synchronized (this) {
+                leases--;
+                lastUsedNanos = System.nanoTime();
+                close = retired && leases == 0;
+            }
+
+            if (close) {
+                admin.close();
+            }
+        }
+
+        void retire() {
+            boolean close;
+
+            synchronized (this) {
+                retired = true;
+                close = leases == 0;
+            }
+
+            if (close) {
+                admin.close();
+            }
+        }
+
+        synchronized boolean closeIfIdle(long now, long idleClientExpiryNs) {
+            if (leases == 0 && now - lastUsedNanos > idleClientExpiryNs) {
+                retired = true;
+                admin.close();
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        Admin lease() {
+            return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, new Lease(this));
+        }
+    }
+
+    /**
+     * Lease of a pooled Admin client. Closing the lease releases it instead of closing the Admin client. Closing the
+     * same lease more than once has no effect.
+     */
+    private static class Lease implements InvocationHandler {
+        private final PooledAdmin pooled;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Lease(PooledAdmin pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        pooled.release();
+                    }
+
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    try {
+                        return method.invoke(pooled.admin, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.common.config;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -17,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -131,6 +133,22 @@ public interface ConfigParameterParser<T> {
         };
     }
 
+    /**
+     * Non-negative Number
+     * @param parser ConfigParameterParser object
+     * @param <T>    Type of parameter
+     * @return Non-negative number
+     */
+    static <T extends Number> ConfigParameterParser<T> nonNegative(ConfigParameterParser<T> parser) {
+        return configValue -> {
+            var value = parser.parse(configValue);
+            if (value.longValue() < 0) {
+                throw new InvalidConfigurationException("Failed to parse. Negative value is not supported for this configuration");
+            }
+            return value;
+        };
+    }
+
     /**
      * A Java Boolean
      */
@@ -190,6 +208,17 @@ public interface ConfigParameterParser<T> {
         return namespaces;
     };
 
+    /**
+     * Algorithm of the keys used for the end-entity certificates
+     */
+    ConfigParameterParser<KeyAlgorithm> KEY_ALGORITHM = keyAlgorithm -> {
+        try {
+            return KeyAlgorithm.valueOf(keyAlgorithm.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + keyAlgorithm + " is not a valid key algorithm. Supported values are " + Arrays.toString(KeyAlgorithm.values()), e);
+        }
+    };
+
     /**
      * Parses the Feature Gates configuration
      *
@@ -52,8 +52,10 @@ public abstract class AbstractControllerLoop {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation succeeded. False if it failed and should be retried with a back-off.
      */
-    protected abstract void reconcile(Reconciliation reconciliation);
+    protected abstract boolean reconcile(Reconciliation reconciliation);
 
     /**
      * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
@@ -102,7 +104,8 @@ public abstract class AbstractControllerLoop {
 
     /**
      * Wrapper method to handle obtaining the lock for the resource or re-queueing the reconciliation if the lock is in
-     * use. When it gets the lock, it calls the reconcileWrapper method.
+     * use. When it gets the lock, it calls the reconcileWrapper method. When the lock is in use or when the
+     * reconciliation fails, the reconciliation is re-queued with an exponential back-off.
      *
      * @param reconciliation    Reconciliation marker
      */
@@ -115,7 +118,12 @@ public abstract class AbstractControllerLoop {
 
             if (locked) {
                 try {
-                    reconcileWrapper(reconciliation.toReconciliation());
+                    if (reconcileWrapper(reconciliation.toReconciliation())) {
+                        workQueue.forget(reconciliation);
+                    } else {
+                        LOGGER.debugOp("{}: Reconciliation of {} failed. The resource will be re-queued for later.", name, lockName);
+                        requeue = true;
+                    }
                 } finally {
                     // We have to unlock the resource in any situation
                     lockManager.unlock(lockName);
@@ -133,9 +141,9 @@ public abstract class AbstractControllerLoop {
             requeue = true;
         }
 
-        // Failed to get the lock. We will requeue the resource for next time
+        // Failed to get the lock or to reconcile. We will requeue the resource with a back-off
         if (requeue) {
-            workQueue.enqueue(reconciliation);
+            workQueue.enqueueWithBackOff(reconciliation);
         }
     }
 
@@ -145,8 +153,10 @@ public abstract class AbstractControllerLoop {
      *     - Reconciliation metrics
      *
      * @param reconciliation    Reconciliation marker
+     *
+     * @return  True if the reconciliation succeeded. False otherwise.
      */
-    private void reconcileWrapper(Reconciliation reconciliation) {
+    private boolean reconcileWrapper(Reconciliation reconciliation) {
         // Tasks before reconciliation
         ScheduledFuture<?> progressWarning = scheduledExecutor
                 .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
@@ -155,7 +165,7 @@ public abstract class AbstractControllerLoop {
 
         // Reconciliation
         try {
-            reconcile(reconciliation);
+            return reconcile(reconciliation);
         } finally   {
             // Tasks after reconciliation
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
@@ -8,18 +8,31 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class wraps a de-duplicating work queue and exposes the methods used by controllers. This includes
+ * taking events from the queue and enqueueing events into the queue. Events triggered by the periodic reconciliation
+ * (timer) are enqueued with lower priority than other events (such as watch events). Reconciliations which failed or
+ * could not be started can be re-queued with a per-resource exponential back-off.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    /**
+     * Trigger used for the periodic reconciliations. Events with this trigger are enqueued with low priority.
+     */
+    public static final String TIMER_TRIGGER = "timer";
+
+    private static final long DEFAULT_BACK_OFF_INITIAL_DELAY_MS = 500L;
+    private static final long DEFAULT_BACK_OFF_MAX_DELAY_MS = 60_000L;
+
+    /*test*/ final KeyedWorkQueue<SimplifiedReconciliation> queue;
+    /*test*/ final ConcurrentHashMap<SimplifiedReconciliation, Integer> failures = new ConcurrentHashMap<>();
     private final ControllerMetricsHolder metrics;
+    private final long backOffInitialDelayMs;
+    private final long backOffMaxDelayMs;
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
@@ -29,8 +42,23 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this(queueSize, metrics, DEFAULT_BACK_OFF_INITIAL_DELAY_MS, DEFAULT_BACK_OFF_MAX_DELAY_MS);
+    }
+
+    /**
+     * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
+     * namespace for namespaced mode.
+     *
+     * @param queueSize                 The capacity of the work queue
+     * @param metrics                   Holder for the controller metrics
+     * @param backOffInitialDelayMs     The delay used when re-queueing a resource for the first time
+     * @param backOffMaxDelayMs         The maximal delay used when re-queueing a resource
+     */
+    public ControllerQueue(int queueSize, ControllerMetricsHolder metrics, long backOffInitialDelayMs, long backOffMaxDelayMs) {
+        this.queue = new KeyedWorkQueue<>(queueSize);
         this.metrics = metrics;
+        this.backOffInitialDelayMs = backOffInitialDelayMs;
+        this.backOffMaxDelayMs = backOffMaxDelayMs;
     }
 
     /**
@@ -39,25 +67,93 @@ public class ControllerQueue {
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        KeyedWorkQueue.Entry<SimplifiedReconciliation> entry = queue.take();
+        SimplifiedReconciliation reconciliation = entry.item();
+
+        metrics.queuedReconciliationsGauge(reconciliation.namespace).decrementAndGet();
+        metrics.reconciliationsQueueTimer(reconciliation.namespace).record(System.nanoTime() - entry.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+
+        return reconciliation;
     }
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. Periodic reconciliations are enqueued with low
+     * priority. Other reconciliations are enqueued with high priority and move an already queued reconciliation for
+     * the same resource in front of the periodic reconciliations.
      *
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
-                LOGGER.warn("Failed to enqueue an event because the controller queue is full");
-            }
-        } else {
+        handleOfferResult(reconciliation, queue.offer(reconciliation, priority(reconciliation)));
+    }
+
+    /**
+     * Enqueues the reconciliation after an exponential back-off delay. The delay grows with every re-queued
+     * reconciliation of the same resource until the forget method is called for it. When the resource is already in
+     * the queue or when the queue is full, the reconciliation is not re-queued and the delay does not grow. This
+     * should be used to re-queue reconciliations which failed or which could not be started (for example because the
+     * resource was locked).
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void enqueueWithBackOff(SimplifiedReconciliation reconciliation)    {
+        long delayMs = backOffDelayMs(failures.getOrDefault(reconciliation, 0) + 1);
+
+        LOGGER.debug("Re-queueing {} {} in namespace {} with delay {} ms", reconciliation.kind, reconciliation.name, reconciliation.namespace, delayMs);
+        KeyedWorkQueue.OfferResult result = queue.offerAfter(reconciliation, priority(reconciliation), delayMs, TimeUnit.MILLISECONDS);
+
+        if (result == KeyedWorkQueue.OfferResult.ADDED) {
+            failures.merge(reconciliation, 1, Integer::sum);
+        }
+
+        handleOfferResult(reconciliation, result);
+    }
+
+    /**
+     * Resets the back-off for given resource. This should be called when the reconciliation succeeds.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void forget(SimplifiedReconciliation reconciliation)    {
+        failures.remove(reconciliation);
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue, including the ones waiting for their back-off delay
+     */
+    public int size()   {
+        return queue.size();
+    }
+
+    /**
+     * Calculates the back-off delay for given attempt. The delay doubles with every attempt until it reaches the
+     * maximal delay.
+     *
+     * @param attempt   The attempt number (starting with 1)
+     *
+     * @return  The delay in milliseconds
+     */
+    /*test*/ long backOffDelayMs(int attempt)   {
+        // Shifting by more than ~30 bits would overflow, but the max delay is reached much earlier anyway
+        long delayMs = backOffInitialDelayMs << Math.min(attempt - 1, 30);
+        return delayMs > 0 ? Math.min(delayMs, backOffMaxDelayMs) : backOffMaxDelayMs;
+    }
+
+    private static KeyedWorkQueue.Priority priority(SimplifiedReconciliation reconciliation)   {
+        return TIMER_TRIGGER.equals(reconciliation.trigger) ? KeyedWorkQueue.Priority.LOW : KeyedWorkQueue.Priority.HIGH;
+    }
+
+    private void handleOfferResult(SimplifiedReconciliation reconciliation, KeyedWorkQueue.OfferResult result)  {
+        if (result == KeyedWorkQueue.OfferResult.ADDED) {
+            LOGGER.debug("Enqueued {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            metrics.enqueuedReconciliationsCounter(reconciliation.namespace).increment();
+            metrics.queuedReconciliationsGauge(reconciliation.namespace).incrementAndGet();
+        } else if (result == KeyedWorkQueue.OfferResult.DUPLICATE) {
             metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
             LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+        } else {
+            LOGGER.warn("Failed to enqueue an event because the controller queue is full");
         }
     }
-
 }
@@ -0,0 +1,325 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded work queue which de-duplicates its items. The ready items are kept in linked hash maps which serve both as
+ * the FIFO queues and as the index used to detect duplicates. That makes enqueueing, de-duplication and taking of the
+ * items O(1) operations regardless of how many items are in the queue. Each item also carries the time when it was
+ * enqueued, so that the users of the queue can track how long the items waited in it.
+ *
+ * The queue has two priority lanes. Items from the high priority lane are taken first, but after a burst of high
+ * priority items, one low priority item is taken to make sure the low priority lane is not starved. Items can be also
+ * enqueued with a delay. They are moved to their lane only once the delay expires.
+ *
+ * Each item is in the queue at most once - either in one of the lanes or waiting for its delay to expire. When a high
+ * priority item is enqueued while an equal item is already waiting in the low priority lane or for its delay to
+ * expire, it is moved to the high priority lane.
+ *
+ * @param <T>   Type of the items in the queue. The items are de-duplicated based on their equals and hashCode methods.
+ */
+public class KeyedWorkQueue<T> {
+    /**
+     * Number of consecutive items taken from the high priority lane after which one item from the low priority lane
+     * is taken (if there is any).
+     */
+    /*test*/ static final int HIGH_PRIORITY_BURST = 10;
+
+    private final int capacity;
+    private final LinkedHashMap<T, Long> highPriority = new LinkedHashMap<>();
+    private final LinkedHashMap<T, Long> lowPriority = new LinkedHashMap<>();
+    private final Map<T, DelayedItem<T>> delayed = new HashMap<>();
+    private final PriorityQueue<DelayedItem<T>> delayQueue = new PriorityQueue<>(Comparator.comparingLong(DelayedItem::readyAtNanos));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private int consecutiveHighPriorityTakes = 0;
+
+    /**
+     * Creates the work queue
+     *
+     * @param capacity  The capacity of the work queue
+     */
+    public KeyedWorkQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Work queue capacity must be positive");
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an item to the tail of the high priority lane unless an equal item is already queued or the queue is full.
+     * This method never blocks.
+     *
+     * @param item  Item which should be added to the queue
+     *
+     * @return  The result of the offer indicating whether the item was added, was a duplicate or whether the queue is full
+     */
+    public OfferResult offer(T item) {
+        return offer(item, Priority.HIGH);
+    }
+
+    /**
+     * Adds an item to the tail of the lane with given priority unless an equal item is already queued or the queue is
+     * full. If an equal item is already queued with low priority or with a delay and the new item has high priority,
+     * the queued item is moved to the high priority lane. This method never blocks.
+     *
+     * @param item      Item which should be added to the queue
+     * @param priority  Priority of the item
+     *
+     * @return  The result of the offer indicating whether the item was added, was a duplicate or whether the queue is full
+     */
+    public OfferResult offer(T item, Priority priority) {
+        lock.lock();
+        try {
+            if (highPriority.containsKey(item)) {
+                return OfferResult.DUPLICATE;
+            } else if (lowPriority.containsKey(item)) {
+                if (priority == Priority.HIGH) {
+                    highPriority.put(item, lowPriority.remove(item));
+                }
+
+                return OfferResult.DUPLICATE;
+            } else if (delayed.containsKey(item)) {
+                if (priority == Priority.HIGH) {
+                    // The delayed item stays in the delay queue, but is ignored once it is not in the delayed map anymore
+                    delayed.remove(item);
+                    highPriority.put(item, System.nanoTime());
+                    notEmpty.signal();
+                }
+
+                return OfferResult.DUPLICATE;
+            } else if (sizeLocked() >= capacity) {
+                return OfferResult.FULL;
+            } else {
+                lane(priority).put(item, System.nanoTime());
+                notEmpty.signal();
+                return OfferResult.ADDED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an item to the queue after the given delay unless an equal item is already queued or the queue is full.
+     * If an equal item is already waiting for its delay to expire, the earlier of the two delays is used. This method
+     * never blocks.
+     *
+     * @param item      Item which should be added to the queue
+     * @param priority  Priority of the item
+     * @param delay     Delay after which the item should be moved to its lane
+     * @param unit      Time unit of the delay
+     *
+     * @return  The result of the offer indicating whether the item was added, was a duplicate or whether the queue is full
+     */
+    public OfferResult offerAfter(T item, Priority priority, long delay, TimeUnit unit) {
+        long readyAtNanos = System.nanoTime() + unit.toNanos(delay);
+
+        lock.lock();
+        try {
+            DelayedItem<T> current = delayed.get(item);
+
+            if (highPriority.containsKey(item) || lowPriority.containsKey(item)) {
+                return OfferResult.DUPLICATE;
+            } else if (current != null) {
+                if (readyAtNanos - current.readyAtNanos() < 0) {
+                    addDelayed(new DelayedItem<>(item, priority, readyAtNanos));
+                }
+
+                return OfferResult.DUPLICATE;
+            } else if (sizeLocked() >= capacity) {
+                return OfferResult.FULL;
+            } else {
+                addDelayed(new DelayedItem<>(item, priority, readyAtNanos));
+                return OfferResult.ADDED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next item from the queue. Items from the high priority lane are preferred. Blocks if there is no item
+     * ready to be taken.
+     *
+     * @return  The next entry from the queue
+     *
+     * @throws InterruptedException InterruptedException is thrown if interrupted while waiting for the next item
+     */
+    public Entry<T> take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                moveExpiredDelayedItems(now);
+
+                if (!highPriority.isEmpty()
+                        && (lowPriority.isEmpty() || consecutiveHighPriorityTakes < HIGH_PRIORITY_BURST)) {
+                    consecutiveHighPriorityTakes++;
+                    return removeHeadAndSignal(highPriority);
+                } else if (!lowPriority.isEmpty()) {
+                    consecutiveHighPriorityTakes = 0;
+                    return removeHeadAndSignal(lowPriority);
+                } else if (!delayQueue.isEmpty()) {
+                    notEmpty.awaitNanos(delayQueue.peek().readyAtNanos() - now);
+                } else {
+                    notEmpty.await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether an equal item is already in the queue (including the items waiting for their delay to expire)
+     *
+     * @param item  Item which should be checked
+     *
+     * @return  True if the item is in the queue. False otherwise.
+     */
+    public boolean contains(T item) {
+        lock.lock();
+        try {
+            return highPriority.containsKey(item) || lowPriority.containsKey(item) || delayed.containsKey(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of items in the queue (including the items waiting for their delay to expire)
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return sizeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int sizeLocked() {
+        return highPriority.size() + lowPriority.size() + delayed.size();
+    }
+
+    private LinkedHashMap<T, Long> lane(Priority priority) {
+        return priority == Priority.HIGH ? highPriority : lowPriority;
+    }
+
+    private void addDelayed(DelayedItem<T> delayedItem) {
+        delayed.put(delayedItem.item(), delayedItem);
+        delayQueue.add(delayedItem);
+        // Wakes up a waiting taker so that it recalculates how long it should wait
+        notEmpty.signal();
+    }
+
+    /**
+     * Moves the items with expired delay into their lanes. The delay queue might contain stale entries for items which
+     * were moved to the high priority lane or re-delayed in the meantime. These are recognized because they are not
+     * the same instance as the one in the delayed map, and are just dropped.
+     *
+     * @param now   The current time in nanoseconds
+     */
+    private void moveExpiredDelayedItems(long now) {
+        while (!delayQueue.isEmpty() && delayQueue.peek().readyAtNanos() - now <= 0) {
+            DelayedItem<T> delayedItem = delayQueue.poll();
+
+            if (delayed.get(delayedItem.item()) == delayedItem) {
+                delayed.remove(delayedItem.item());
+                lane(delayedItem.priority()).put(delayedItem.item(), delayedItem.readyAtNanos());
+            }
+        }
+    }
+
+    /**
+     * Removes the head of the lane. If there is some other work left in the queue, it wakes up the next waiting taker.
+     * The waiting takers are otherwise woken up only when new items are added. So without this, some ready items might
+     * wait while other takers are idle - for example when multiple delayed items expire at the same time.
+     *
+     * @param lane  Lane from which the head should be removed
+     *
+     * @return  The entry removed from the head of the lane
+     */
+    private Entry<T> removeHeadAndSignal(LinkedHashMap<T, Long> lane) {
+        Iterator<Map.Entry<T, Long>> iterator = lane.entrySet().iterator();
+        Map.Entry<T, Long> head = iterator.next();
+        iterator.remove();
+
+        if (!highPriority.isEmpty() || !lowPriority.isEmpty() || !delayQueue.isEmpty()) {
+            notEmpty.signal();
+        }
+
+        return new Entry<>(head.getKey(), head.getValue());
+    }
+
+    /**
+     * Priority of the items in the queue
+     */
+    public enum Priority {
+        /**
+         * High priority - for example for events triggered by watches
+         */
+        HIGH,
+
+        /**
+         * Low priority - for example for periodic reconciliations
+         */
+        LOW
+    }
+
+    /**
+     * Result of offering an item to the queue
+     */
+    public enum OfferResult {
+        /**
+         * The item was added to the queue
+         */
+        ADDED,
+
+        /**
+         * An equal item is already in the queue, so the item was not added
+         */
+        DUPLICATE,
+
+        /**
+         * The queue is full, so the item was not added
+         */
+        FULL
+    }
+
+    /**
+     * Item taken from the queue together with the time when it was enqueued
+     *
+     * @param item              The queued item
+     * @param enqueuedAtNanos   Value of System.nanoTime() when the item was enqueued (or when its delay expired)
+     *
+     * @param <T>   Type of the item
+     */
+    public record Entry<T>(T item, long enqueuedAtNanos) { }
+
+    /**
+     * Item waiting for its delay to expire
+     *
+     * @param item          The queued item
+     * @param priority      Priority of the lane into which the item should be moved
+     * @param readyAtNanos  Value of System.nanoTime() when the delay expires
+     *
+     * @param <T>   Type of the item
+     */
+    private record DelayedItem<T>(T item, Priority priority, long readyAtNanos) { }
+}
@@ -19,10 +19,13 @@ public class FeatureGates {
     /* test */ static final FeatureGates NONE = new FeatureGates("");
 
     private static final String CONTINUE_ON_MANUAL_RU_FAILURE = "ContinueReconciliationOnManualRollingUpdateFailure";
+    private static final String IN_JVM_CERTIFICATE_MANAGER = "InJvmCertificateManager";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates(), toString(), equals(), and `hashCode() methods
     private final FeatureGate continueOnManualRUFailure =
         new FeatureGate(CONTINUE_ON_MANUAL_RU_FAILURE, false);
+    private final FeatureGate inJvmCertificateManager =
+        new FeatureGate(IN_JVM_CERTIFICATE_MANAGER, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -47,6 +50,9 @@ public class FeatureGates {
                     case CONTINUE_ON_MANUAL_RU_FAILURE:
                         setValueOnlyOnce(continueOnManualRUFailure, value);
                         break;
+                    case IN_JVM_CERTIFICATE_MANAGER:
+                        setValueOnlyOnce(inJvmCertificateManager, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -87,19 +93,27 @@ public class FeatureGates {
         return continueOnManualRUFailure.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the InJvmCertificateManager feature gate is enabled
+     */
+    public boolean inJvmCertificateManagerEnabled() {
+        return inJvmCertificateManager.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
      * @return  List of all Feature Gates
      */
     /*test*/ List<FeatureGate> allFeatureGates()  {
-        return List.of(continueOnManualRUFailure);
+        return List.of(continueOnManualRUFailure, inJvmCertificateManager);
     }
 
     @Override
     public String toString() {
         return "FeatureGates(" +
                 "ContinueReconciliationOnManualRollingUpdateFailure=" + continueOnManualRUFailure.isEnabled() +
+                ",InJvmCertificateManager=" + inJvmCertificateManager.isEnabled() +
                 ")";
     }
 
@@ -131,13 +145,14 @@ public class FeatureGates {
             return false;
         } else {
             FeatureGates other = (FeatureGates) o;
-            return Objects.equals(continueOnManualRUFailure, other.continueOnManualRUFailure);
+            return Objects.equals(continueOnManualRUFailure, other.continueOnManualRUFailure)
+                    && Objects.equals(inJvmCertificateManager, other.inJvmCertificateManager);
         }
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(continueOnManualRUFailure);
+        return Objects.hash(continueOnManualRUFailure, inJvmCertificateManager);
     }
 
     /**
@@ -5,12 +5,17 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * A metrics holder for controllers.
@@ -20,8 +25,27 @@ public class ControllerMetricsHolder extends MetricsHolder {
      * Metric name for reconciliations which are already queued when we try to enqueue them again.
      */
     public static final String METRICS_RECONCILIATIONS_ALREADY_ENQUEUED = METRICS_PREFIX + "reconciliations.already.enqueued";
+    /**
+     * Metric name for reconciliations which were added to the work queue.
+     */
+    public static final String METRICS_RECONCILIATIONS_ENQUEUED = METRICS_PREFIX + "reconciliations.enqueued";
+    /**
+     * Metric name for reconciliations which are currently waiting in the work queue.
+     */
+    public static final String METRICS_RECONCILIATIONS_QUEUED = METRICS_PREFIX + "reconciliations.queued";
+    /**
+     * Metric name for the time the reconciliations spent waiting in the work queue.
+     */
+    public static final String METRICS_RECONCILIATIONS_QUEUE_DURATION = METRICS_PREFIX + "reconciliations.queue.duration";
+    /**
+     * Metric name for reconciliations which are currently waiting in the work queue of a controller shard.
+     */
+    public static final String METRICS_RECONCILIATIONS_SHARD_QUEUED = METRICS_PREFIX + "reconciliations.shard.queued";
 
     private final Map<MetricKey, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> enqueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicInteger> queuedReconciliationsGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> reconciliationsQueueTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -48,4 +72,61 @@ public class ControllerMetricsHolder extends MetricsHolder {
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 Optional.of(getLabelSelectorValues()), alreadyQueuedReconciliationsCounterMap);
     }
+
+    /**
+     * Counter metric for number of reconciliations which were added to the work queue. Together with the
+     * alreadyEnqueuedReconciliationsCounter, this can be used to calculate the de-duplication hit rate of the queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter enqueuedReconciliationsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_ENQUEUED,
+                "Number of reconciliations added to the work queue",
+                Optional.of(getLabelSelectorValues()), enqueuedReconciliationsCounterMap);
+    }
+
+    /**
+     * Gauge metric for number of reconciliations which are currently waiting in the work queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queuedReconciliationsGauge(String namespace) {
+        return getGauge(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_QUEUED,
+                "Number of reconciliations waiting in the work queue",
+                Optional.of(getLabelSelectorValues()), queuedReconciliationsGaugeMap);
+    }
+
+    /**
+     * Timer metric for the time the reconciliations spent waiting in the work queue before being picked up by the
+     * controller loop.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationsQueueTimer(String namespace) {
+        return getTimer(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_QUEUE_DURATION,
+                "The time the reconciliations spent waiting in the work queue",
+                Optional.of(getLabelSelectorValues()), reconciliationsQueueTimerMap);
+    }
+
+    /**
+     * Registers the gauge metric with the number of reconciliations waiting in the work queue of a controller shard.
+     * Controllers with multiple workers split the resources into shards with one work queue per shard. The gauge
+     * shows how evenly the work is spread between the shards.
+     *
+     * @param namespace     Namespace watched by the controller
+     * @param shard         Index of the shard
+     * @param queueSize     Supplier of the current size of the shard work queue
+     */
+    public void shardQueuedReconciliationsGauge(String namespace, int shard, Supplier<Number> queueSize) {
+        Gauge.builder(METRICS_RECONCILIATIONS_SHARD_QUEUED, queueSize)
+                .description("Number of reconciliations waiting in the work queue of a controller shard")
+                .tags(MetricsUtils.getAllMetricTags(namespace, kind, Optional.of(getLabelSelectorValues()), Tag.of("shard", String.valueOf(shard))))
+                .register(metricsProvider.meterRegistry());
+    }
 }
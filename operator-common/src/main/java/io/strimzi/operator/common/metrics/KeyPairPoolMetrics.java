@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.strimzi.certs.KeyPairPool;
+
+import java.util.Locale;
+
+/**
+ * Binds the metrics of the pool with the pre-generated key pairs used for issuing new certificates
+ */
+public class KeyPairPoolMetrics implements MeterBinder {
+    /**
+     * Metric name for the number of key pairs taken from the pool
+     */
+    public static final String METRICS_CERTIFICATE_KEY_POOL_HITS = MetricsHolder.METRICS_PREFIX + "certificate.key.pool.hits";
+    /**
+     * Metric name for the number of key pairs generated on demand because the pool was empty
+     */
+    public static final String METRICS_CERTIFICATE_KEY_POOL_MISSES = MetricsHolder.METRICS_PREFIX + "certificate.key.pool.misses";
+    /**
+     * Metric name for the number of pre-generated key pairs available in the pool
+     */
+    public static final String METRICS_CERTIFICATE_KEY_POOL_SIZE = MetricsHolder.METRICS_PREFIX + "certificate.key.pool.size";
+
+    private final KeyPairPool pool;
+
+    /**
+     * Constructs the key pair pool metrics
+     *
+     * @param pool  Key pair pool
+     */
+    public KeyPairPoolMetrics(KeyPairPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("algorithm", pool.algorithm().name().toLowerCase(Locale.ENGLISH));
+
+        FunctionCounter.builder(METRICS_CERTIFICATE_KEY_POOL_HITS, pool, KeyPairPool::hits)
+                .description("Number of key pairs for new certificates taken from the pool of pre-generated key pairs")
+                .tags(tags)
+                .register(registry);
+
+        FunctionCounter.builder(METRICS_CERTIFICATE_KEY_POOL_MISSES, pool, KeyPairPool::misses)
+                .description("Number of key pairs for new certificates generated on demand because the pool of pre-generated key pairs was empty")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder(METRICS_CERTIFICATE_KEY_POOL_SIZE, pool, KeyPairPool::size)
+                .description("Number of pre-generated key pairs available in the pool")
+                .tags(tags)
+                .register(registry);
+    }
+}
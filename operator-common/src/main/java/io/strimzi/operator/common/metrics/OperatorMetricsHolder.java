@@ -4,14 +4,31 @@
  */
 package io.strimzi.operator.common.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A metrics holder for operators.
  */
 public class OperatorMetricsHolder extends MetricsHolder {
+    /**
+     * Metric name for periodic reconciliations which were short-circuited because nothing changed.
+     */
+    public static final String METRICS_RECONCILIATIONS_UNCHANGED = METRICS_RECONCILIATIONS + ".unchanged";
 
+    /**
+     * Metric name for the time spent waiting for the reconciliation locks.
+     */
+    public static final String METRICS_RECONCILIATIONS_LOCK_WAIT = METRICS_RECONCILIATIONS + ".lock.wait";
+
+    private final Map<MetricKey, Counter> unchangedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> lockWaitTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -24,6 +41,33 @@ public class OperatorMetricsHolder extends MetricsHolder {
         super(kind, selectorLabels, metricsProvider);
     }
 
+    /**
+     * Counter metric for number of periodic reconciliations which did not run the full reconciliation because the
+     * inputs of the reconciliation did not change since the last successful reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter unchangedReconciliationsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_UNCHANGED,
+                "Number of periodic reconciliations short-circuited because nothing changed since the last successful reconciliation",
+                Optional.of(getLabelSelectorValues()), unchangedReconciliationsCounterMap);
+    }
+
+    /**
+     * Timer metric for the time the reconciliations spend waiting for the lock of the reconciled resource.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer lockWaitTimer(String namespace) {
+        return getTimer(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_LOCK_WAIT,
+                "The time the reconciliation waits for the lock of the reconciled resource",
+                Optional.of(getLabelSelectorValues()), lockWaitTimerMap);
+    }
+
     /**
      * Resets all values in the resource counter map and paused resource counter map to 0. This is used to handle
      * removed resources from various namespaces during the periodical reconciliation in operators.
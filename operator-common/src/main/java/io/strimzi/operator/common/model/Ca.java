@@ -383,47 +383,22 @@ public abstract class Ca {
      * @throws IOException  Throws an IOException if something fails when working with the files
      */
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
-        File keyFile = Files.createTempFile("tls", "key").toFile();
-        File certFile = Files.createTempFile("tls", "cert").toFile();
-        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
-
-        Files.write(keyFile.toPath(), key);
-        Files.write(certFile.toPath(), cert);
-
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
-
-        CertAndKey result = new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
-
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-
-        return result;
+        return certManager.addKeyAndCertToKeyStore(key, cert, alias, passwordGenerator.generate());
     }
 
-    protected CertAndKey generateSignedCert(Subject subject,
-                                           File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+    /**
+     * Generates a certificate signed by this CA
+     *
+     * @param subject   Subject of the certificate to be generated
+     *
+     * @return  The CertAndKey
+     *
+     * @throws IOException If the cert could not be generated.
+     */
+    protected CertAndKey generateSignedCert(Subject subject) throws IOException {
         LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", subject, this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
-        certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
-                certFile, subject, validityDays);
-
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
-
-        return new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
+        return certManager.generateSignedCert(subject, currentCaKey(), currentCaCertBytes(), validityDays, passwordGenerator.generate());
     }
 
     /**
@@ -446,11 +421,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = Files.createTempFile("tls", "csr").toFile();
-        File keyFile = Files.createTempFile("tls", "key").toFile();
-        File certFile = Files.createTempFile("tls", "cert").toFile();
-        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -459,14 +429,7 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        return generateSignedCert(subject.build());
     }
 
     /**
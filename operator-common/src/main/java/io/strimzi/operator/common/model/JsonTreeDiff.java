@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Structural comparison of two JSON trees. The trees are walked in lockstep and each difference is passed to a visitor
+ * together with the JSON Pointer path where it was found. The visitor decides whether the walk should continue. This
+ * allows the callers to stop at the first difference they care about without computing the whole JSON Patch.
+ *
+ * The paths use the same format as the paths in the JSON Patch operations generated by zjsonpatch. Unlike zjsonpatch,
+ * arrays are compared element by element. An element added to or removed from the middle of an array is therefore
+ * reported as differences in all the following elements instead of a single add or remove operation.
+ */
+public class JsonTreeDiff {
+    private JsonTreeDiff() {
+        // Static methods only
+    }
+
+    /**
+     * Type of the difference
+     */
+    public enum Operation {
+        /**
+         * The path exists only in the target tree
+         */
+        ADD,
+
+        /**
+         * The path exists only in the source tree
+         */
+        REMOVE,
+
+        /**
+         * The path exists in both trees, but has a different value
+         */
+        REPLACE
+    }
+
+    /**
+     * Difference found between the two trees
+     *
+     * @param operation     Type of the difference
+     * @param path          JSON Pointer path of the difference
+     */
+    public record Difference(Operation operation, String path) {
+        @Override
+        public String toString() {
+            return "{\"op\":\"" + operation.name().toLowerCase(Locale.ENGLISH) + "\",\"path\":\"" + path + "\"}";
+        }
+    }
+
+    /**
+     * Visitor receiving the differences found while walking the trees
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Called for each difference found between the trees
+         *
+         * @param difference    The difference
+         *
+         * @return  True if the walk should continue. False if it should stop.
+         */
+        boolean visit(Difference difference);
+    }
+
+    /**
+     * Walks the source and target trees and passes the differences to the visitor until the visitor stops the walk.
+     *
+     * @param source    Source tree
+     * @param target    Target tree
+     * @param visitor   Visitor receiving the differences
+     *
+     * @return  True if the whole trees were walked. False if the walk was stopped by the visitor.
+     */
+    public static boolean walk(JsonNode source, JsonNode target, Visitor visitor) {
+        return walk(source, target, new StringBuilder(), visitor);
+    }
+
+    private static boolean walk(JsonNode source, JsonNode target, StringBuilder path, Visitor visitor) {
+        if (source == target) {
+            return true;
+        } else if (source.isObject() && target.isObject()) {
+            return walkObjects(source, target, path, visitor);
+        } else if (source.isArray() && target.isArray()) {
+            return walkArrays(source, target, path, visitor);
+        } else if (!source.equals(target)) {
+            return visitor.visit(new Difference(Operation.REPLACE, path.toString()));
+        } else {
+            return true;
+        }
+    }
+
+    private static boolean walkObjects(JsonNode source, JsonNode target, StringBuilder path, Visitor visitor) {
+        int length = path.length();
+
+        Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+        while (sourceFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = sourceFields.next();
+            JsonNode targetValue = target.get(field.getKey());
+
+            appendField(path, field.getKey());
+            boolean proceed = targetValue == null
+                    ? visitor.visit(new Difference(Operation.REMOVE, path.toString()))
+                    : walk(field.getValue(), targetValue, path, visitor);
+            path.setLength(length);
+
+            if (!proceed) {
+                return false;
+            }
+        }
+
+        Iterator<String> targetFields = target.fieldNames();
+        while (targetFields.hasNext()) {
+            String name = targetFields.next();
+
+            if (!source.has(name)) {
+                appendField(path, name);
+                boolean proceed = visitor.visit(new Difference(Operation.ADD, path.toString()));
+                path.setLength(length);
+
+                if (!proceed) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean walkArrays(JsonNode source, JsonNode target, StringBuilder path, Visitor visitor) {
+        int length = path.length();
+        int common = Math.min(source.size(), target.size());
+
+        for (int i = 0; i < Math.max(source.size(), target.size()); i++) {
+            path.append('/').append(i);
+            boolean proceed;
+            if (i < common) {
+                proceed = walk(source.get(i), target.get(i), path, visitor);
+            } else {
+                proceed = visitor.visit(new Difference(i < source.size() ? Operation.REMOVE : Operation.ADD, path.toString()));
+            }
+            path.setLength(length);
+
+            if (!proceed) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends the field name to the path and escapes it according to the JSON Pointer specification
+     */
+    private static void appendField(StringBuilder path, String name) {
+        path.append('/');
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (c == '~') {
+                path.append("~0");
+            } else if (c == '/') {
+                path.append("~1");
+            } else {
+                path.append(c);
+            }
+        }
+    }
+}
@@ -6,10 +6,10 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
+import io.strimzi.operator.common.model.JsonTreeDiff;
 
 import java.util.regex.Pattern;
 
@@ -49,16 +49,15 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
 
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+        // The ignorable paths are matched only for the differences found in the trees. The walk stops at the first
+        // difference which cannot be ignored.
+        this.isEmpty = JsonTreeDiff.walk(source, target, d -> {
+            String pathValue = d.path();
 
             if (ignorableFields.matcher(pathValue).matches()) {
                 LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
+                return true;
             }
 
             if (LOGGER.isDebugEnabled()) {
@@ -67,11 +66,8 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
                 LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
             }
 
-            num++;
-            break;
-        }
-
-        this.isEmpty = num == 0;
+            return false;
+        });
     }
 
     @Override
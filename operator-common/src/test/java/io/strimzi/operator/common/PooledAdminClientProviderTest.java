@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.auth.PemAuthIdentity;
+import io.strimzi.operator.common.auth.PemTrustSet;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledAdminClientProviderTest {
+    private MeterRegistry meterRegistry;
+    private AdminClientProvider delegate;
+    private List<Admin> created;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        created = new ArrayList<>();
+
+        delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any())).thenAnswer(i -> {
+            Admin admin = mock(Admin.class);
+            created.add(admin);
+            return admin;
+        });
+    }
+
+    @Test
+    public void testClientIsSharedBetweenLeases() {
+        PooledAdminClientProvider pool = new PooledAdminClientProvider(delegate, new MicrometerMetricsProvider(meterRegistry));
+        PemTrustSet trustSet = DefaultAdminClientProviderTest.mockPemTrustSet();
+        PemAuthIdentity identity = DefaultAdminClientProviderTest.mockPemAuthIdentity();
+
+        Admin first = pool.createAdminClient("my-kafka:9091", trustSet, identity);
+        Admin second = pool.createAdminClient("my-kafka:9091", trustSet, identity);
+        Admin other = pool.createAdminClient("other-kafka:9091", trustSet, identity);
+
+        assertThat(created.size(), is(2));
+        assertThat(pool.size(), is(2));
+        assertThat(first, is(not(second)));
+
+        first.describeCluster();
+        second.describeCluster();
+        verify(created.get(0), times(2)).describeCluster();
+
+        // Closing the leases does not close the shared client
+        first.close();
+        first.close();
+        second.close();
+        other.close();
+        verify(created.get(0), never()).close();
+
+        Admin third = pool.createAdminClient("my-kafka:9091", trustSet, identity);
+        third.describeCluster();
+        verify(created.get(0), times(3)).describeCluster();
+        assertThat(created.size(), is(2));
+
+        assertThat(meterRegistry.get(PooledAdminClientProvider.METRICS_CLIENTS).gauge().value(), is(2.0));
+        assertThat(meterRegistry.get(PooledAdminClientProvider.METRICS_CREATED).counter().count(), is(2.0));
+
+        // Closing the pool closes the clients without leases right away and the leased clients after the last lease is closed
+        pool.close();
+        assertThat(pool.size(), is(0));
+        verify(created.get(0), never()).close();
+        verify(created.get(1)).close();
+
+        third.close();
+        verify(created.get(0)).close();
+    }
+
+    @Test
+    public void testClientIsReplacedWhenTrustChanges() {
+        PooledAdminClientProvider pool = new PooledAdminClientProvider(delegate, new MicrometerMetricsProvider(meterRegistry));
+        PemAuthIdentity identity = DefaultAdminClientProviderTest.mockPemAuthIdentity();
+        PemTrustSet oldTrustSet = DefaultAdminClientProviderTest.mockPemTrustSet();
+        PemTrustSet newTrustSet = mock(PemTrustSet.class);
+        when(newTrustSet.trustedCertificatesString()).thenReturn("ca3");
+
+        Admin oldLease = pool.createAdminClient("my-kafka:9091", oldTrustSet, identity);
+        Admin newLease = pool.createAdminClient("my-kafka:9091", newTrustSet, identity);
+
+        assertThat(created.size(), is(2));
+        assertThat(pool.size(), is(1));
+
+        // The replaced client is closed once it is not used anymore
+        verify(created.get(0), never()).close();
+        oldLease.close();
+        verify(created.get(0)).close();
+
+        newLease.close();
+        verify(created.get(1), never()).close();
+    }
+
+    @Test
+    public void testIdleClientsAreClosed() {
+        PooledAdminClientProvider pool = new PooledAdminClientProvider(delegate, new MicrometerMetricsProvider(meterRegistry), -1L);
+        PemTrustSet trustSet = DefaultAdminClientProviderTest.mockPemTrustSet();
+        PemAuthIdentity identity = DefaultAdminClientProviderTest.mockPemAuthIdentity();
+
+        Admin leased = pool.createAdminClient("my-kafka:9091", trustSet, identity);
+        pool.createAdminClient("other-kafka:9091", trustSet, identity).close();
+
+        // The idle client is closed, but the leased one is kept
+        pool.createAdminClient("third-kafka:9091", trustSet, identity);
+        verify(created.get(0), never()).close();
+        verify(created.get(1)).close();
+        assertThat(pool.size(), is(2));
+
+        leased.close();
+    }
+
+    @Test
+    public void testDedicatedClientsAreNotPooled() {
+        PooledAdminClientProvider pool = new PooledAdminClientProvider(delegate, new MicrometerMetricsProvider(meterRegistry));
+        PemTrustSet trustSet = DefaultAdminClientProviderTest.mockPemTrustSet();
+        PemAuthIdentity identity = DefaultAdminClientProviderTest.mockPemAuthIdentity();
+
+        Admin dedicated = pool.createDedicatedAdminClient("my-kafka-0:9091", trustSet, identity);
+        dedicated.close();
+
+        assertThat(pool.size(), is(0));
+        verify(created.get(0)).close();
+    }
+}
@@ -36,5 +36,89 @@ public class ControllerQueueTest {
 
         // Test metric
         assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_ALREADY_ENQUEUED).tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_ENQUEUED).tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(2.0));
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_QUEUED).tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(2.0));
+    }
+
+    @Test
+    public void testTake() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "timer");
+
+        q.enqueue(r1);
+        q.enqueue(r2);
+
+        assertThat(q.take(), is(r1));
+        assertThat(q.take(), is(r2));
+        assertThat(q.queue.size(), is(0));
+
+        // Test metrics
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_QUEUED).tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(0.0));
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_QUEUE_DURATION).tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(2L));
+    }
+
+    @Test
+    public void testTimerEventsHaveLowerPriority() throws InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation timer = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+        SimplifiedReconciliation watch = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "watch");
+
+        q.enqueue(timer);
+        q.enqueue(watch);
+
+        assertThat(q.take(), is(watch));
+        assertThat(q.take(), is(timer));
+    }
+
+    @Test
+    public void testBackOff() throws InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics), 10L, 100L);
+
+        assertThat(q.backOffDelayMs(1), is(10L));
+        assertThat(q.backOffDelayMs(2), is(20L));
+        assertThat(q.backOffDelayMs(4), is(80L));
+        assertThat(q.backOffDelayMs(5), is(100L));
+        assertThat(q.backOffDelayMs(100), is(100L));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+        q.enqueueWithBackOff(r1);
+        assertThat(q.take(), is(r1));
+        q.enqueueWithBackOff(r1);
+        assertThat(q.take(), is(r1));
+        assertThat(q.failures.get(r1), is(2));
+
+        q.forget(r1);
+        assertThat(q.failures.containsKey(r1), is(false));
+    }
+
+    @Test
+    public void testBackOffDoesNotGrowForDuplicates() throws InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics), 10L, 100L);
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+        // The resource is already queued by another event, so it is not re-queued and the back-off does not grow
+        q.enqueue(r1);
+        q.enqueueWithBackOff(r1);
+        assertThat(q.failures.containsKey(r1), is(false));
+        assertThat(q.size(), is(1));
+
+        assertThat(q.take(), is(r1));
+        q.enqueueWithBackOff(r1);
+        assertThat(q.failures.get(r1), is(1));
+
+        // The resource is already waiting for its back-off delay
+        q.enqueueWithBackOff(r1);
+        assertThat(q.failures.get(r1), is(1));
+        assertThat(q.size(), is(1));
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyedWorkQueueTest {
+    @Test
+    public void testFifoOrderAndDeduplication() throws InterruptedException {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("b"), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(q.offer("c"), is(KeyedWorkQueue.OfferResult.ADDED));
+
+        assertThat(q.size(), is(3));
+        assertThat(q.contains("a"), is(true));
+
+        assertThat(q.take().item(), is("a"));
+        assertThat(q.contains("a"), is(false));
+
+        // Once taken, the same item can be enqueued again and goes to the tail
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ADDED));
+
+        assertThat(q.take().item(), is("b"));
+        assertThat(q.take().item(), is("c"));
+        assertThat(q.take().item(), is("a"));
+        assertThat(q.size(), is(0));
+    }
+
+    @Test
+    public void testCapacity() {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(2);
+
+        assertThat(q.offer("a"), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("b"), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("b"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(q.offer("c"), is(KeyedWorkQueue.OfferResult.FULL));
+        assertThat(q.size(), is(2));
+
+        assertThrows(IllegalArgumentException.class, () -> new KeyedWorkQueue<String>(0));
+    }
+
+    @Test
+    public void testTakeBlocksUntilItemIsAvailable() throws Exception {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return q.take().item();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        assertThat(taken.isDone(), is(false));
+
+        q.offer("a");
+        assertThat(taken.get(5, TimeUnit.SECONDS), is("a"));
+    }
+
+    @Test
+    public void testPriorityLanes() throws InterruptedException {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        assertThat(q.offer("low-1", KeyedWorkQueue.Priority.LOW), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("low-2", KeyedWorkQueue.Priority.LOW), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offer("high-1", KeyedWorkQueue.Priority.HIGH), is(KeyedWorkQueue.OfferResult.ADDED));
+
+        // High priority event for an item queued with low priority promotes it
+        assertThat(q.offer("low-2", KeyedWorkQueue.Priority.HIGH), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        // Low priority event for an item queued with high priority does not demote it
+        assertThat(q.offer("high-1", KeyedWorkQueue.Priority.LOW), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+
+        assertThat(q.size(), is(3));
+        assertThat(q.take().item(), is("high-1"));
+        assertThat(q.take().item(), is("low-2"));
+        assertThat(q.take().item(), is("low-1"));
+    }
+
+    @Test
+    public void testLowPriorityLaneIsNotStarved() throws InterruptedException {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(100);
+
+        q.offer("low", KeyedWorkQueue.Priority.LOW);
+        for (int i = 0; i < KeyedWorkQueue.HIGH_PRIORITY_BURST * 2; i++) {
+            q.offer("high-" + i, KeyedWorkQueue.Priority.HIGH);
+        }
+
+        for (int i = 0; i < KeyedWorkQueue.HIGH_PRIORITY_BURST; i++) {
+            assertThat(q.take().item(), is("high-" + i));
+        }
+
+        assertThat(q.take().item(), is("low"));
+        assertThat(q.take().item(), is("high-" + KeyedWorkQueue.HIGH_PRIORITY_BURST));
+    }
+
+    @Test
+    public void testDelayedItems() throws Exception {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        assertThat(q.offerAfter("delayed", KeyedWorkQueue.Priority.HIGH, 200, TimeUnit.MILLISECONDS), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.offerAfter("delayed", KeyedWorkQueue.Priority.HIGH, 10, TimeUnit.SECONDS), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(q.offer("delayed", KeyedWorkQueue.Priority.LOW), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(q.offer("ready", KeyedWorkQueue.Priority.LOW), is(KeyedWorkQueue.OfferResult.ADDED));
+        assertThat(q.size(), is(2));
+        assertThat(q.contains("delayed"), is(true));
+
+        long start = System.nanoTime();
+        assertThat(q.take().item(), is("ready"));
+        assertThat(q.take().item(), is("delayed"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150, is(true));
+        assertThat(q.size(), is(0));
+    }
+
+    @Test
+    public void testHighPriorityOfferSkipsTheDelay() throws Exception {
+        KeyedWorkQueue<String> q = new KeyedWorkQueue<>(10);
+
+        q.offerAfter("item", KeyedWorkQueue.Priority.LOW, 1, TimeUnit.HOURS);
+        assertThat(q.offer("item", KeyedWorkQueue.Priority.HIGH), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+
+        CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return q.take().item();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(taken.get(5, TimeUnit.SECONDS), is("item"));
+        assertThat(q.size(), is(0));
+    }
+}
@@ -56,14 +56,12 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(true));
         assertThat(new FeatureGates("-ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(false));
         assertThat(new FeatureGates("  -ContinueReconciliationOnManualRollingUpdateFailure    ").continueOnManualRUFailureEnabled(), is(false));
-        // TODO: Add more tests with various feature gate combinations once we have multiple feature gates again.
-        //       The commented out code below shows the tests we used to have with multiple feature gates.
-        //assertThat(new FeatureGates("-UseKRaft,-ContinueReconciliationOnManualRollingUpdateFailure").useKRaftEnabled(), is(false));
-        //assertThat(new FeatureGates("-UseKRaft,-ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(false));
-        //assertThat(new FeatureGates("  +UseKRaft    ,    +ContinueReconciliationOnManualRollingUpdateFailure").useKRaftEnabled(), is(true));
-        //assertThat(new FeatureGates("  +UseKRaft    ,    +ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(true));
-        //assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure,-UseKRaft").useKRaftEnabled(), is(false));
-        //assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure,-UseKRaft").continueOnManualRUFailureEnabled(), is(true));
+        assertThat(new FeatureGates("-InJvmCertificateManager,-ContinueReconciliationOnManualRollingUpdateFailure").inJvmCertificateManagerEnabled(), is(false));
+        assertThat(new FeatureGates("-InJvmCertificateManager,-ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(false));
+        assertThat(new FeatureGates("  +InJvmCertificateManager    ,    +ContinueReconciliationOnManualRollingUpdateFailure").inJvmCertificateManagerEnabled(), is(true));
+        assertThat(new FeatureGates("  +InJvmCertificateManager    ,    +ContinueReconciliationOnManualRollingUpdateFailure").continueOnManualRUFailureEnabled(), is(true));
+        assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure,-InJvmCertificateManager").inJvmCertificateManagerEnabled(), is(false));
+        assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure,-InJvmCertificateManager").continueOnManualRUFailureEnabled(), is(true));
     }
 
     @ParallelTest
@@ -119,5 +117,6 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("").toEnvironmentVariable(), is(""));
         assertThat(new FeatureGates("-ContinueReconciliationOnManualRollingUpdateFailure").toEnvironmentVariable(), is(""));
         assertThat(new FeatureGates("+ContinueReconciliationOnManualRollingUpdateFailure").toEnvironmentVariable(), is("+ContinueReconciliationOnManualRollingUpdateFailure"));
+        assertThat(new FeatureGates("+InJvmCertificateManager,+ContinueReconciliationOnManualRollingUpdateFailure").toEnvironmentVariable(), is("+ContinueReconciliationOnManualRollingUpdateFailure,+InJvmCertificateManager"));
     }
 }
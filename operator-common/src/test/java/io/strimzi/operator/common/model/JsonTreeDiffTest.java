@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JsonTreeDiffTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<String> differences(String source, String target) throws IOException {
+        List<String> differences = new ArrayList<>();
+        JsonTreeDiff.walk(MAPPER.readTree(source), MAPPER.readTree(target), d -> differences.add(d.toString()));
+        return differences;
+    }
+
+    @Test
+    public void testEqualTrees() throws IOException {
+        assertThat(differences("{\"a\":{\"b\":[1,2,{\"c\":\"d\"}]}}", "{\"a\":{\"b\":[1,2,{\"c\":\"d\"}]}}"), is(List.of()));
+    }
+
+    @Test
+    public void testObjectDifferences() throws IOException {
+        assertThat(differences("{\"a\":1,\"b\":{\"c\":2,\"d\":3}}", "{\"b\":{\"c\":4,\"e\":5},\"f\":6}"),
+                is(List.of("{\"op\":\"remove\",\"path\":\"/a\"}",
+                        "{\"op\":\"replace\",\"path\":\"/b/c\"}",
+                        "{\"op\":\"remove\",\"path\":\"/b/d\"}",
+                        "{\"op\":\"add\",\"path\":\"/b/e\"}",
+                        "{\"op\":\"add\",\"path\":\"/f\"}")));
+    }
+
+    @Test
+    public void testArrayDifferences() throws IOException {
+        assertThat(differences("{\"a\":[1,{\"b\":2},3]}", "{\"a\":[1,{\"b\":3}]}"),
+                is(List.of("{\"op\":\"replace\",\"path\":\"/a/1/b\"}",
+                        "{\"op\":\"remove\",\"path\":\"/a/2\"}")));
+
+        assertThat(differences("{\"a\":[1]}", "{\"a\":[1,2]}"), is(List.of("{\"op\":\"add\",\"path\":\"/a/1\"}")));
+        assertThat(differences("{\"a\":[1]}", "{\"a\":{\"b\":1}}"), is(List.of("{\"op\":\"replace\",\"path\":\"/a\"}")));
+    }
+
+    @Test
+    public void testPathEscaping() throws IOException {
+        assertThat(differences("{\"strimzi.io/generation\":1,\"a~b\":1}", "{\"strimzi.io/generation\":2,\"a~b\":2}"),
+                is(List.of("{\"op\":\"replace\",\"path\":\"/strimzi.io~1generation\"}",
+                        "{\"op\":\"replace\",\"path\":\"/a~0b\"}")));
+    }
+
+    @Test
+    public void testWalkStopsWhenRequested() throws IOException {
+        JsonNode source = MAPPER.readTree("{\"a\":1,\"b\":2,\"c\":3}");
+        JsonNode target = MAPPER.readTree("{\"a\":2,\"b\":3,\"c\":4}");
+
+        List<String> visited = new ArrayList<>();
+        boolean completed = JsonTreeDiff.walk(source, target, d -> {
+            visited.add(d.path());
+            return !"/b".equals(d.path());
+        });
+
+        assertThat(completed, is(false));
+        assertThat(visited, is(List.of("/a", "/b")));
+    }
+
+    @Test
+    public void testResourceDiff() {
+        ConfigMap current = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-cm")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion("1234")
+                    .withAnnotations(Map.of("strimzi.io/generation", "1"))
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+
+        ConfigMap desired = new ConfigMapBuilder(current)
+                .editMetadata()
+                    .withResourceVersion(null)
+                .endMetadata()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, new ConfigMapBuilder(current).build(), ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty(), is(true));
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty(), is(true));
+
+        ConfigMap changedAnnotation = new ConfigMapBuilder(desired)
+                .editMetadata()
+                    .withAnnotations(Map.of("strimzi.io/generation", "2"))
+                .endMetadata()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, changedAnnotation, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty(), is(false));
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, changedAnnotation, Pattern.compile("^(/metadata/resourceVersion|/metadata/annotations/strimzi.io~1generation)$")).isEmpty(), is(true));
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", null, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty(), is(false));
+    }
+}
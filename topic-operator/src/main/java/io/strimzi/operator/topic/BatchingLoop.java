@@ -10,24 +10,19 @@ import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
-import io.strimzi.operator.topic.model.KubeRef;
 import io.strimzi.operator.topic.model.ReconcilableTopic;
 import io.strimzi.operator.topic.model.TopicEvent;
 import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
 import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
- * the reconciliation of those events using a {@link BatchingTopicController}.
+ * Encapsulates a queue of {@link TopicEvent}s (see {@link TopicEventQueue}) and a pool of threads (see {@link LoopRunnable})
+ * servicing the reconciliation of those events using a {@link BatchingTopicController}.
  * Any given {@link KafkaTopic} is only being reconciled by a single thread at any one time.
  */
 class BatchingLoop {
@@ -35,14 +30,11 @@ class BatchingLoop {
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
-
     /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * The queue coalesces the events for the same topic and keeps track of the topics currently being reconciled by
+     * a controller. This functions as mechanism for preventing concurrent reconciliation of the same topic.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final TopicEventQueue queue;
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
@@ -63,7 +55,7 @@ class BatchingLoop {
             TopicOperatorMetricsHolder metrics,
             String namespace) {
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queue = new TopicEventQueue(maxQueueSize);
         this.controller = controller;
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
@@ -100,18 +92,26 @@ class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the {@link #queue}.
+     * Events for a topic which is already queued are coalesced with the queued event.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
-            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
-        } else {
+        TopicEventQueue.OfferResult result = queue.offer(event);
+
+        if (result == TopicEventQueue.OfferResult.FULL) {
             LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
                     maxQueueSize,
                     TopicOperatorConfig.MAX_QUEUE_SIZE.key());
             this.stop.run();
+        } else {
+            if (result == TopicEventQueue.OfferResult.IN_FLIGHT) {
+                LOGGER.debugOp("Item {} queued, but already inflight", event);
+                metrics.lockedReconciliationsCounter(namespace).increment();
+            } else {
+                LOGGER.debugOp("Item {} {} queue", event, result == TopicEventQueue.OfferResult.ADDED ? "added to" : "coalesced in");
+            }
+            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
         }
     }
 
@@ -194,15 +194,13 @@ class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                // remove the old batch from the inflight set and reset the batch
+                LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
+                batch.toUpdate.stream().map(TopicEvent::toRef).forEach(queue::complete);
+                batch.toDelete.stream().map(TopicEvent::toRef).forEach(queue::complete);
+                batch.clear();
+                // fill a new batch
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, batch.size());
@@ -247,7 +245,6 @@ class BatchingLoop {
 
         private void fillBatch(int batchId, Batch batch) throws InterruptedException {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
-            List<TopicEvent> rejected = new ArrayList<>();
 
             final long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
             while (true) {
@@ -261,45 +258,26 @@ class BatchingLoop {
                     LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                LOGGER.traceOp("[Batch #{}] Taking next item which is not inflight from queue with timeout {}ns", batchId, timeoutNs);
+                TopicEvent topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] Linger expired, batch complete", batchId);
                     break;
                 }
-                addToBatch(batchId, batch, rejected, topicEvent);
+                addToBatch(batchId, batch, topicEvent);
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metrics.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
-
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
-            for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                offer(item);
-            }
         }
 
-        private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
-            // We could add logic here to cope properly with interleaved upserts and deletes
-            // of the same topic in the same batch.
-            // E.g. upset then delete is equivalent to just a delete
-            // It's actually a bit tricky since you have to process the events in reverse order to correctly
-            // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
-            KubeRef ref = topicEvent.toRef();
-            if (inFlight.add(ref)) {
-                // wasn't already inflight
-                LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
-                if (topicEvent instanceof TopicUpsert) {
-                    batch.toUpdate.add((TopicUpsert) topicEvent);
-                } else {
-                    batch.toDelete.add((TopicDelete) topicEvent);
-                }
+        private void addToBatch(int batchId, Batch batch, TopicEvent topicEvent) {
+            // The queue already coalesced the events for the same topic and marked the topic as inflight
+            LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
+            if (topicEvent instanceof TopicUpsert) {
+                batch.toUpdate.add((TopicUpsert) topicEvent);
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
-                rejected.add(topicEvent);
-                metrics.lockedReconciliationsCounter(namespace).increment();
+                batch.toDelete.add((TopicDelete) topicEvent);
             }
         }
     }
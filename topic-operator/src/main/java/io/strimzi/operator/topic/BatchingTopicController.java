@@ -11,7 +11,6 @@ import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
-import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
 import io.strimzi.api.kafka.model.topic.KafkaTopicStatusBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -36,13 +35,16 @@ import org.apache.kafka.clients.admin.DeleteTopicsResult;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicCollection;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.ApiException;
 import org.apache.kafka.common.errors.TopicDeletionDisabledException;
@@ -90,6 +92,7 @@ public class BatchingTopicController {
     static final String MIN_INSYNC_REPLICAS = "min.insync.replicas";
     
     private static final int BROKER_DEFAULT = -1;
+    private static final long TOPIC_LISTING_MAX_AGE_NS = 5_000_000_000L;
     private final boolean useFinalizer;
     private final boolean enableAdditionalMetrics;
 
@@ -106,6 +109,11 @@ public class BatchingTopicController {
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
     private final ReplicasChangeHandler replicasChangeHandler;
+    private final TopicStatusWriter statusWriter;
+    /* test */ final TopicFingerprints fingerprints;
+    /* test */ final TopicStateCache topicStateCache;
+    private Map<String, Uuid> listedTopicIds = Map.of();
+    private long listedTopicIdsNanos;
 
     BatchingTopicController(TopicOperatorConfig config,
                             Map<String, String> selector,
@@ -134,6 +142,18 @@ public class BatchingTopicController {
         this.namespace = config.namespace();
         this.enableAdditionalMetrics = config.enableAdditionalMetrics();
         this.replicasChangeHandler = replicasChangeHandler;
+        this.statusWriter = new TopicStatusWriter(kubeClient, metrics, namespace, enableAdditionalMetrics, config.maxConcurrentStatusUpdates());
+        this.fingerprints = new TopicFingerprints(config.topicFingerprintMaxAgeMs());
+        this.topicStateCache = new TopicStateCache(config.kafkaMetadataCacheTtlMs(), config.maxBatchSize(), this::describeTopics);
+        this.topicStateCache.start();
+    }
+
+    /**
+     * Stops the threads writing the statuses of the {@link KafkaTopic}s and refreshing the cached topic states.
+     */
+    void stop() {
+        statusWriter.stop();
+        topicStateCache.stop();
     }
 
     /**
@@ -296,6 +316,7 @@ public class BatchingTopicController {
             return buildNewTopic(reconcilableTopic.kt(), reconcilableTopic.topicName());
         }).collect(Collectors.toSet());
 
+        kts.forEach(reconcilableTopic -> topicStateCache.invalidate(reconcilableTopic.topicName()));
         LOGGER.debugOp("Admin.createTopics({})", newTopics);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
         CreateTopicsResult ctr = admin.createTopics(newTopics);
@@ -375,13 +396,18 @@ public class BatchingTopicController {
         try {
             updateInternal(topics);
         } catch (UncheckedInterruptedException e) {
+            statusWriter.discard();
             throw e.getCause();
         } catch (KubernetesClientException e) {
             if (e.getCause() instanceof InterruptedIOException) {
+                statusWriter.discard();
                 throw new InterruptedException();
             } else {
                 throw e;
             }
+        } finally {
+            // The statuses of the whole batch are written together
+            statusWriter.flush();
         }
     }
 
@@ -430,7 +456,9 @@ public class BatchingTopicController {
         var mayNeedUpdate = partitionedByPaused.get(false);
         metrics.reconciliationsCounter(namespace).increment(mayNeedUpdate.size());
         var addedFinalizer = addOrRemoveFinalizer(useFinalizer, mayNeedUpdate);
-        var currentStatesOrError = describeTopic(addedFinalizer);
+        var partitionedByUnchanged = partitionByUnchanged(addedFinalizer);
+        partitionedByUnchanged.get(true).forEach(reconcilableTopic -> putResult(results, reconcilableTopic, Either.ofRight(null)));
+        var currentStatesOrError = describeTopic(partitionedByUnchanged.get(false));
         
         // figure out necessary updates
         createMissingTopics(results, currentStatesOrError);
@@ -440,10 +468,13 @@ public class BatchingTopicController {
         // execute those updates
         var alterConfigsResults = alterConfigs(someAlterConfigs);
         var createPartitionsResults = createPartitions(someCreatePartitions);
+        someAlterConfigs.forEach(pair -> topicStateCache.invalidate(pair.getKey().topicName()));
+        someCreatePartitions.forEach(pair -> topicStateCache.invalidate(pair.getKey().topicName()));
         var checkReplicasChangesResults = checkReplicasChanges(batch, currentStatesOrError);
         
         // update statuses
         accumulateResults(results, alterConfigsResults, createPartitionsResults, checkReplicasChangesResults);
+        recordFingerprints(results, currentStatesOrError);
         updateStatuses(results);
         timerSamples.keySet().forEach(rt -> stopReconciliationTimer(metrics, timerSamples.get(rt), namespace));
         LOGGER.traceOp("Reconciled batch of {} KafkaTopics", results.size());
@@ -505,6 +536,8 @@ public class BatchingTopicController {
                 reconcilableTopic.kt().getStatus().setReplicasChange(null);
             });
             results.addAll(completed);
+            // The replicas of these topics were moved or are being moved, so the next batch has to describe them again
+            results.forEach(reconcilableTopic -> topicStateCache.invalidate(reconcilableTopic.topicName()));
             
             successStream = results.stream().map(reconcilableTopic -> new Pair<>(reconcilableTopic, Either.ofRight(null)));
             
@@ -659,7 +692,7 @@ public class BatchingTopicController {
                 updateStatusForException(reconcilableTopic, either.left());
             }
         });
-        LOGGER.traceOp("Updated status of {} KafkaTopics", results.size());
+        LOGGER.traceOp("Prepared status of {} KafkaTopics", results.size());
     }
 
     private void accumulateResults(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
@@ -823,18 +856,125 @@ public class BatchingTopicController {
         return partitionedByError(entryStream);
     }
 
+    /**
+     * Partitions the topics by whether they are unchanged since their fingerprint was recorded. The unchanged topics
+     * are Ready, were not modified since and still exist in Kafka with the same topic ID. They do not need to be
+     * described and updated again.
+     *
+     * @param reconcilableTopics Reconcilable topics from Kube
+     * @return Reconcilable topics partitioned by whether they are unchanged
+     */
+    private Map<Boolean, List<ReconcilableTopic>> partitionByUnchanged(List<ReconcilableTopic> reconcilableTopics) {
+        if (!fingerprints.isEnabled() || reconcilableTopics.stream().noneMatch(this::matchesFingerprint)) {
+            return Map.of(true, List.of(), false, reconcilableTopics);
+        }
+
+        var topicIds = listTopicIds();
+        var partitioned = reconcilableTopics.stream().collect(Collectors.partitioningBy(reconcilableTopic ->
+                matchesFingerprint(reconcilableTopic) && fingerprints.matchesKafkaState(reconcilableTopic, topicIds.get(reconcilableTopic.topicName()))));
+        if (!partitioned.get(true).isEmpty()) {
+            LOGGER.debugOp("Skipping describe of unchanged topics {}", topicNames(partitioned.get(true)));
+        }
+        return partitioned;
+    }
+
+    private boolean matchesFingerprint(ReconcilableTopic reconcilableTopic) {
+        var status = reconcilableTopic.kt().getStatus();
+        return status != null
+            && status.getReplicasChange() == null
+            && Objects.equals(status.getObservedGeneration(), reconcilableTopic.kt().getMetadata().getGeneration())
+            && status.getConditions() != null
+            && status.getConditions().stream().anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()))
+            && fingerprints.matchesKafkaTopic(reconcilableTopic);
+    }
+
+    /**
+     * Lists the IDs of all topics in Kafka. The periodic reconciliation offers all KafkaTopics at once, so the listing
+     * is reused by the batches processed shortly after each other. When the listing fails, an empty map is returned
+     * and the topics are described in full.
+     *
+     * @return Map of topic names to topic IDs
+     */
+    private Map<String, Uuid> listTopicIds() {
+        if (System.nanoTime() - listedTopicIdsNanos > TOPIC_LISTING_MAX_AGE_NS) {
+            LOGGER.debugOp("Admin.listTopics()");
+            try {
+                listedTopicIds = admin.listTopics(new ListTopicsOptions().listInternal(true)).listings().get().stream()
+                        .collect(Collectors.toMap(TopicListing::name, TopicListing::topicId));
+                listedTopicIdsNanos = System.nanoTime();
+            } catch (ExecutionException e) {
+                LOGGER.warnOp("Admin.listTopics() failed, unchanged topics will be described", e.getCause());
+                return Map.of();
+            } catch (InterruptedException e) {
+                throw new UncheckedInterruptedException(e);
+            }
+        }
+        return listedTopicIds;
+    }
+
+    private void recordFingerprints(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                    PartitionedByError<ReconcilableTopic, TopicState> currentStatesOrError) {
+        if (fingerprints.isEnabled()) {
+            currentStatesOrError.ok().forEach(pair -> {
+                var result = results.get(pair.getKey());
+                if (result != null && result.isRight()) {
+                    fingerprints.record(pair.getKey(), pair.getValue().description().topicId());
+                } else {
+                    fingerprints.forget(pair.getKey().kt());
+                }
+            });
+            currentStatesOrError.errors().forEach(pair -> fingerprints.forget(pair.getKey().kt()));
+        }
+    }
+
     private static ConfigResource topicConfigResource(String tn) {
         return new ConfigResource(ConfigResource.Type.TOPIC, tn);
     }
 
-    private PartitionedByError<ReconcilableTopic, TopicState> describeTopic(List<ReconcilableTopic> batch) {
+    /* test */ PartitionedByError<ReconcilableTopic, TopicState> describeTopic(List<ReconcilableTopic> batch) {
         if (batch.isEmpty()) {
             return new PartitionedByError<>(List.of(), List.of());
         }
-        Set<ConfigResource> configResources = batch.stream()
-                .map(reconcilableTopic -> topicConfigResource(reconcilableTopic.topicName()))
+
+        // Topics with a replicas change in progress are always described and never cached, as their replicas are being moved
+        Set<String> replicasChanges = batch.stream()
+            .filter(reconcilableTopic -> TopicOperatorUtil.hasReplicasChange(reconcilableTopic.kt().getStatus()))
+            .map(ReconcilableTopic::topicName)
+            .collect(Collectors.toSet());
+        Map<String, TopicState> cached = new HashMap<>();
+        batch.stream()
+            .filter(reconcilableTopic -> !replicasChanges.contains(reconcilableTopic.topicName()))
+            .forEach(reconcilableTopic -> {
+                var state = topicStateCache.get(reconcilableTopic.topicName());
+                if (state != null) {
+                    cached.put(reconcilableTopic.topicName(), state);
+                }
+            });
+        Set<String> tns = batch.stream().map(ReconcilableTopic::topicName)
+            .filter(tn -> !cached.containsKey(tn))
+            .collect(Collectors.toSet());
+        if (!cached.isEmpty()) {
+            LOGGER.debugOp("Using cached state of topics {}", cached.keySet());
+        }
+
+        long fetchStartNanos = System.nanoTime();
+        var described = tns.isEmpty() ? Map.<String, Either<TopicOperatorException, TopicState>>of() : describeTopics(tns);
+        described.forEach((tn, result) -> {
+            if (result.isRight() && !replicasChanges.contains(tn)) {
+                topicStateCache.put(tn, result.right(), fetchStartNanos);
+            }
+        });
+
+        return partitionedByError(batch.stream().map(reconcilableTopic -> {
+            var state = cached.get(reconcilableTopic.topicName());
+            return new Pair<>(reconcilableTopic, state != null ? Either.ofRight(state) : described.get(reconcilableTopic.topicName()));
+        }));
+    }
+
+    private Map<String, Either<TopicOperatorException, TopicState>> describeTopics(Set<String> tns) {
+        Set<ConfigResource> configResources = tns.stream()
+                .map(BatchingTopicController::topicConfigResource)
                 .collect(Collectors.toSet());
-        Set<String> tns = batch.stream().map(ReconcilableTopic::topicName).collect(Collectors.toSet());
 
         DescribeTopicsResult describeTopicsResult;
         {
@@ -867,12 +1007,13 @@ public class BatchingTopicController {
 
         var cs1 = describeTopicsResult.topicNameValues();
         var cs2 = describeConfigsResult.values();
-        return partitionedByError(batch.stream().map(reconcilableTopic -> {
+        Map<String, Either<TopicOperatorException, TopicState>> results = new HashMap<>();
+        tns.forEach(tn -> {
             Config configs = null;
             TopicDescription description = null;
             ExecutionException exception = null;
             try {
-                description = cs1.get(reconcilableTopic.topicName()).get();
+                description = cs1.get(tn).get();
             } catch (ExecutionException e) {
                 exception = e;
             } catch (InterruptedException e) {
@@ -880,31 +1021,37 @@ public class BatchingTopicController {
             }
 
             try {
-                configs = cs2.get(topicConfigResource(reconcilableTopic.topicName())).get();
+                configs = cs2.get(topicConfigResource(tn)).get();
             } catch (ExecutionException e) {
                 exception = e;
             } catch (InterruptedException e) {
                 throw new UncheckedInterruptedException(e);
             }
             if (exception != null) {
-                return new Pair<>(reconcilableTopic, Either.ofLeft(handleAdminException(exception)));
+                results.put(tn, Either.ofLeft(handleAdminException(exception)));
             } else {
-                return new Pair<>(reconcilableTopic, Either.ofRight(new TopicState(description, configs)));
+                results.put(tn, Either.ofRight(new TopicState(description, configs)));
             }
-        }));
+        });
+        return results;
     }
 
     void onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
         try {
             deleteInternal(batch, true);
         } catch (UncheckedInterruptedException e) {
+            statusWriter.discard();
             throw e.getCause();
         } catch (KubernetesClientException e) {
             if (e.getCause() instanceof InterruptedIOException) {
+                statusWriter.discard();
                 throw new InterruptedException();
             } else {
                 throw e;
             }
+        } finally {
+            // The statuses of the whole batch are written together
+            statusWriter.flush();
         }
     }
 
@@ -991,6 +1138,7 @@ public class BatchingTopicController {
             return new PartitionedByError<>(List.of(), List.of());
         }
         var someDeleteTopics = TopicCollection.ofTopicNames(topicNames);
+        topicNames.forEach(topicStateCache::invalidate);
         LOGGER.debugOp("Admin.deleteTopics({})", someDeleteTopics.topicNames());
 
         // Admin delete
@@ -1023,6 +1171,7 @@ public class BatchingTopicController {
     }
 
     private void forgetTopic(ReconcilableTopic reconcilableTopic) {
+        fingerprints.forget(reconcilableTopic.kt());
         topics.compute(reconcilableTopic.topicName(), (k, v) -> {
             if (v != null) {
                 v.remove(new KubeRef(reconcilableTopic.kt()));
@@ -1133,7 +1282,7 @@ public class BatchingTopicController {
             new KafkaTopicStatusBuilder(reconcilableTopic.kt().getStatus())
                 .withConditions(conditions)
             .build());
-        updateStatus(reconcilableTopic);
+        statusWriter.add(reconcilableTopic);
         metrics.successfulReconciliationsCounter(namespace).increment();
     }
 
@@ -1190,84 +1339,7 @@ public class BatchingTopicController {
                     .withLastTransitionTime(StatusUtils.iso8601Now())
                     .build()))
                 .build());
-        updateStatus(reconcilableTopic);
+        statusWriter.add(reconcilableTopic);
         metrics.failedReconciliationsCounter(namespace).increment();
     }
-
-    private void updateStatus(ReconcilableTopic reconcilableTopic) {
-        var oldStatus = Crds.topicOperation(kubeClient)
-            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
-            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
-        if (statusChanged(reconcilableTopic.kt(), oldStatus)) {
-            // the observedGeneration is initialized to 0 when creating a paused topic (oldStatus null, paused true)
-            // this will result in metadata.generation: 1 > status.observedGeneration: 0 (not reconciled)
-            reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getStatus() != null && oldStatus != null
-                ? !TopicOperatorUtil.isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : oldStatus.getObservedGeneration()
-                : !TopicOperatorUtil.isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : 0L);
-            reconcilableTopic.kt().getStatus().setTopicName(!TopicOperatorUtil.isManaged(reconcilableTopic.kt()) ? null
-                : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
-                : TopicOperatorUtil.topicName(reconcilableTopic.kt()));
-            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
-                .editOrNewMetadata()
-                .withResourceVersion(null)
-                .endMetadata()
-                .withStatus(reconcilableTopic.kt().getStatus())
-                .build();
-            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
-            var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
-            try {
-                var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
-                TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
-                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
-                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
-            } catch (Throwable e) {
-                LOGGER.errorOp("Status update failed: {}", e.getMessage());
-            }
-        }
-    }
-
-    private boolean statusChanged(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return oldStatusOrTopicNameMissing(oldStatus)
-            || nonPausedAndDifferentGenerations(kt, oldStatus)
-            || differentConditions(kt.getStatus().getConditions(), oldStatus.getConditions())
-            || replicasChangesDiffer(kt, oldStatus);
-    }
-
-    private boolean oldStatusOrTopicNameMissing(KafkaTopicStatus oldStatus) {
-        return oldStatus == null || oldStatus.getTopicName() == null;
-    }
-
-    private boolean nonPausedAndDifferentGenerations(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return !TopicOperatorUtil.isPaused(kt) && oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration();
-    }
-    
-    private boolean differentConditions(List<Condition> newConditions, List<Condition> oldConditions) {
-        if (Objects.equals(newConditions, oldConditions)) {
-            return false;
-        } else if (newConditions == null || oldConditions == null || newConditions.size() != oldConditions.size()) {
-            return true;
-        } else {
-            for (int i = 0; i < newConditions.size(); i++) {
-                if (conditionsDiffer(newConditions.get(i), oldConditions.get(i))) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean conditionsDiffer(Condition newCondition, Condition oldCondition) {
-        return !Objects.equals(newCondition.getType(), oldCondition.getType())
-            || !Objects.equals(newCondition.getStatus(), oldCondition.getStatus())
-            || !Objects.equals(newCondition.getReason(), oldCondition.getReason())
-            || !Objects.equals(newCondition.getMessage(), oldCondition.getMessage());
-    }
-
-    @SuppressWarnings("BooleanExpressionComplexity")
-    private boolean replicasChangesDiffer(KafkaTopic kt, KafkaTopicStatus oldStatus) {
-        return kt.getStatus().getReplicasChange() == null && oldStatus.getReplicasChange() != null
-            || kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() == null
-            || (kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() != null 
-                && !Objects.equals(kt.getStatus().getReplicasChange(), oldStatus.getReplicasChange()));
-    }
 }
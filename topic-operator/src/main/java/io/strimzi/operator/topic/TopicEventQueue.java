@@ -0,0 +1,232 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A keyed queue of pending {@link TopicEvent}s which coalesces the events for the same KafkaTopic:
+ * <ul>
+ *     <li>Repeated upserts collapse into a single upsert (with the latest resource version).</li>
+ *     <li>An upsert followed by a delete reduces to the delete.</li>
+ *     <li>A delete followed by an upsert (i.e. the KafkaTopic was re-created) is kept as the delete followed by the upsert,
+ *     so that both are reconciled in that order.</li>
+ * </ul>
+ * The queue holds at most one entry per KafkaTopic, so its memory footprint depends on the number of KafkaTopics with
+ * pending changes and not on the rate of the events.
+ *
+ * Events taken from the queue are tracked as in-flight until {@link #complete(KubeRef)} is called for them. Events for
+ * KafkaTopics which are in-flight stay in the queue (where they continue to be coalesced) and are not returned by
+ * {@link #poll(long, TimeUnit)}. This prevents concurrent reconciliation of the same KafkaTopic.
+ */
+class TopicEventQueue {
+    /**
+     * Result of offering an event to the queue
+     */
+    enum OfferResult {
+        /** The event was added to the queue */
+        ADDED,
+        /** The event was coalesced with an event for the same KafkaTopic which was already queued */
+        COALESCED,
+        /** The event was queued for a KafkaTopic which is currently being reconciled and will be taken only after its reconciliation completes */
+        IN_FLIGHT,
+        /** The queue is full and the event was not added */
+        FULL
+    }
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<KubeRef, Pending> pending = new LinkedHashMap<>(); // guarded by lock
+    private final Set<KubeRef> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param capacity  Maximum number of KafkaTopics with pending events
+     */
+    TopicEventQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Offers an event to the queue
+     *
+     * @param event     The event
+     *
+     * @return  The result of the offer
+     */
+    OfferResult offer(TopicEvent event) {
+        KubeRef ref = event.toRef();
+
+        lock.lock();
+        try {
+            Pending current = pending.get(ref);
+
+            if (current == null) {
+                if (pending.size() >= capacity) {
+                    return OfferResult.FULL;
+                }
+
+                pending.put(ref, new Pending(event));
+                available.signal();
+            } else {
+                // Coalescing keeps the position of the KafkaTopic in the queue
+                current.coalesce(event);
+            }
+
+            if (inFlight.contains(ref)) {
+                return OfferResult.IN_FLIGHT;
+            } else {
+                return current == null ? OfferResult.ADDED : OfferResult.COALESCED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the oldest pending event for a KafkaTopic which is not in-flight and marks the KafkaTopic as in-flight.
+     * Waits up to the timeout when there is no such event.
+     *
+     * @param timeout   How long to wait
+     * @param unit      Unit of the timeout
+     *
+     * @return  The event or null if the timeout elapsed
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNs = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                TopicEvent event = takeFirstAvailable();
+
+                if (event != null) {
+                    return event;
+                } else if (remainingNs <= 0) {
+                    return null;
+                }
+
+                remainingNs = available.awaitNanos(remainingNs);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TopicEvent takeFirstAvailable() {
+        Iterator<Map.Entry<KubeRef, Pending>> entries = pending.entrySet().iterator();
+
+        while (entries.hasNext()) {
+            Map.Entry<KubeRef, Pending> entry = entries.next();
+
+            if (inFlight.add(entry.getKey())) {
+                Pending value = entry.getValue();
+                TopicEvent event;
+
+                if (value.delete != null) {
+                    event = value.delete;
+                    value.delete = null;
+                } else {
+                    event = value.upsert;
+                    value.upsert = null;
+                }
+
+                if (value.isEmpty()) {
+                    entries.remove();
+                }
+
+                return event;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Marks the reconciliation of the KafkaTopic as complete. Events queued for the KafkaTopic while it was in-flight
+     * become available.
+     *
+     * @param ref   Reference to the KafkaTopic
+     */
+    void complete(KubeRef ref) {
+        if (inFlight.remove(ref)) {
+            lock.lock();
+            try {
+                if (pending.containsKey(ref)) {
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return  Number of KafkaTopics with pending events
+     */
+    int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param ref   Reference to the KafkaTopic
+     *
+     * @return  True if the KafkaTopic is being reconciled
+     */
+    boolean isInFlight(KubeRef ref) {
+        return inFlight.contains(ref);
+    }
+
+    /**
+     * The pending events for a single KafkaTopic. When both are present, the delete is older than the upsert.
+     */
+    private static class Pending {
+        private TopicDelete delete;
+        private TopicUpsert upsert;
+
+        Pending(TopicEvent event) {
+            coalesce(event);
+        }
+
+        void coalesce(TopicEvent event) {
+            if (event instanceof TopicUpsert newUpsert) {
+                // Repeated upserts collapse, but the age of the oldest one is kept
+                upsert = upsert == null ? newUpsert
+                        : new TopicUpsert(upsert.nanosStartOffset(), newUpsert.namespace(), newUpsert.name(), newUpsert.resourceVersion());
+            } else {
+                TopicDelete newDelete = (TopicDelete) event;
+                long nanosStartOffset = delete != null ? delete.nanosStartOffset()
+                        : upsert != null ? upsert.nanosStartOffset() : newDelete.nanosStartOffset();
+
+                // Upsert followed by delete is just the delete
+                upsert = null;
+                delete = new TopicDelete(nanosStartOffset, newDelete.topic());
+            }
+        }
+
+        boolean isEmpty() {
+            return delete == null && upsert == null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import org.apache.kafka.common.Uuid;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fingerprints of the {@link KafkaTopic}s which were successfully reconciled with the state of their topics in Kafka.
+ *
+ * A fingerprint records the generation of the KafkaTopic and the name and ID of the Kafka topic at the time when the
+ * topic was fully described and found to be in sync. Until the fingerprint expires, a KafkaTopic with the same
+ * generation whose topic still exists in Kafka with the same ID does not need to be described again. This allows the
+ * periodic reconciliations to check the unchanged topics with a single listing of the topics instead of describing
+ * each of them.
+ *
+ * The expiry of each fingerprint is randomized between half and the whole of the maximum age, so that the full
+ * describes of the unchanged topics are spread over several periodic reconciliations. The expiry bounds how long a
+ * change made directly in Kafka (for example to the topic configuration) can remain undetected.
+ */
+class TopicFingerprints {
+    private final long maxAgeNs;
+    private final Map<KubeRef, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxAgeMs  Maximum age of the fingerprints in milliseconds. Zero disables the fingerprints.
+     */
+    TopicFingerprints(long maxAgeMs) {
+        this.maxAgeNs = maxAgeMs * 1_000_000;
+    }
+
+    /**
+     * @return True if the fingerprints are enabled.
+     */
+    boolean isEnabled() {
+        return maxAgeNs > 0;
+    }
+
+    /**
+     * Records the fingerprint of a KafkaTopic which was found to be in sync with Kafka.
+     *
+     * @param reconcilableTopic The reconciled topic.
+     * @param topicId           The ID of the topic in Kafka.
+     */
+    void record(ReconcilableTopic reconcilableTopic, Uuid topicId) {
+        if (isEnabled()) {
+            long ttlNs = maxAgeNs / 2 + ThreadLocalRandom.current().nextLong(maxAgeNs / 2 + 1);
+            fingerprints.put(ref(reconcilableTopic.kt()), new Fingerprint(reconcilableTopic.kt().getMetadata().getGeneration(),
+                    reconcilableTopic.topicName(), topicId, System.nanoTime() + ttlNs));
+        }
+    }
+
+    /**
+     * Removes the fingerprint of a KafkaTopic, so that it is fully reconciled next time.
+     *
+     * @param kt    The KafkaTopic.
+     */
+    void forget(KafkaTopic kt) {
+        fingerprints.remove(ref(kt));
+    }
+
+    /**
+     * Checks whether the KafkaTopic may have changed since its fingerprint was recorded, without considering the state
+     * of the topic in Kafka.
+     *
+     * @param reconcilableTopic The topic to reconcile.
+     *
+     * @return True if the fingerprint is still valid for the KafkaTopic.
+     */
+    boolean matchesKafkaTopic(ReconcilableTopic reconcilableTopic) {
+        Fingerprint fingerprint = fingerprints.get(ref(reconcilableTopic.kt()));
+
+        return fingerprint != null
+                && System.nanoTime() - fingerprint.expiresNanos < 0
+                && Objects.equals(fingerprint.generation, reconcilableTopic.kt().getMetadata().getGeneration())
+                && fingerprint.topicName.equals(reconcilableTopic.topicName());
+    }
+
+    /**
+     * Checks whether the topic in Kafka still has the ID recorded in the fingerprint.
+     *
+     * @param reconcilableTopic The topic to reconcile.
+     * @param topicId           The current ID of the topic in Kafka or null if the topic does not exist.
+     *
+     * @return True if the fingerprint is still valid for the topic in Kafka.
+     */
+    boolean matchesKafkaState(ReconcilableTopic reconcilableTopic, Uuid topicId) {
+        Fingerprint fingerprint = fingerprints.get(ref(reconcilableTopic.kt()));
+        return fingerprint != null && fingerprint.topicId.equals(topicId);
+    }
+
+    /**
+     * @return  Number of the recorded fingerprints.
+     */
+    int size() {
+        return fingerprints.size();
+    }
+
+    private static KubeRef ref(KafkaTopic kt) {
+        // The equality of the references does not depend on the creation timestamp
+        return new KubeRef(kt.getMetadata().getNamespace(), kt.getMetadata().getName(), 0);
+    }
+
+    private record Fingerprint(Long generation, String topicName, Uuid topicId, long expiresNanos) { }
+}
@@ -29,6 +29,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PRED
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.config.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
 import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
@@ -56,6 +57,9 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPo
  * @param maxQueueSize                          The capacity of the queue.
  * @param maxBatchSize                          The maximum size of a reconciliation batch.
  * @param maxBatchLingerMs                      The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param maxConcurrentStatusUpdates            The maximum number of KafkaTopic status updates in progress at any time.
+ * @param topicFingerprintMaxAgeMs              The maximum time for which unchanged topics are not described again. Zero disables the fingerprints.
+ * @param kafkaMetadataCacheTtlMs               The time-to-live of the cached topic descriptions and configurations. Zero disables the cache.
  * @param enableAdditionalMetrics               Whether to enable additional metrics.
  * @param cruiseControlEnabled                  Whether Cruise Control integration is enabled.
  * @param cruiseControlRackEnabled              Whether the target Kafka cluster has rack awareness.
@@ -91,6 +95,9 @@ public record TopicOperatorConfig(
         int maxQueueSize,
         int maxBatchSize,
         long maxBatchLingerMs,
+        int maxConcurrentStatusUpdates,
+        long topicFingerprintMaxAgeMs,
+        long kafkaMetadataCacheTtlMs,
         boolean enableAdditionalMetrics,
         FeatureGates featureGates,
         boolean cruiseControlEnabled,
@@ -132,6 +139,9 @@ public record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_CONCURRENT_STATUS_UPDATES = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_STATUS_UPDATES", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_FINGERPRINT_MAX_AGE_MS = new ConfigParameter<>("STRIMZI_TOPIC_FINGERPRINT_MAX_AGE_MS", nonNegative(LONG), "0", CONFIG_VALUES);
+    static final ConfigParameter<Long> KAFKA_METADATA_CACHE_TTL_MS = new ConfigParameter<>("STRIMZI_KAFKA_METADATA_CACHE_TTL_MS", LONG, "0", CONFIG_VALUES);
     static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", BOOLEAN, "false", CONFIG_VALUES);
     static final ConfigParameter<String> ALTERABLE_TOPIC_CONFIG = new ConfigParameter<>("STRIMZI_ALTERABLE_TOPIC_CONFIG", STRING, "ALL", CONFIG_VALUES);
     static final ConfigParameter<Boolean> SKIP_CLUSTER_CONFIG_REVIEW = new ConfigParameter<>("STRIMZI_SKIP_CLUSTER_CONFIG_REVIEW", BOOLEAN, "false", CONFIG_VALUES);
@@ -200,6 +210,9 @@ public record TopicOperatorConfig(
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
                 get(map, MAX_BATCH_LINGER_MS),
+                get(map, MAX_CONCURRENT_STATUS_UPDATES),
+                get(map, TOPIC_FINGERPRINT_MAX_AGE_MS),
+                get(map, KAFKA_METADATA_CACHE_TTL_MS),
                 get(map, ENABLE_ADDITIONAL_METRICS),
                 get(map, FEATURE_GATES),
                 get(map, CRUISE_CONTROL_ENABLED),
@@ -364,6 +377,9 @@ public record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tmaxConcurrentStatusUpdates=" + maxConcurrentStatusUpdates +
+                "\n\ttopicFingerprintMaxAgeMs=" + topicFingerprintMaxAgeMs +
+                "\n\tkafkaMetadataCacheTtlMs=" + kafkaMetadataCacheTtlMs +
                 "\n\tenableAdditionalMetrics=" + enableAdditionalMetrics +
                 "\n\tfeatureGates='" + featureGates + "'" +
                 "\n\tcruiseControlEnabled=" + cruiseControlEnabled +
@@ -137,6 +137,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 replicasChangeHandler.stop();
             }
             this.queue.stop();
+            this.controller.stop();
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
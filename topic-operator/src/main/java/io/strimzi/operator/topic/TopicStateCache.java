@@ -0,0 +1,210 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.model.Either;
+import io.strimzi.operator.topic.model.TopicOperatorException;
+import io.strimzi.operator.topic.model.TopicState;
+import io.strimzi.operator.topic.model.UncheckedInterruptedException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process cache of the {@link TopicState}s (description and configuration) of the topics in Kafka.
+ *
+ * The batches read the states of their topics from the cache and describe only the topics which are missing or expired.
+ * The entries are invalidated whenever the operator changes the topic in Kafka. The entries which were read since they
+ * were fetched are refreshed in the background before they expire, so in steady state the batches find the states of
+ * their topics in the cache. The entries which are not read expire after the time-to-live.
+ *
+ * Changes made directly in Kafka are not seen until the entry is refreshed, which happens within the time-to-live.
+ */
+class TopicStateCache {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicStateCache.class);
+
+    private final long ttlNs;
+    private final int refreshBatchSize;
+    private final Function<Set<String>, Map<String, Either<TopicOperatorException, TopicState>>> describer;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private ScheduledExecutorService refresher;
+
+    /**
+     * @param ttlMs             Time-to-live of the entries in milliseconds. Zero disables the cache.
+     * @param refreshBatchSize  Maximum number of topics described in a single background request.
+     * @param describer         Function describing the topics with the given names.
+     */
+    TopicStateCache(long ttlMs,
+                    int refreshBatchSize,
+                    Function<Set<String>, Map<String, Either<TopicOperatorException, TopicState>>> describer) {
+        this(ttlMs, refreshBatchSize, describer, System::nanoTime);
+    }
+
+    /**
+     * @param ttlMs             Time-to-live of the entries in milliseconds. Zero disables the cache.
+     * @param refreshBatchSize  Maximum number of topics described in a single background request.
+     * @param describer         Function describing the topics with the given names.
+     * @param nanoTime          Source of the current time in nanoseconds, as returned by {@link System#nanoTime()}.
+     */
+    /* test */ TopicStateCache(long ttlMs,
+                               int refreshBatchSize,
+                               Function<Set<String>, Map<String, Either<TopicOperatorException, TopicState>>> describer,
+                               LongSupplier nanoTime) {
+        this.ttlNs = ttlMs * 1_000_000;
+        this.refreshBatchSize = Math.max(1, refreshBatchSize);
+        this.describer = describer;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return True if the cache is enabled.
+     */
+    boolean isEnabled() {
+        return ttlNs > 0;
+    }
+
+    /**
+     * Starts refreshing the entries in the background.
+     */
+    synchronized void start() {
+        if (isEnabled() && refresher == null) {
+            long periodNs = Math.max(ttlNs / 4, 1_000_000);
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "TopicStateCache-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh, periodNs, periodNs, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops refreshing the entries in the background.
+     */
+    synchronized void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * @param topicName Name of the topic.
+     *
+     * @return The cached state of the topic or null if it is not cached or expired.
+     */
+    TopicState get(String topicName) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Entry entry = entries.get(topicName);
+        if (entry != null && entry.state != null && nanoTime.getAsLong() - entry.timestampNanos < ttlNs) {
+            entry.read = true;
+            return entry.state;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Caches the state of the topic, unless the topic was invalidated or fetched again after the given time.
+     *
+     * @param topicName         Name of the topic.
+     * @param state             State of the topic.
+     * @param fetchStartNanos   The time at which the fetch of the state started.
+     */
+    void put(String topicName, TopicState state, long fetchStartNanos) {
+        if (isEnabled()) {
+            entries.compute(topicName, (k, old) -> old != null && old.timestampNanos - fetchStartNanos > 0 ? old : new Entry(state, fetchStartNanos));
+        }
+    }
+
+    /**
+     * Invalidates the cached state of the topic after it was changed by the operator.
+     *
+     * @param topicName Name of the topic.
+     */
+    void invalidate(String topicName) {
+        if (isEnabled()) {
+            // The entry without a state prevents a fetch started before the change from caching an outdated state
+            entries.put(topicName, new Entry(null, nanoTime.getAsLong()));
+        }
+    }
+
+    /**
+     * @return Number of entries in the cache (including the invalidated ones).
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Refreshes the entries which were read since they were fetched and which are about to expire. Removes the
+     * expired entries.
+     */
+    /* test */ void refresh() {
+        long now = nanoTime.getAsLong();
+        Set<String> toRefresh = new LinkedHashSet<>();
+
+        entries.forEach((topicName, entry) -> {
+            long age = now - entry.timestampNanos;
+            if (entry.state != null && entry.read && age > ttlNs / 2) {
+                toRefresh.add(topicName);
+            } else if (age >= ttlNs) {
+                entries.remove(topicName, entry);
+            }
+        });
+
+        if (toRefresh.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debugOp("Refreshing the state of {} topics", toRefresh.size());
+        List<String> names = new ArrayList<>(toRefresh);
+        try {
+            for (int i = 0; i < names.size(); i += refreshBatchSize) {
+                Set<String> chunk = new LinkedHashSet<>(names.subList(i, Math.min(i + refreshBatchSize, names.size())));
+                long fetchStartNanos = nanoTime.getAsLong();
+
+                describer.apply(chunk).forEach((topicName, result) -> {
+                    if (result.isRight()) {
+                        put(topicName, result.right(), fetchStartNanos);
+                    } else {
+                        // For example the topic was deleted, so let the next batch find out
+                        invalidate(topicName);
+                    }
+                });
+            }
+        } catch (UncheckedInterruptedException e) {
+            LOGGER.debugOp("Refresh of the topic states interrupted");
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.warnOp("Refresh of the topic states failed", e);
+        }
+    }
+
+    private static class Entry {
+        private final TopicState state;
+        private final long timestampNanos;
+        private volatile boolean read = false;
+
+        Entry(TopicState state, long timestampNanos) {
+            this.state = state;
+            this.timestampNanos = timestampNanos;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the statuses of the {@link KafkaTopic}s reconciled in a batch.
+ *
+ * The status changes are collected while the batch is reconciled, with only the last change kept for each KafkaTopic,
+ * and are written when the batch is flushed. The writes are executed concurrently, with at most
+ * {@code maxConcurrentWrites} writes in progress at any time. Writes which would not change the status stored in
+ * Kubernetes are skipped.
+ */
+class TopicStatusWriter {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicStatusWriter.class);
+
+    private final KubernetesClient kubeClient;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final boolean enableAdditionalMetrics;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<KubeRef, ReconcilableTopic> pending = new LinkedHashMap<>();
+
+    /**
+     * @param kubeClient                Kubernetes client.
+     * @param metrics                   Metrics holder.
+     * @param namespace                 Namespace of the KafkaTopics.
+     * @param enableAdditionalMetrics   Whether the additional metrics are enabled.
+     * @param maxConcurrentWrites       Maximum number of status writes in progress at any time.
+     */
+    TopicStatusWriter(KubernetesClient kubeClient,
+                      TopicOperatorMetricsHolder metrics,
+                      String namespace,
+                      boolean enableAdditionalMetrics,
+                      int maxConcurrentWrites) {
+        this.kubeClient = kubeClient;
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.enableAdditionalMetrics = enableAdditionalMetrics;
+
+        int threads = Math.max(1, maxConcurrentWrites);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "TopicStatusWriter-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The threads are only needed while a batch is flushed
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Adds the status of the KafkaTopic to be written on the next flush.
+     * A status added earlier for the same KafkaTopic is replaced.
+     *
+     * @param reconcilableTopic The reconciled topic with the new status.
+     */
+    void add(ReconcilableTopic reconcilableTopic) {
+        pending.put(new KubeRef(reconcilableTopic.kt()), reconcilableTopic);
+    }
+
+    /**
+     * Discards the statuses added since the last flush.
+     */
+    void discard() {
+        if (!pending.isEmpty()) {
+            LOGGER.debugOp("Discarding {} pending status updates", pending.size());
+            pending.clear();
+        }
+    }
+
+    /**
+     * Writes the statuses added since the last flush and waits for the writes to complete.
+     * Failed writes are logged and do not fail the flush.
+     *
+     * @throws InterruptedException If interrupted while waiting for the writes.
+     */
+    void flush() throws InterruptedException {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ReconcilableTopic> toWrite = new ArrayList<>(pending.values());
+        pending.clear();
+
+        Timer.Sample timerSample = Timer.start(metrics.metricsProvider().meterRegistry());
+        try {
+            if (toWrite.size() == 1) {
+                // No need to hand a single write over to another thread
+                write(toWrite.get(0));
+            } else {
+                List<Future<?>> futures = new ArrayList<>(toWrite.size());
+                for (ReconcilableTopic reconcilableTopic : toWrite) {
+                    futures.add(executor.submit(() -> write(reconcilableTopic)));
+                }
+
+                try {
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } catch (InterruptedException e) {
+                    futures.forEach(future -> future.cancel(true));
+                    throw e;
+                }
+            }
+        } catch (ExecutionException e) {
+            // Should not happen as the writes handle their own errors
+            LOGGER.errorOp("Status update failed", e.getCause());
+        } finally {
+            timerSample.stop(metrics.statusWritesTimer(namespace));
+        }
+
+        LOGGER.traceOp("Updated status of {} KafkaTopics", toWrite.size());
+    }
+
+    /**
+     * Stops the threads writing the statuses.
+     */
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private void write(ReconcilableTopic reconcilableTopic) {
+        AtomicInteger inFlight = metrics.statusWritesInFlight(namespace);
+        inFlight.incrementAndGet();
+        try {
+            updateStatus(reconcilableTopic);
+        } catch (Throwable e) {
+            LOGGER.errorCr(reconcilableTopic.reconciliation(), "Status update failed: {}", e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void updateStatus(ReconcilableTopic reconcilableTopic) {
+        var oldStatus = Crds.topicOperation(kubeClient)
+            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
+            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
+        if (statusChanged(reconcilableTopic.kt(), oldStatus)) {
+            // the observedGeneration is initialized to 0 when creating a paused topic (oldStatus null, paused true)
+            // this will result in metadata.generation: 1 > status.observedGeneration: 0 (not reconciled)
+            reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getStatus() != null && oldStatus != null
+                ? !TopicOperatorUtil.isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : oldStatus.getObservedGeneration()
+                : !TopicOperatorUtil.isPaused(reconcilableTopic.kt()) ? reconcilableTopic.kt().getMetadata().getGeneration() : 0L);
+            reconcilableTopic.kt().getStatus().setTopicName(!TopicOperatorUtil.isManaged(reconcilableTopic.kt()) ? null
+                : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
+                : TopicOperatorUtil.topicName(reconcilableTopic.kt()));
+            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
+                .editOrNewMetadata()
+                .withResourceVersion(null)
+                .endMetadata()
+                .withStatus(reconcilableTopic.kt().getStatus())
+                .build();
+            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
+            var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
+            try {
+                var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
+                TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
+                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+            } catch (Throwable e) {
+                LOGGER.errorOp("Status update failed: {}", e.getMessage());
+            }
+        } else {
+            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Status unchanged, skipping update");
+        }
+    }
+
+    private boolean statusChanged(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return oldStatusOrTopicNameMissing(oldStatus)
+            || nonPausedAndDifferentGenerations(kt, oldStatus)
+            || differentConditions(kt.getStatus().getConditions(), oldStatus.getConditions())
+            || replicasChangesDiffer(kt, oldStatus);
+    }
+
+    private boolean oldStatusOrTopicNameMissing(KafkaTopicStatus oldStatus) {
+        return oldStatus == null || oldStatus.getTopicName() == null;
+    }
+
+    private boolean nonPausedAndDifferentGenerations(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return !TopicOperatorUtil.isPaused(kt) && oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration();
+    }
+
+    private boolean differentConditions(List<Condition> newConditions, List<Condition> oldConditions) {
+        if (Objects.equals(newConditions, oldConditions)) {
+            return false;
+        } else if (newConditions == null || oldConditions == null || newConditions.size() != oldConditions.size()) {
+            return true;
+        } else {
+            for (int i = 0; i < newConditions.size(); i++) {
+                if (conditionsDiffer(newConditions.get(i), oldConditions.get(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean conditionsDiffer(Condition newCondition, Condition oldCondition) {
+        return !Objects.equals(newCondition.getType(), oldCondition.getType())
+            || !Objects.equals(newCondition.getStatus(), oldCondition.getStatus())
+            || !Objects.equals(newCondition.getReason(), oldCondition.getReason())
+            || !Objects.equals(newCondition.getMessage(), oldCondition.getMessage());
+    }
+
+    @SuppressWarnings("BooleanExpressionComplexity")
+    private boolean replicasChangesDiffer(KafkaTopic kt, KafkaTopicStatus oldStatus) {
+        return kt.getStatus().getReplicasChange() == null && oldStatus.getReplicasChange() != null
+            || kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() == null
+            || (kt.getStatus().getReplicasChange() != null && oldStatus.getReplicasChange() != null
+                && !Objects.equals(kt.getStatus().getReplicasChange(), oldStatus.getReplicasChange()));
+    }
+}
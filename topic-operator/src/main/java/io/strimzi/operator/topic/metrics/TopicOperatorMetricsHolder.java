@@ -42,6 +42,14 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for Kubernetes update status duration.
      */
     public static final String METRICS_UPDATE_TOPICS_DURATION = METRICS_PREFIX + "update.status.duration";
+    /**
+     * Metric name for the duration of the Kubernetes status writes of a batch.
+     */
+    public static final String METRICS_STATUS_WRITES_DURATION = METRICS_PREFIX + "status.writes.duration";
+    /**
+     * Metric name for the Kubernetes status writes in progress.
+     */
+    public static final String METRICS_STATUS_WRITES_IN_FLIGHT = METRICS_PREFIX + "status.writes.inflight";
     /**
      * Metric name for Kafka list reassignments duration.
      */
@@ -77,6 +85,8 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
 
     private final Map<MetricKey, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> statusWritesTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicInteger> statusWritesInFlightMap = new ConcurrentHashMap<>(1);
 
     // additional metrics useful for tuning or monitoring specific internal requests
     private final Map<MetricKey, Timer> addFinalizerTimerMap = new ConcurrentHashMap<>(1);
@@ -149,6 +159,30 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), reconciliationsMaxBatchMap);
     }
 
+    /**
+     * Timer which measures how long the Kubernetes status writes of a single batch take to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer statusWritesTimer(String namespace) {
+        return getTimer(new MetricKey(kind, namespace), METRICS_STATUS_WRITES_DURATION,
+                "The time the Kubernetes status writes of a single batch take to complete",
+                Optional.of(getLabelSelectorValues()), statusWritesTimerMap);
+    }
+
+    /**
+     * Gauge metric for the number of Kubernetes status writes in progress.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics gauge.
+     */
+    public AtomicInteger statusWritesInFlight(String namespace) {
+        return getGauge(new MetricKey(kind, namespace), METRICS_STATUS_WRITES_IN_FLIGHT,
+                "Number of Kubernetes status writes in progress",
+                Optional.of(getLabelSelectorValues()), statusWritesInFlightMap);
+    }
+
     /**
      * Timer which measures how long the Kubernetes add finalizer request takes to complete.
      *
@@ -27,6 +27,7 @@ import io.strimzi.operator.topic.model.TopicState;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreatePartitionsResult;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
@@ -64,6 +65,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static io.strimzi.api.kafka.model.topic.ReplicasChangeState.ONGOING;
 import static io.strimzi.api.kafka.model.topic.ReplicasChangeState.PENDING;
 import static io.strimzi.operator.topic.TopicOperatorUtil.topicName;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -487,6 +489,101 @@ class BatchingTopicControllerTest {
         assertThat(results.ok().findFirst().get().getKey().kt().getStatus().getReplicasChange(), is(nullValue()));
     }
 
+    @Test
+    public void replicasChangeShouldNotBeCachedUntilCompleted() {
+        int replicationFactor = 2;
+
+        // setup: ongoing replicas change with the topic state cache enabled
+        var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(NAMESPACE).when(config).namespace();
+        Mockito.doReturn(true).when(config).useFinalizer();
+        Mockito.doReturn(false).when(config).enableAdditionalMetrics();
+        Mockito.doReturn(true).when(config).cruiseControlEnabled();
+        Mockito.doReturn(60_000L).when(config).kafkaMetadataCacheTtlMs();
+        Mockito.doReturn(100).when(config).maxBatchSize();
+
+        var describeClusterResult = Mockito.mock(DescribeClusterResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(List.of())).when(describeClusterResult).nodes();
+
+        var partitionReassignmentResult = Mockito.mock(ListPartitionReassignmentsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(Map.of())).when(partitionReassignmentResult).reassignments();
+
+        var topicDescription = new TopicDescription("my-topic", false, List.of());
+        var describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(Map.of("my-topic", topicDescription))).when(describeTopicsResult).allTopicNames();
+        Mockito.doReturn(Map.of("my-topic", KafkaFuture.completedFuture(topicDescription))).when(describeTopicsResult).topicNameValues();
+
+        var configResource = new ConfigResource(ConfigResource.Type.TOPIC, "my-topic");
+        var topicConfig = new Config(List.of());
+        var describeConfigsResult = Mockito.mock(DescribeConfigsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(Map.of(configResource, topicConfig))).when(describeConfigsResult).all();
+        Mockito.doReturn(Map.of(configResource, KafkaFuture.completedFuture(topicConfig))).when(describeConfigsResult).values();
+
+        var admin = Mockito.mock(Admin.class);
+        Mockito.doReturn(describeClusterResult).when(admin).describeCluster();
+        Mockito.doReturn(partitionReassignmentResult).when(admin).listPartitionReassignments(any(Set.class));
+        Mockito.doReturn(describeTopicsResult).when(admin).describeTopics(any(Collection.class));
+        Mockito.doReturn(describeConfigsResult).when(admin).describeConfigs(any(Collection.class));
+
+        var currentState = Mockito.mock(TopicState.class);
+        Mockito.doReturn(replicationFactor).when(currentState).uniqueReplicationFactor();
+
+        var kafkaTopic = new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withName("my-topic")
+                .withNamespace(namespace(NAMESPACE))
+                .addToLabels("key", "VALUE")
+            .endMetadata()
+            .withNewSpec()
+                .withPartitions(25)
+                .withReplicas(replicationFactor)
+            .endSpec()
+            .withStatus(new KafkaTopicStatusBuilder()
+                .withReplicasChange(new ReplicasChangeStatusBuilder()
+                        .withSessionId("8911ca89-351f-888-8d0f-9aade00e098h")
+                        .withState(ONGOING)
+                        .withTargetReplicas(replicationFactor)
+                    .build())
+                .build())
+            .build();
+
+        var reconcilableTopic = new ReconcilableTopic(
+            new Reconciliation("test", RESOURCE_KIND, NAMESPACE, "my-topic"), kafkaTopic, topicName(kafkaTopic));
+
+        // the ongoing replicas change completes
+        var replicasChangeHandler = Mockito.mock(ReplicasChangeHandler.class);
+        Mockito.doReturn(List.of()).when(replicasChangeHandler).requestPendingChanges(anyList());
+        Mockito.doAnswer(invocation -> {
+            reconcilableTopic.kt().getStatus().setReplicasChange(null);
+            return List.of(reconcilableTopic);
+        }).when(replicasChangeHandler).requestOngoingChanges(anyList());
+
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), admin, client, metrics, replicasChangeHandler);
+        try {
+            // run test: the state of a topic with a replicas change in progress is described, but not cached
+            assertThat(controller.describeTopic(List.of(reconcilableTopic)).ok().count(), is(1L));
+            assertThat(controller.topicStateCache.get("my-topic"), is(nullValue()));
+
+            // a state cached before the replicas change started is invalidated when it completes
+            controller.topicStateCache.put("my-topic", currentState, System.nanoTime());
+            var currentStatesOrError = new PartitionedByError<>(
+                List.of(new Pair<>(reconcilableTopic, Either.ofRight(currentState))), List.of());
+            var results = controller.checkReplicasChanges(List.of(reconcilableTopic), currentStatesOrError);
+            assertThat(results.ok().count(), is(1L));
+            assertThat(reconcilableTopic.kt().getStatus().getReplicasChange(), is(nullValue()));
+            assertThat(controller.topicStateCache.get("my-topic"), is(nullValue()));
+
+            // the state is described again after the completion and only then cached
+            var described = controller.describeTopic(List.of(reconcilableTopic));
+            assertThat(described.ok().findFirst().get().getValue().description(), is(topicDescription));
+            assertThat(controller.topicStateCache.get("my-topic").description(), is(topicDescription));
+            controller.describeTopic(List.of(reconcilableTopic));
+            Mockito.verify(admin, Mockito.times(2)).describeTopics(any(Collection.class));
+        } finally {
+            controller.stop();
+        }
+    }
+
     @Test
     public void shouldNotCallGetClusterConfigWhenDisabled() {
         var admin = Mockito.mock(Admin.class);
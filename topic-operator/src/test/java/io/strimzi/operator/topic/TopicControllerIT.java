@@ -1236,7 +1236,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "", "",
                 useFinalizer,
-                100, 100, 10, false, new FeatureGates(""),
+                100, 100, 10, 10, 0, 0, false, new FeatureGates(""),
                 false, false, "", 9090, false, false, "", "", "",
                 "all", false);
     }
@@ -1990,7 +1990,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "", "",
                 true,
-                1, 100, 5_0000, false, new FeatureGates(""),
+                1, 100, 5_0000, 10, 0, 0, false, new FeatureGates(""),
                 false, false, "", 9090, false, false, "", "", "",
                 "all", false);
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicEventQueueTest {
+    private static final String NAMESPACE = "ns";
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                .endMetadata()
+                .build();
+    }
+
+    private static TopicEvent poll(TopicEventQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void testRepeatedUpsertsAreCoalesced() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(1, NAMESPACE, "t0", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(2, NAMESPACE, "t1", "1")));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(new TopicUpsert(3, NAMESPACE, "t0", "2")));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(new TopicUpsert(4, NAMESPACE, "t0", "3")));
+        assertEquals(2, queue.size());
+
+        // The coalesced upsert keeps its position in the queue and the age of the oldest event, but has the latest resource version
+        var upsert = (TopicUpsert) poll(queue);
+        assertEquals("t0", upsert.name());
+        assertEquals(1, upsert.nanosStartOffset());
+        assertEquals("3", upsert.resourceVersion());
+
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+        assertNull(poll(queue));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testUpsertFollowedByDeleteIsDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+
+        queue.offer(new TopicUpsert(1, NAMESPACE, "t0", "1"));
+        queue.offer(new TopicUpsert(2, NAMESPACE, "t0", "2"));
+        queue.offer(new TopicDelete(3, kafkaTopic("t0")));
+        assertEquals(1, queue.size());
+
+        var delete = assertInstanceOf(TopicDelete.class, poll(queue));
+        assertEquals("t0", delete.name());
+        assertEquals(1, delete.nanosStartOffset());
+
+        queue.complete(delete.toRef());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void testDeleteFollowedByUpsertKeepsBothInOrder() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+
+        queue.offer(new TopicDelete(1, kafkaTopic("t0")));
+        queue.offer(new TopicUpsert(2, NAMESPACE, "t0", "1"));
+        assertEquals(1, queue.size());
+
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        // The upsert waits until the delete is reconciled
+        assertNull(poll(queue));
+        assertEquals(1, queue.size());
+
+        queue.complete(new KubeRef(NAMESPACE, "t0", 0));
+        assertInstanceOf(TopicUpsert.class, poll(queue));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testInFlightTopicsAreSkipped() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var t0 = new KubeRef(NAMESPACE, "t0", 0);
+
+        queue.offer(new TopicUpsert(1, NAMESPACE, "t0", "1"));
+        assertEquals("t0", ((TopicUpsert) poll(queue)).name());
+        assertTrue(queue.isInFlight(t0));
+
+        assertEquals(TopicEventQueue.OfferResult.IN_FLIGHT, queue.offer(new TopicUpsert(2, NAMESPACE, "t0", "2")));
+        assertEquals(TopicEventQueue.OfferResult.IN_FLIGHT, queue.offer(new TopicUpsert(3, NAMESPACE, "t0", "3")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(4, NAMESPACE, "t1", "1")));
+
+        // t0 is skipped while in flight
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+        assertNull(poll(queue));
+
+        queue.complete(t0);
+        assertFalse(queue.isInFlight(t0));
+        var upsert = (TopicUpsert) poll(queue);
+        assertEquals("t0", upsert.name());
+        assertEquals("3", upsert.resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void testCompleteWakesUpWaitingPoll() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var t0 = new KubeRef(NAMESPACE, "t0", 0);
+
+        queue.offer(new TopicUpsert(1, NAMESPACE, "t0", "1"));
+        poll(queue);
+        queue.offer(new TopicUpsert(2, NAMESPACE, "t0", "2"));
+
+        var thread = new Thread(() -> queue.complete(t0));
+        thread.start();
+
+        var upsert = (TopicUpsert) queue.poll(10, TimeUnit.SECONDS);
+        assertEquals("2", upsert.resourceVersion());
+        thread.join();
+    }
+
+    @Test
+    void testCapacityIsNumberOfTopics() throws InterruptedException {
+        var queue = new TopicEventQueue(2);
+
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(1, NAMESPACE, "t0", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(2, NAMESPACE, "t1", "1")));
+        // Events for queued topics can still be coalesced when the queue is full
+        for (int i = 0; i < 100; i++) {
+            assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(new TopicUpsert(3 + i, NAMESPACE, "t0", String.valueOf(i))));
+        }
+        assertEquals(TopicEventQueue.OfferResult.FULL, queue.offer(new TopicUpsert(200, NAMESPACE, "t2", "1")));
+        assertEquals(2, queue.size());
+
+        poll(queue);
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(new TopicUpsert(201, NAMESPACE, "t2", "1")));
+    }
+}
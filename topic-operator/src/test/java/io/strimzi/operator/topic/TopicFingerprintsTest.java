@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicFingerprintsTest {
+    private static ReconcilableTopic reconcilableTopic(String name, long generation, String topicName) {
+        KafkaTopic kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName(topicName)
+                .endSpec()
+                .build();
+        return new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", "ns", name), kt, topicName);
+    }
+
+    @Test
+    void testDisabled() {
+        var fingerprints = new TopicFingerprints(0);
+        var rt = reconcilableTopic("my-topic", 1, "my-topic");
+
+        assertFalse(fingerprints.isEnabled());
+        fingerprints.record(rt, Uuid.randomUuid());
+        assertEquals(0, fingerprints.size());
+        assertFalse(fingerprints.matchesKafkaTopic(rt));
+    }
+
+    @Test
+    void testMatches() {
+        var fingerprints = new TopicFingerprints(60_000);
+        var rt = reconcilableTopic("my-topic", 1, "my-topic");
+        var topicId = Uuid.randomUuid();
+
+        assertTrue(fingerprints.isEnabled());
+        assertFalse(fingerprints.matchesKafkaTopic(rt));
+
+        fingerprints.record(rt, topicId);
+        assertTrue(fingerprints.matchesKafkaTopic(rt));
+        assertTrue(fingerprints.matchesKafkaState(rt, topicId));
+
+        // Topic re-created or deleted in Kafka
+        assertFalse(fingerprints.matchesKafkaState(rt, Uuid.randomUuid()));
+        assertFalse(fingerprints.matchesKafkaState(rt, null));
+
+        // KafkaTopic changed
+        assertFalse(fingerprints.matchesKafkaTopic(reconcilableTopic("my-topic", 2, "my-topic")));
+        assertFalse(fingerprints.matchesKafkaTopic(reconcilableTopic("my-topic", 1, "other-topic")));
+        assertFalse(fingerprints.matchesKafkaTopic(reconcilableTopic("other-kafka-topic", 1, "my-topic")));
+
+        fingerprints.forget(rt.kt());
+        assertFalse(fingerprints.matchesKafkaTopic(rt));
+        assertEquals(0, fingerprints.size());
+    }
+
+    @Test
+    void testExpiry() throws InterruptedException {
+        var fingerprints = new TopicFingerprints(1);
+        var rt = reconcilableTopic("my-topic", 1, "my-topic");
+
+        fingerprints.record(rt, Uuid.randomUuid());
+        Thread.sleep(5);
+        assertFalse(fingerprints.matchesKafkaTopic(rt));
+    }
+}
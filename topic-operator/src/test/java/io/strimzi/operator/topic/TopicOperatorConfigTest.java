@@ -200,6 +200,15 @@ class TopicOperatorConfigTest {
         assertEquals("TLS is enabled but the security protocol does not match SSL or SASL_SSL", e.getMessage());
     }
 
+    @Test
+    void shouldRejectNegativeTopicFingerprintMaxAge() {
+        var e = assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.TOPIC_FINGERPRINT_MAX_AGE_MS.key(), "-1")));
+        assertEquals("Failed to parse. Negative value is not supported for this configuration", e.getMessage());
+    }
+
     @Test
     void shouldThrowIfSaslButNotCredentials() {
         // given
@@ -188,6 +188,8 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches(TopicOperatorMetricsHolder.METRICS_DESCRIBE_CONFIGS_DURATION, "timer", greaterThan(0.0));
         assertMetricMatches(TopicOperatorMetricsHolder.METRICS_CREATE_TOPICS_DURATION, "timer", greaterThan(0.0));
         assertMetricMatches(TopicOperatorMetricsHolder.METRICS_ADD_FINALIZER_DURATION, "timer", greaterThan(0.0));
+        assertMetricMatches(TopicOperatorMetricsHolder.METRICS_STATUS_WRITES_DURATION, "timer", greaterThan(0.0));
+        assertMetricMatches(TopicOperatorMetricsHolder.METRICS_STATUS_WRITES_IN_FLIGHT, "gauge", is(0.0));
         
         // config change, 1 reconciliation, success
         var t1ConfigChanged = updateTopic("t1", kt -> {
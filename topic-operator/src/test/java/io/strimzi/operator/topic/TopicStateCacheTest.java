@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.model.Either;
+import io.strimzi.operator.topic.model.TopicOperatorException;
+import io.strimzi.operator.topic.model.TopicState;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TopicStateCacheTest {
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000 * MS);
+
+    private static TopicState state(String topicName) {
+        return new TopicState(new TopicDescription(topicName, false, List.of()), new Config(List.of()));
+    }
+
+    @Test
+    void testDisabled() {
+        var cache = new TopicStateCache(0, 10, names -> Map.of(), nanoTime::get);
+
+        cache.put("t0", state("t0"), nanoTime.get());
+        assertNull(cache.get("t0"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidate() {
+        var cache = new TopicStateCache(60_000, 10, names -> Map.of(), nanoTime::get);
+        var state = state("t0");
+
+        long fetchStartNanos = nanoTime.get();
+        cache.put("t0", state, fetchStartNanos);
+        assertSame(state, cache.get("t0"));
+
+        nanoTime.addAndGet(MS);
+        cache.invalidate("t0");
+        assertNull(cache.get("t0"));
+
+        // A fetch which started before the invalidation must not cache an outdated state
+        cache.put("t0", state, fetchStartNanos);
+        assertNull(cache.get("t0"));
+
+        nanoTime.addAndGet(MS);
+        cache.put("t0", state, nanoTime.get());
+        assertSame(state, cache.get("t0"));
+    }
+
+    @Test
+    void testExpiry() {
+        var cache = new TopicStateCache(1_000, 10, names -> Map.of(), nanoTime::get);
+
+        cache.put("t0", state("t0"), nanoTime.get());
+        nanoTime.addAndGet(1_000 * MS);
+        assertNull(cache.get("t0"));
+
+        cache.refresh();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRefreshOnlyReadEntries() {
+        List<Set<String>> requests = new ArrayList<>();
+        var cache = new TopicStateCache(400, 2, names -> {
+            requests.add(names);
+            Map<String, Either<TopicOperatorException, TopicState>> results = new HashMap<>();
+            names.forEach(name -> results.put(name, name.equals("t2")
+                    ? Either.ofLeft(new TopicOperatorException.KafkaError(new UnknownTopicOrPartitionException("deleted")))
+                    : Either.ofRight(state(name))));
+            return results;
+        }, nanoTime::get);
+
+        for (String name : List.of("t0", "t1", "t2", "t3")) {
+            cache.put(name, state(name), nanoTime.get());
+        }
+        cache.get("t0");
+        cache.get("t1");
+        cache.get("t2");
+
+        // Not yet about to expire
+        nanoTime.addAndGet(200 * MS);
+        cache.refresh();
+        assertEquals(0, requests.size());
+
+        nanoTime.addAndGet(MS);
+        cache.refresh();
+
+        // t3 was not read, so it is not refreshed and the rest is described in batches of 2 topics
+        assertEquals(List.of(Set.of("t0", "t1"), Set.of("t2")), requests);
+
+        // The refreshed entries outlive the original time-to-live, the rest expires
+        nanoTime.addAndGet(200 * MS);
+        assertEquals("t0", cache.get("t0").description().name());
+        assertEquals("t1", cache.get("t1").description().name());
+        assertNull(cache.get("t2"));
+        assertNull(cache.get("t3"));
+    }
+}
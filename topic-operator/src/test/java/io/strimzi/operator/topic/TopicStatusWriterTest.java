@@ -0,0 +1,248 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.common.ConditionBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TopicStatusWriterTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private TopicOperatorMetricsHolder metrics;
+    private KubernetesClient kubeClient;
+    private List<KafkaTopic> written;
+    private Function<KafkaTopic, KafkaTopic> updateStatus;
+    private TopicStatusWriter statusWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        written = new CopyOnWriteArrayList<>();
+        updateStatus = kt -> {
+            written.add(kt);
+            return kt;
+        };
+
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation = mock(MixedOperation.class);
+        NonNamespaceOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> namespacedOperation = mock(NonNamespaceOperation.class);
+        kubeClient = mock(KubernetesClient.class);
+        when(kubeClient.resources(KafkaTopic.class, KafkaTopicList.class)).thenReturn(operation);
+        when(operation.inNamespace(anyString())).thenReturn(namespacedOperation);
+
+        // The KafkaTopics stored in Kubernetes do not have any status yet
+        when(namespacedOperation.withName(anyString())).thenAnswer(i -> {
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.get()).thenReturn(kafkaTopic(i.getArgument(0), null));
+            return resource;
+        });
+        when(operation.resource(any(KafkaTopic.class))).thenAnswer(i -> {
+            KafkaTopic kt = i.getArgument(0);
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.updateStatus()).thenAnswer(j -> updateStatus.apply(kt));
+            return resource;
+        });
+    }
+
+    @AfterEach
+    void teardown() {
+        if (statusWriter != null) {
+            statusWriter.stop();
+        }
+    }
+
+    private static KafkaTopic kafkaTopic(String name, String message) {
+        KafkaTopicBuilder builder = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withGeneration(1L)
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec();
+
+        if (message != null) {
+            builder.withNewStatus()
+                        .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").withMessage(message).build())
+                    .endStatus();
+        }
+
+        return builder.build();
+    }
+
+    private static ReconcilableTopic reconcilableTopic(String name, String message) {
+        return new ReconcilableTopic(new Reconciliation("test", RESOURCE_KIND, NAMESPACE, name), kafkaTopic(name, message), name);
+    }
+
+    private List<String> writtenMessages(String name) {
+        return written.stream()
+                .filter(kt -> kt.getMetadata().getName().equals(name))
+                .map(kt -> kt.getStatus().getConditions().get(0).getMessage())
+                .toList();
+    }
+
+    @Test
+    void shouldWriteOnlyTheLastAddedStatusOfEachTopic() throws InterruptedException {
+        statusWriter = new TopicStatusWriter(kubeClient, metrics, NAMESPACE, false, 2);
+
+        statusWriter.add(reconcilableTopic("topic-a", "first"));
+        statusWriter.add(reconcilableTopic("topic-b", "first"));
+        statusWriter.add(reconcilableTopic("topic-a", "second"));
+        statusWriter.flush();
+
+        assertThat(written.size(), is(2));
+        assertThat(writtenMessages("topic-a"), is(List.of("second")));
+        assertThat(writtenMessages("topic-b"), is(List.of("first")));
+
+        // Flushed statuses are not written again
+        statusWriter.flush();
+        assertThat(written.size(), is(2));
+    }
+
+    @Test
+    void shouldNotWriteDiscardedStatuses() throws InterruptedException {
+        statusWriter = new TopicStatusWriter(kubeClient, metrics, NAMESPACE, false, 2);
+
+        statusWriter.add(reconcilableTopic("topic-a", "first"));
+        statusWriter.discard();
+        statusWriter.flush();
+
+        assertThat(written.size(), is(0));
+    }
+
+    @Test
+    void shouldFlushTheOtherStatusesWhenAWriteFails() throws InterruptedException {
+        statusWriter = new TopicStatusWriter(kubeClient, metrics, NAMESPACE, false, 2);
+        updateStatus = kt -> {
+            if (kt.getMetadata().getName().equals("topic-a")) {
+                throw new KubernetesClientException("Conflict");
+            }
+
+            written.add(kt);
+            return kt;
+        };
+
+        statusWriter.add(reconcilableTopic("topic-a", "first"));
+        statusWriter.add(reconcilableTopic("topic-b", "first"));
+        statusWriter.add(reconcilableTopic("topic-c", "first"));
+        statusWriter.flush();
+
+        assertThat(writtenMessages("topic-a"), is(List.of()));
+        assertThat(writtenMessages("topic-b"), is(List.of("first")));
+        assertThat(writtenMessages("topic-c"), is(List.of("first")));
+        assertThat(metrics.statusWritesInFlight(NAMESPACE).get(), is(0));
+
+        // The failed status is not retried by the next flush
+        statusWriter.flush();
+        assertThat(written.size(), is(2));
+    }
+
+    @Test
+    void shouldCancelTheWritesWhenInterrupted() throws InterruptedException {
+        statusWriter = new TopicStatusWriter(kubeClient, metrics, NAMESPACE, false, 2);
+        CountDownLatch writing = new CountDownLatch(2);
+        CountDownLatch interruptedWrites = new CountDownLatch(2);
+        updateStatus = kt -> {
+            writing.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interruptedWrites.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return kt;
+        };
+
+        statusWriter.add(reconcilableTopic("topic-a", "first"));
+        statusWriter.add(reconcilableTopic("topic-b", "first"));
+
+        AtomicReference<Throwable> flushResult = new AtomicReference<>();
+        Thread flushing = new Thread(() -> {
+            try {
+                statusWriter.flush();
+            } catch (Throwable e) {
+                flushResult.set(e);
+            }
+        });
+        flushing.start();
+
+        assertThat(writing.await(10, TimeUnit.SECONDS), is(true));
+        flushing.interrupt();
+        flushing.join(10_000);
+
+        assertThat(flushing.isAlive(), is(false));
+        assertThat(flushResult.get(), instanceOf(InterruptedException.class));
+        // The writes in progress are cancelled
+        assertThat(interruptedWrites.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void shouldLimitTheConcurrentWrites() throws InterruptedException {
+        statusWriter = new TopicStatusWriter(kubeClient, metrics, NAMESPACE, false, 2);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        CountDownLatch firstWrites = new CountDownLatch(2);
+        updateStatus = kt -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            try {
+                // The first two writes wait for each other, so they have to run at the same time
+                firstWrites.countDown();
+                firstWrites.await(10, TimeUnit.SECONDS);
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inProgress.decrementAndGet();
+            written.add(kt);
+            return kt;
+        };
+
+        for (int i = 0; i < 10; i++) {
+            statusWriter.add(reconcilableTopic("topic-" + i, "first"));
+        }
+        statusWriter.flush();
+
+        assertThat(written.size(), is(10));
+        assertThat(firstWrites.getCount(), is(0L));
+        // The writes run concurrently, but never more than the configured maximum
+        assertThat(maxInProgress.get(), is(2));
+        assertThat(metrics.statusWritesInFlight(NAMESPACE).get(), is(0));
+    }
+}
@@ -16,6 +16,9 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.strimzi.certs.BouncyCastleCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
@@ -26,6 +29,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.auth.PemAuthIdentity;
 import io.strimzi.operator.common.auth.PemTrustSet;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
+import io.strimzi.operator.common.metrics.KeyPairPoolMetrics;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
@@ -82,18 +86,18 @@ public class Main {
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
 
+        MetricsProvider metricsProvider = createMetricsProvider();
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                createCertManager(config, metricsProvider),
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider) : new DisabledSimpleAclOperator()
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -190,6 +194,26 @@ public class Main {
         return new MicrometerMetricsProvider(registry);
     }
 
+    /**
+     * Creates the certificate manager. When the in-JVM certificate manager is enabled, the keys for the new user
+     * certificates are taken from a pool of pre-generated key pairs.
+     *
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider used to register the key pair pool metrics
+     *
+     * @return  Certificate manager
+     */
+    private static CertManager createCertManager(UserOperatorConfig config, MetricsProvider metricsProvider) {
+        if (config.featureGates().inJvmCertificateManagerEnabled()) {
+            KeyPairPool keyPairPool = new KeyPairPool(config.getCertificateKeyAlgorithm(), config.getCertificateKeyPoolSize());
+            new KeyPairPoolMetrics(keyPairPool).bindTo(metricsProvider.meterRegistry());
+
+            return new BouncyCastleCertManager(keyPairPool);
+        } else {
+            return new OpenSslCertManager();
+        }
+    }
+
     private static class OperatorWorkThreadFactory implements ThreadFactory {
         private final AtomicInteger threadCounter = new AtomicInteger(0);
 
@@ -280,7 +280,7 @@ public class UserController implements Liveness, Readiness {
 
             try {
                 Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), "timer")));
+                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), ControllerQueue.TIMER_TRIGGER)));
             } catch (TimeoutException e)    {
                 LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, watchedNamespace, e);
                 allUsersFuture.toCompletableFuture().cancel(true);
@@ -96,9 +96,11 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation succeeded. False if it failed and should be retried.
      */
     @Override
-    protected void reconcile(Reconciliation reconciliation) {
+    protected boolean reconcile(Reconciliation reconciliation) {
         LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
 
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
@@ -109,11 +111,14 @@ public class UserControllerLoop extends AbstractControllerLoop {
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
             maybeUpdateStatus(reconciliation, user, status);
+            return true;
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
                     .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
 
+            boolean succeeded = false;
+
             try {
                 KafkaUserStatus status = new KafkaUserStatus();
                 Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
@@ -122,6 +127,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                     status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
                     LOGGER.infoCr(reconciliation, "reconciled");
                     metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+                    succeeded = true;
                 } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
                     // The reconciliation failed (these are returned from the get(...) call)
                     LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
@@ -140,7 +146,10 @@ public class UserControllerLoop extends AbstractControllerLoop {
             } catch (Throwable t) {
                 // Updating status failed
                 LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                succeeded = false;
             }
+
+            return succeeded;
         }
     }
 
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.config.ConfigParameter;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -17,12 +18,14 @@ import java.util.Set;
 
 import static io.strimzi.operator.common.config.ConfigParameterParser.BOOLEAN;
 import static io.strimzi.operator.common.config.ConfigParameterParser.INTEGER;
+import static io.strimzi.operator.common.config.ConfigParameterParser.KEY_ALGORITHM;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.PROPERTIES;
 import static io.strimzi.operator.common.config.ConfigParameterParser.SEMICOLON_SEPARATED_LIST;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.config.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
 import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
@@ -133,6 +136,18 @@ public class UserOperatorConfig {
      * Configuration string with feature gates settings
      */
     public static final ConfigParameter<FeatureGates> FEATURE_GATES = new ConfigParameter<>("STRIMZI_FEATURE_GATES", parseFeatureGates(), "", CONFIG_VALUES);
+    /**
+     * Indicates whether the ACL cache should be refreshed with a separate request for each resource type
+     */
+    public static final ConfigParameter<Boolean> ACLS_CACHE_PAGED_REFRESH = new ConfigParameter<>("STRIMZI_ACLS_CACHE_PAGED_REFRESH", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Number of pre-generated key pairs kept for issuing new user certificates (used only with the in-JVM certificate manager)
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_KEY_POOL_SIZE = new ConfigParameter<>("STRIMZI_CERTIFICATE_KEY_POOL_SIZE", nonNegative(INTEGER), "0", CONFIG_VALUES);
+    /**
+     * Algorithm of the keys used for the user certificates (used only with the in-JVM certificate manager)
+     */
+    public static final ConfigParameter<KeyAlgorithm> CERTIFICATE_KEY_ALGORITHM = new ConfigParameter<>("STRIMZI_CERTIFICATE_KEY_ALGORITHM", KEY_ALGORITHM, "RSA", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -372,6 +387,27 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return Indicates whether the ACL cache should be refreshed with a separate request for each resource type
+     */
+    public boolean isAclsCachePagedRefresh() {
+        return get(ACLS_CACHE_PAGED_REFRESH);
+    }
+
+    /**
+     * @return The number of pre-generated key pairs kept for issuing new user certificates
+     */
+    public int getCertificateKeyPoolSize() {
+        return get(CERTIFICATE_KEY_POOL_SIZE);
+    }
+
+    /**
+     * @return The algorithm of the keys used for the user certificates
+     */
+    public KeyAlgorithm getCertificateKeyAlgorithm() {
+        return get(CERTIFICATE_KEY_ALGORITHM);
+    }
+
     /**
      * @return  Feature gates configuration
      */
@@ -402,10 +438,13 @@ public class UserOperatorConfig {
                 "\n\tworkQueueSize=" + getWorkQueueSize() +
                 "\n\tcontrollerThreadPoolSize=" + getControllerThreadPoolSize() +
                 "\n\tcacheRefresh=" + getCacheRefresh() +
+                "\n\taclsCachePagedRefresh=" + isAclsCachePagedRefresh() +
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tcertificateKeyPoolSize=" + getCertificateKeyPoolSize() +
+                "\n\tcertificateKeyAlgorithm=" + getCertificateKeyAlgorithm() +
                 "\n\tfeatureGates='" + featureGates() + "'" +
                 '}';
     }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -12,6 +13,7 @@ import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
 import io.strimzi.operator.user.operator.batching.QuotasBatchReconciler;
+import io.strimzi.operator.user.operator.cache.CacheMetrics;
 import io.strimzi.operator.user.operator.cache.QuotasCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
@@ -42,12 +44,14 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param metricsProvider Metrics provider used to register the cache metrics
      */
-    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
         this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
+        new CacheMetrics(cache).bindTo(metricsProvider.meterRegistry());
 
         // Create micro-batching reconcilers for managing the quotas
         this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -13,6 +14,7 @@ import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.batching.AddAclsBatchReconciler;
 import io.strimzi.operator.user.operator.batching.DeleteAclsBatchReconciler;
 import io.strimzi.operator.user.operator.cache.AclCache;
+import io.strimzi.operator.user.operator.cache.CacheMetrics;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -48,16 +50,19 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param metricsProvider Metrics provider used to register the cache metrics
      */
-    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getCacheRefresh(), config.isAclsCachePagedRefresh());
+        new CacheMetrics(cache).bindTo(metricsProvider.meterRegistry());
 
-        // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        // Create micro-batching reconcilers for managing the ACLs. They update the cache with the ACLs they create or
+        // delete as soon as Kafka confirms the change.
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, cache, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, cache, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
     }
 
     /**
@@ -6,7 +6,9 @@ package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.AdminApiOperator;
+import io.strimzi.operator.user.operator.cache.AclCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.CreateAclsResult;
 import org.apache.kafka.common.KafkaFuture;
@@ -25,6 +27,7 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AddAclsBatchReconciler.class);
 
     private final Admin adminClient;
+    private final AclCache cache;
 
     /**
      * Creates the micro-batching reconciler for creating new ACL rules
@@ -35,8 +38,23 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
      */
     public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
+        this(adminClient, null, queueSize, maxBatchSize, maxBatchTime);
+    }
+
+    /**
+     * Creates the micro-batching reconciler for creating new ACL rules which updates the ACL cache with the created
+     * ACL rules
+     *
+     * @param adminClient   Kafka Admin API client
+     * @param cache         ACL cache which should be updated with the created ACL rules or null if no cache should be updated
+     * @param queueSize     Maximal size of the batching queue
+     * @param maxBatchSize  Maximal size of the batch
+     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     */
+    public AddAclsBatchReconciler(Admin adminClient, AclCache cache, int queueSize, int maxBatchSize, int maxBatchTime) {
         super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
         this.adminClient = adminClient;
+        this.cache = cache;
     }
 
     /**
@@ -63,6 +81,7 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
                         items.forEach(req -> {
                             final String principal = "User:" + req.username();
                             AtomicBoolean failed = new AtomicBoolean(false);
+                            List<SimpleAclRule> created = new ArrayList<>();
 
                             perItemResults.forEach((binding, fut) -> {
                                 // We have to loop through the results to find results affecting our principal => these are the results related to our batch
@@ -83,6 +102,7 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
                                         failed.set(true);
                                     } else if (fut.isDone()) {
                                         LOGGER.debugCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} succeeded", req.username(), binding);
+                                        created.add(SimpleAclRule.fromAclBinding(binding));
                                     } else {
                                         LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} ended in unknown state", req.username(), binding);
                                         failed.set(true);
@@ -90,6 +110,11 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
                                 }
                             });
 
+                            if (cache != null && !created.isEmpty()) {
+                                // Update the cache right away => even when some of the ACLs failed, the cache reflects the ACLs which were created
+                                cache.addAclRules(req.username(), created);
+                            }
+
                             if (failed.get()) {
                                 req.result().completeExceptionally(new RuntimeException("ACL creation failed"));
                             } else {
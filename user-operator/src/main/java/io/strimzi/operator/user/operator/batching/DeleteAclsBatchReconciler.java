@@ -6,7 +6,9 @@ package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.AdminApiOperator;
+import io.strimzi.operator.user.operator.cache.AclCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
@@ -25,6 +27,7 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(DeleteAclsBatchReconciler.class);
 
     private final Admin adminClient;
+    private final AclCache cache;
 
     /**
      * Creates the micro-batching reconciler for deleting ACL rules
@@ -35,8 +38,23 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
      */
     public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
+        this(adminClient, null, queueSize, maxBatchSize, maxBatchTime);
+    }
+
+    /**
+     * Creates the micro-batching reconciler for deleting ACL rules which removes the deleted ACL rules from the ACL
+     * cache
+     *
+     * @param adminClient   Kafka Admin API client
+     * @param cache         ACL cache from which the deleted ACL rules should be removed or null if no cache should be updated
+     * @param queueSize     Maximal size of the batching queue
+     * @param maxBatchSize  Maximal size of the batch
+     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     */
+    public DeleteAclsBatchReconciler(Admin adminClient, AclCache cache, int queueSize, int maxBatchSize, int maxBatchTime) {
         super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
         this.adminClient = adminClient;
+        this.cache = cache;
     }
 
     /**
@@ -63,6 +81,7 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
                         items.forEach(req -> {
                             final String principal = "User:" + req.username();
                             AtomicBoolean failed = new AtomicBoolean(false);
+                            List<SimpleAclRule> deleted = new ArrayList<>();
 
                             perItemResults.forEach((filter, fut) -> {
                                 // We have to loop through the results to find results affecting our principal => these are the results related to our batch
@@ -76,6 +95,8 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
                                                     if (filterResult.exception() != null)   {
                                                         LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, filterResult.exception());
                                                         failed.set(true);
+                                                    } else if (filterResult.binding() != null) {
+                                                        deleted.add(SimpleAclRule.fromAclBinding(filterResult.binding()));
                                                     }
                                                 });
                                             }
@@ -93,6 +114,11 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
                                 }
                             });
 
+                            if (cache != null && !deleted.isEmpty()) {
+                                // Update the cache right away => even when some of the ACLs failed, the cache reflects the ACLs which were deleted
+                                cache.removeAclRules(req.username(), deleted);
+                            }
+
                             if (failed.get()) {
                                 req.result().completeExceptionally(new RuntimeException("ACL deletion failed"));
                             } else {
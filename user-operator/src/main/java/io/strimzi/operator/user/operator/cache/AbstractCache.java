@@ -8,22 +8,34 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
  * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ *
+ * The periodical refresh does not replace the whole map. Instead, the freshly loaded data are compared with the cached
+ * data and only the changed keys are updated or removed. Keys which were updated locally (through the put, remove or
+ * update methods) after the refresh started are skipped, because the loaded data might not include these changes yet.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
 
+    private final String name;
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
+    // Time (System.nanoTime()) of the last local update of given key
+    private final ConcurrentHashMap<String, Long> localUpdates = new ConcurrentHashMap<>();
 
     private volatile ConcurrentHashMap<String, T> cache = null;
+    private volatile long lastRefreshDurationMs = 0L;
+    private volatile long lastRefreshTimestampMs = -1L;
 
     /**
      * Constructs the abstract cache
@@ -32,6 +44,7 @@ public abstract class AbstractCache<T> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AbstractCache(String name, long refreshIntervalMs) {
+        this.name = name;
         this.refreshIntervalMs = refreshIntervalMs;
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
     }
@@ -80,10 +93,33 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
+            markLocalUpdate(key);
             cache.put(key, value);
         }
     }
 
+    /**
+     * Atomically updates a record in the cache. The update function gets the current value (or null if the key is not
+     * in the cache) and returns the new value. When it returns null, the key is removed from the cache. The update
+     * function should not modify the current value, but create a new one.
+     *
+     * Unlike the other methods, this method does not fail when the cache is not ready. The update is ignored in such
+     * case because the complete data will be loaded once the cache is ready.
+     *
+     * @param key       Key which should be updated
+     * @param update    Function calculating the new value from the current value
+     */
+    public void update(String key, UnaryOperator<T> update)  {
+        ConcurrentHashMap<String, T> current = cache;
+
+        if (current == null)  {
+            LOGGER.debug("{} is not ready, ignoring update of {}", this.getClass().getSimpleName(), key);
+        } else {
+            markLocalUpdate(key);
+            current.compute(key, (k, value) -> update.apply(value));
+        }
+    }
+
     /**
      * Removes the key from the cache
      *
@@ -93,6 +129,7 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
+            markLocalUpdate(key);
             cache.remove(key);
         }
     }
@@ -110,6 +147,36 @@ public abstract class AbstractCache<T> {
         }
     }
 
+    /**
+     * @return  Name of the cache
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return  Number of keys in the cache or 0 if the cache is not ready
+     */
+    public int size() {
+        ConcurrentHashMap<String, T> current = cache;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * @return  Duration of the last successful refresh in milliseconds
+     */
+    public long lastRefreshDurationMs() {
+        return lastRefreshDurationMs;
+    }
+
+    /**
+     * @return  Number of milliseconds since the last successful refresh or -1 if the cache was not loaded yet
+     */
+    public long stalenessMs() {
+        long lastRefresh = lastRefreshTimestampMs;
+        return lastRefresh >= 0 ? System.currentTimeMillis() - lastRefresh : -1L;
+    }
+
     /**
      * Starts the cache: this method schedules a time which will periodically refresh the cache
      */
@@ -141,13 +208,65 @@ public abstract class AbstractCache<T> {
      * Called periodically to update the cache
      */
     private void updateCache()  {
+        long refreshStart = System.nanoTime();
+
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
-            LOGGER.debug("{} updated", this.getClass().getSimpleName());
+            ConcurrentHashMap<String, T> latest = loadCache();
+            ConcurrentHashMap<String, T> current = cache;
+
+            if (current == null) {
+                cache = latest;
+            } else {
+                applyChanges(current, latest, refreshStart);
+            }
+
+            // Local updates done before the refresh started are already included in the loaded data
+            localUpdates.values().removeIf(updated -> updated - refreshStart < 0);
+
+            lastRefreshDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - refreshStart);
+            lastRefreshTimestampMs = System.currentTimeMillis();
+            LOGGER.debug("{} updated in {} ms", this.getClass().getSimpleName(), lastRefreshDurationMs);
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
             cache = null; // Reset the cache
+            localUpdates.clear();
+        }
+    }
+
+    /**
+     * Updates the cache in place to match the latest data. Only the keys with changed values are updated.
+     *
+     * @param current       The map used as the cache
+     * @param latest        The map with the latest loaded data
+     * @param refreshStart  Time when the refresh started (from System.nanoTime())
+     */
+    private void applyChanges(ConcurrentHashMap<String, T> current, Map<String, T> latest, long refreshStart)   {
+        for (Map.Entry<String, T> entry : latest.entrySet()) {
+            if (!Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+                // The check is done inside compute to not race with the local updates
+                current.compute(entry.getKey(), (key, value) -> isUpdatedLocallySince(key, refreshStart) ? value : entry.getValue());
+            }
+        }
+
+        for (String key : current.keySet()) {
+            if (!latest.containsKey(key)) {
+                current.computeIfPresent(key, (k, value) -> isUpdatedLocallySince(k, refreshStart) ? value : null);
+            }
         }
     }
+
+    /**
+     * Records the local update of a key. This has to be done before the cache is updated.
+     *
+     * @param key   The updated key
+     */
+    private void markLocalUpdate(String key) {
+        localUpdates.put(key, System.nanoTime());
+    }
+
+    private boolean isUpdatedLocallySince(String key, long since) {
+        Long updated = localUpdates.get(key);
+        return updated != null && updated - since >= 0;
+    }
 }
@@ -6,16 +6,21 @@ package io.strimzi.operator.user.operator.cache;
 
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -28,7 +33,13 @@ import java.util.concurrent.TimeoutException;
 public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
+    /**
+     * Resource types used to load the ACLs page by page in the paged mode
+     */
+    /*test*/ static final Set<ResourceType> PAGED_RESOURCE_TYPES = EnumSet.complementOf(EnumSet.of(ResourceType.ANY, ResourceType.UNKNOWN));
+
     private final Admin adminClient;
+    private final boolean pagedRefresh;
 
     /**
      * Constructs the ACL cache
@@ -37,8 +48,56 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AclCache(Admin adminClient, long refreshIntervalMs) {
+        this(adminClient, refreshIntervalMs, false);
+    }
+
+    /**
+     * Constructs the ACL cache
+     *
+     * @param adminClient           Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param pagedRefresh          When true, the ACLs are loaded with a separate request for each resource type
+     *                              instead of a single request for all ACLs. This keeps the size of the individual
+     *                              responses smaller in clusters with many ACLs.
+     */
+    public AclCache(Admin adminClient, long refreshIntervalMs, boolean pagedRefresh) {
         super("ACL", refreshIntervalMs);
         this.adminClient = adminClient;
+        this.pagedRefresh = pagedRefresh;
+    }
+
+    /**
+     * Adds ACL rules to the cached ACLs of given user. This is used to reflect the ACLs created in Kafka in the cache
+     * without waiting for the next refresh.
+     *
+     * @param username  Name of the user
+     * @param rules     ACL rules which were created
+     */
+    public void addAclRules(String username, Collection<SimpleAclRule> rules)  {
+        update(username, current -> {
+            Set<SimpleAclRule> updated = current != null ? new HashSet<>(current) : new HashSet<>(rules.size());
+            updated.addAll(rules);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes ACL rules from the cached ACLs of given user. This is used to reflect the ACLs deleted in Kafka in the
+     * cache without waiting for the next refresh.
+     *
+     * @param username  Name of the user
+     * @param rules     ACL rules which were deleted
+     */
+    public void removeAclRules(String username, Collection<SimpleAclRule> rules)  {
+        update(username, current -> {
+            if (current == null)    {
+                return null;
+            }
+
+            Set<SimpleAclRule> updated = new HashSet<>(current);
+            updated.removeAll(rules);
+            return updated.isEmpty() ? null : updated;
+        });
     }
 
     /**
@@ -48,27 +107,45 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      */
     @Override
     protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
-        KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
-
         try {
-            Collection<AclBinding> aclsBindings = futureAcls.get(1, TimeUnit.MINUTES);
-            // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
-            // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
-            // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
-
-            for (AclBinding aclBinding : aclsBindings) {
-                KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+            if (pagedRefresh)   {
+                ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>();
 
-                if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                for (ResourceType resourceType : PAGED_RESOURCE_TYPES) {
+                    AclBindingFilter filter = new AclBindingFilter(new ResourcePatternFilter(resourceType, null, PatternType.ANY), AccessControlEntryFilter.ANY);
+                    addAclBindings(map, adminClient.describeAcls(filter).values().get(1, TimeUnit.MINUTES));
                 }
-            }
 
-            return map;
+                return map;
+            } else {
+                Collection<AclBinding> aclsBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get(1, TimeUnit.MINUTES);
+                // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
+                // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
+                // initial size than Java's default
+                ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+                addAclBindings(map, aclsBindings);
+
+                return map;
+            }
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOGGER.warn("Failed to load ACLs", e);
             throw new RuntimeException("Failed to load ACLs", e);
         }
     }
+
+    /**
+     * Adds the ACL bindings which belong to users to the map
+     *
+     * @param map           Map with users and their ACLs
+     * @param aclBindings   ACL bindings which should be added
+     */
+    private static void addAclBindings(Map<String, Set<SimpleAclRule>> map, Collection<AclBinding> aclBindings)  {
+        for (AclBinding aclBinding : aclBindings) {
+            KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+            if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+            }
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the metrics describing the state of a cache: its size, how long the last refresh took and how long ago the
+ * cache was last refreshed.
+ */
+public class CacheMetrics implements MeterBinder {
+    /**
+     * Metric name for the number of keys in the cache
+     */
+    public static final String METRICS_CACHE_SIZE = MetricsHolder.METRICS_PREFIX + "cache.size";
+    /**
+     * Metric name for the duration of the last successful cache refresh
+     */
+    public static final String METRICS_CACHE_REFRESH_DURATION = MetricsHolder.METRICS_PREFIX + "cache.refresh.duration";
+    /**
+     * Metric name for the time since the last successful cache refresh
+     */
+    public static final String METRICS_CACHE_STALENESS = MetricsHolder.METRICS_PREFIX + "cache.staleness";
+
+    private final AbstractCache<?> cache;
+
+    /**
+     * Constructs the cache metrics
+     *
+     * @param cache     Cache for which the metrics should be bound
+     */
+    public CacheMetrics(AbstractCache<?> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("cache", cache.name().toLowerCase(Locale.ENGLISH));
+
+        Gauge.builder(METRICS_CACHE_SIZE, cache, AbstractCache::size)
+                .description("Number of users in the cache")
+                .tags(tags)
+                .register(registry);
+
+        TimeGauge.builder(METRICS_CACHE_REFRESH_DURATION, cache, TimeUnit.MILLISECONDS, AbstractCache::lastRefreshDurationMs)
+                .description("Duration of the last successful cache refresh")
+                .tags(tags)
+                .register(registry);
+
+        TimeGauge.builder(METRICS_CACHE_STALENESS, cache, TimeUnit.MILLISECONDS, CacheMetrics::staleness)
+                .description("Time since the last successful cache refresh")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static double staleness(AbstractCache<?> cache) {
+        long staleness = cache.stalenessMs();
+        // The cache was not loaded yet
+        return staleness >= 0 ? staleness : Double.NaN;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
@@ -163,6 +164,28 @@ public class UserOperatorConfigTest {
         assertThat(config.get(UserOperatorConfig.ACLS_ADMIN_API_SUPPORTED), is(Boolean.parseBoolean(UserOperatorConfig.ACLS_ADMIN_API_SUPPORTED.defaultValue())));
     }
 
+    @Test
+    public void testCertificateKeyPool()  {
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(ENV_VARS);
+        assertThat(config.getCertificateKeyPoolSize(), is(0));
+        assertThat(config.getCertificateKeyAlgorithm(), is(KeyAlgorithm.RSA));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.CERTIFICATE_KEY_POOL_SIZE.key(), "20");
+        envVars.put(UserOperatorConfig.CERTIFICATE_KEY_ALGORITHM.key(), "ec");
+
+        config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getCertificateKeyPoolSize(), is(20));
+        assertThat(config.getCertificateKeyAlgorithm(), is(KeyAlgorithm.EC));
+
+        envVars.put(UserOperatorConfig.CERTIFICATE_KEY_ALGORITHM.key(), "DSA");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+
+        envVars.put(UserOperatorConfig.CERTIFICATE_KEY_ALGORITHM.key(), "ec");
+        envVars.put(UserOperatorConfig.CERTIFICATE_KEY_POOL_SIZE.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testMaintenanceTimeWindows()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
@@ -6,7 +6,9 @@ package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.AdminApiOperator;
+import io.strimzi.operator.user.operator.cache.AclCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.CreateAclsResult;
 import org.apache.kafka.common.KafkaFuture;
@@ -35,7 +37,10 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AddAclsBatchReconcilerTest {
@@ -193,8 +198,11 @@ public class AddAclsBatchReconcilerTest {
         ArgumentCaptor<List<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(List.class);
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
+        // Mock cache
+        AclCache mockCache = mock(AclCache.class);
+
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, mockCache, 10, 5, 10);
         reconciler.start();
 
         try {
@@ -221,6 +229,11 @@ public class AddAclsBatchReconcilerTest {
             assertThat(aclBindingsCaptor.getAllValues().size(), is(1));
             assertThat(aclBindingsCaptor.getValue().size(), is(4));
             assertThat(aclBindingsCaptor.getValue(), hasItems(MY_USER_READ, MY_USER_WRITE, MY_USER_2_READ, MY_USER_2_WRITE));
+
+            // Test cache updates => only the created ACLs are added to the cache
+            verify(mockCache).addAclRules(eq("my-user"), argThat(rules -> rules.size() == 2
+                    && rules.containsAll(List.of(SimpleAclRule.fromAclBinding(MY_USER_READ), SimpleAclRule.fromAclBinding(MY_USER_WRITE)))));
+            verify(mockCache).addAclRules(eq("my-user2"), eq(List.of(SimpleAclRule.fromAclBinding(MY_USER_2_WRITE))));
         } finally {
             reconciler.stop();
         }
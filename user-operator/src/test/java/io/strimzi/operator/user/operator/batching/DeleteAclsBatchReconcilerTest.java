@@ -6,16 +6,21 @@ package io.strimzi.operator.user.operator.batching;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.AdminApiOperator;
+import io.strimzi.operator.user.operator.cache.AclCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.SecurityDisabledException;
 import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.jupiter.api.Test;
@@ -36,6 +41,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DeleteAclsBatchReconcilerTest {
@@ -217,4 +223,53 @@ public class DeleteAclsBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testCacheUpdate() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        // Mock result => the READ filter deleted an ACL binding, the WRITE filter failed
+        AclBinding myUserRead = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+
+        DeleteAclsResult.FilterResult readResult = mock(DeleteAclsResult.FilterResult.class);
+        when(readResult.binding()).thenReturn(myUserRead);
+        DeleteAclsResult.FilterResults readResults = mock(DeleteAclsResult.FilterResults.class);
+        when(readResults.values()).thenReturn(List.of(readResult));
+
+        DeleteAclsResult.FilterResult writeResult = mock(DeleteAclsResult.FilterResult.class);
+        when(writeResult.exception()).thenReturn(new SecurityDisabledException("Something failed"));
+        DeleteAclsResult.FilterResults writeResults = mock(DeleteAclsResult.FilterResults.class);
+        when(writeResults.values()).thenReturn(List.of(writeResult));
+
+        DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
+        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_READ, KafkaFuture.completedFuture(readResults), MY_USER_WRITE, KafkaFuture.completedFuture(writeResults)));
+
+        // Mock call
+        when(mockClient.deleteAcls(any())).thenReturn(mockResult);
+
+        // Mock cache
+        AclCache mockCache = mock(AclCache.class);
+
+        // Test
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, mockCache, 10, 5, 10);
+        reconciler.start();
+
+        try {
+            CompletableFuture<ReconcileResult<Collection<AclBindingFilter>>> myUserFuture = new CompletableFuture<>();
+            reconciler.enqueue(new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", List.of(MY_USER_READ, MY_USER_WRITE), myUserFuture));
+
+            ExecutionException myUserException = assertThrows(ExecutionException.class, () -> myUserFuture.get(1_000, TimeUnit.MILLISECONDS));
+            assertThat(myUserException.getCause().getMessage(), is("ACL deletion failed"));
+
+            // Only the deleted ACL binding is removed from the cache
+            verify(mockCache).removeAclRules("my-user", List.of(SimpleAclRule.fromAclBinding(myUserRead)));
+        } finally {
+            reconciler.stop();
+        }
+    }
 }
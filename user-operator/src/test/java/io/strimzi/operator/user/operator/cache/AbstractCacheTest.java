@@ -7,19 +7,24 @@ package io.strimzi.operator.user.operator.cache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class AbstractCacheTest {
     private CountDownLatch reload;
 
     @Test
     public void testCache() throws InterruptedException {
-        reload = new CountDownLatch(2);
+        // The latch is counted down when the data are loaded, before they are applied to the cache. Waiting for the
+        // third load makes sure that the first periodic refresh was fully applied.
+        reload = new CountDownLatch(3);
 
         AbstractCache<Boolean> cache = new TestCache();
 
@@ -71,6 +76,97 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testRefreshKeepsLocalUpdates() throws InterruptedException {
+        CountDownLatch secondLoadStarted = new CountDownLatch(1);
+        CountDownLatch secondLoadProceed = new CountDownLatch(1);
+        CountDownLatch thirdLoadStarted = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger(0);
+
+        AbstractCache<Boolean> cache = new AbstractCache<>("Test", 100L) {
+            @Override
+            protected ConcurrentHashMap<String, Boolean> loadCache() {
+                ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>();
+
+                try {
+                    switch (loads.incrementAndGet()) {
+                        case 1:
+                            map.put("one", Boolean.TRUE);
+                            map.put("two", Boolean.TRUE);
+                            map.put("three", Boolean.TRUE);
+                            break;
+                        case 2:
+                            // Data loaded from Kafka before the local update of "one"
+                            secondLoadStarted.countDown();
+                            secondLoadProceed.await();
+                            map.put("one", Boolean.TRUE);
+                            map.put("two", Boolean.TRUE);
+                            map.put("four", Boolean.TRUE);
+                            break;
+                        default:
+                            // Block the next refresh to check the state after the second refresh
+                            thirdLoadStarted.countDown();
+                            new CountDownLatch(1).await();
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                return map;
+            }
+        };
+
+        try {
+            cache.start();
+
+            assertThat(cache.size(), is(3));
+            assertThat(cache.stalenessMs(), is(greaterThanOrEqualTo(0L)));
+
+            secondLoadStarted.await();
+            cache.put("one", false);
+            secondLoadProceed.countDown();
+            thirdLoadStarted.await();
+
+            // The local update done during the refresh was kept
+            assertThat(cache.get("one"), is(false));
+            // Other changes were applied
+            assertThat(cache.get("two"), is(true));
+            assertThat(cache.get("three"), is(nullValue()));
+            assertThat(cache.get("four"), is(true));
+            assertThat(cache.size(), is(3));
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void testUpdate() {
+        AbstractCache<Boolean> cache = new AbstractCache<>("Test", 60_000L) {
+            @Override
+            protected ConcurrentHashMap<String, Boolean> loadCache() {
+                return new ConcurrentHashMap<>(Map.of("one", true, "two", true, "three", true));
+            }
+        };
+
+        // Updates are ignored when the cache is not ready
+        cache.update("one", current -> false);
+
+        cache.start();
+
+        try {
+            cache.update("one", current -> !current);
+            cache.update("two", current -> null);
+            cache.update("four", current -> current == null);
+
+            assertThat(cache.get("one"), is(false));
+            assertThat(cache.get("two"), is(nullValue()));
+            assertThat(cache.get("three"), is(true));
+            assertThat(cache.get("four"), is(true));
+        } finally {
+            cache.stop();
+        }
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
             super("Test", 100L);
@@ -21,10 +21,12 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -119,4 +121,95 @@ public class AclCacheTest {
             cache.stop();
         }
     }
+
+    @Test
+    public void testPagedRefresh() throws InterruptedException, ExecutionException, TimeoutException {
+        AclBinding myUserTopicRead = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+        AclBinding myUserGroupRead = new AclBinding(
+                new ResourcePattern(ResourceType.GROUP, "my-group", PatternType.PREFIXED),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+
+        // Mock Admin client returning the ACLs based on the resource type in the filter
+        Admin mockClient = mock(Admin.class);
+        ArgumentCaptor<AclBindingFilter> aclBindingsFilterCaptor = ArgumentCaptor.forClass(AclBindingFilter.class);
+        when(mockClient.describeAcls(aclBindingsFilterCaptor.capture())).thenAnswer(i -> {
+            AclBindingFilter filter = i.getArgument(0);
+            KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+
+            switch (filter.patternFilter().resourceType()) {
+                case TOPIC -> when(mockFuture.get(anyLong(), any())).thenReturn(List.of(myUserTopicRead));
+                case GROUP -> when(mockFuture.get(anyLong(), any())).thenReturn(List.of(myUserGroupRead));
+                default -> when(mockFuture.get(anyLong(), any())).thenReturn(List.of());
+            }
+
+            DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+            when(mockResult.values()).thenReturn(mockFuture);
+            return mockResult;
+        });
+
+        AclCache cache = new AclCache(mockClient, 60_000, true);
+
+        try {
+            cache.start();
+
+            assertThat(cache.get("my-user"), is(Set.of(SimpleAclRule.fromAclBinding(myUserTopicRead), SimpleAclRule.fromAclBinding(myUserGroupRead))));
+
+            // One request per resource type
+            assertThat(aclBindingsFilterCaptor.getAllValues().size(), is(AclCache.PAGED_RESOURCE_TYPES.size()));
+            assertThat(aclBindingsFilterCaptor.getAllValues().stream().map(f -> f.patternFilter().resourceType()).collect(Collectors.toSet()), is(AclCache.PAGED_RESOURCE_TYPES));
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void testAddAndRemoveAclRules() throws InterruptedException, ExecutionException, TimeoutException {
+        SimpleAclRule read = SimpleAclRule.fromAclBinding(new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        ));
+        SimpleAclRule write = SimpleAclRule.fromAclBinding(new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.WRITE, AclPermissionType.ALLOW)
+        ));
+
+        // Mock Admin client with no ACLs
+        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+        when(mockFuture.get(anyLong(), any())).thenReturn(List.of());
+        DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+        when(mockResult.values()).thenReturn(mockFuture);
+        Admin mockClient = mock(Admin.class);
+        when(mockClient.describeAcls(any())).thenReturn(mockResult);
+
+        AclCache cache = new AclCache(mockClient, 60_000);
+
+        try {
+            cache.start();
+
+            cache.addAclRules("my-user", List.of(read));
+            Set<SimpleAclRule> afterFirstAdd = cache.get("my-user");
+            assertThat(afterFirstAdd, is(Set.of(read)));
+
+            cache.addAclRules("my-user", List.of(write));
+            assertThat(cache.get("my-user"), is(Set.of(read, write)));
+            // The previous value is not modified
+            assertThat(afterFirstAdd, is(Set.of(read)));
+
+            cache.removeAclRules("my-user", List.of(read));
+            assertThat(cache.get("my-user"), is(Set.of(write)));
+
+            // User without any ACLs is removed from the cache
+            cache.removeAclRules("my-user", List.of(write));
+            assertThat(cache.get("my-user"), is(nullValue()));
+
+            cache.removeAclRules("other-user", List.of(write));
+            assertThat(cache.get("other-user"), is(nullValue()));
+        } finally {
+            cache.stop();
+        }
+    }
 }